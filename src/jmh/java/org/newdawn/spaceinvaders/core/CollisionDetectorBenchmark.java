@@ -0,0 +1,67 @@
+package org.newdawn.spaceinvaders.core;
+
+import org.newdawn.spaceinvaders.data.PlayerData;
+import org.newdawn.spaceinvaders.entity.Enemy.AlienEntity;
+import org.newdawn.spaceinvaders.entity.Entity;
+import org.newdawn.spaceinvaders.entity.MovementPattern;
+import org.newdawn.spaceinvaders.entity.Projectile.ProjectileType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CollisionDetector#checkCollisions(List)}의 엔티티 수별 비용을 측정합니다.
+ * 엔티티의 절반은 죽지 않는 외계인, 절반은 플레이어 발사체이며 플레이 영역에 고르게 흩어져 있습니다.
+ * 반복(iteration)마다 월드를 새로 만들어, 이미 충돌로 사용된 발사체가 결과를 왜곡하지 않도록 합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollisionDetectorBenchmark {
+
+    @Param({"50", "200", "1000"})
+    private int entityCount;
+
+    private CollisionDetector detector;
+    private List<Entity> entities;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        GameManager gameManager = new HeadlessGameFactory(new PlayerData(), 1L).createGame();
+        Random random = new Random(1L);
+        detector = new CollisionDetector();
+        entities = new ArrayList<>(entityCount);
+        for (int i = 0; i < entityCount; i++) {
+            int x = random.nextInt(Game.GAME_WIDTH - 40);
+            int y = random.nextInt(Game.GAME_HEIGHT - 40);
+            if (i % 2 == 0) {
+                entities.add(new AlienEntity(gameManager, x, y, Integer.MAX_VALUE, MovementPattern.STATIC));
+            } else {
+                entities.add(gameManager.getEntityPool().acquireProjectile(ProjectileType.PLAYER_SHOT, 1, x, y, 0, -300));
+            }
+        }
+    }
+
+    @Benchmark
+    public List<Entity> checkCollisions() {
+        detector.checkCollisions(entities);
+        return entities;
+    }
+}
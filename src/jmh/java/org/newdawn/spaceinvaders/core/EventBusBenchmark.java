@@ -0,0 +1,55 @@
+package org.newdawn.spaceinvaders.core;
+
+import org.newdawn.spaceinvaders.core.events.AlienKilledEvent;
+import org.newdawn.spaceinvaders.core.events.Event;
+import org.newdawn.spaceinvaders.core.events.PlayerDiedEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link EventBus#publish(Event)}로 큐에 넣은 이벤트를 {@link EventBus#dispatchPending()}으로
+ * 구독자 수에 따라 전달하는 비용을 측정합니다. 다른 이벤트 클래스의 구독자는 전달 비용에 영향을 주지 않아야 합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventBusBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int listenerCount;
+
+    private EventBus eventBus;
+    private Blackhole blackhole;
+    private final Event event = AlienKilledEvent.INSTANCE;
+
+    @Setup
+    public void setUp(Blackhole blackhole) {
+        this.blackhole = blackhole;
+        eventBus = new EventBus();
+        for (int i = 0; i < listenerCount; i++) {
+            eventBus.subscribe(AlienKilledEvent.class, e -> this.blackhole.consume(e));
+            eventBus.subscribe(PlayerDiedEvent.class, e -> this.blackhole.consume(e));
+        }
+    }
+
+    @Benchmark
+    public void publish() {
+        eventBus.publish(event);
+        eventBus.dispatchPending();
+    }
+}
@@ -0,0 +1,66 @@
+package org.newdawn.spaceinvaders.data;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link LocalDataStore}의 저장과 불러오기 비용을 측정합니다.
+ * Firestore 구현은 네트워크가 필요하므로 여기서 측정하지 않으며, 게임 실행 중 {@link DatabaseManager}가 남기는 소요 시간 로그와 비교합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LocalDataStoreBenchmark {
+
+    private Path file;
+    private LocalDataStore store;
+    private String uid;
+    private PlayerData playerData;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = Files.createTempFile("local-store", ".log");
+        store = LocalDataStore.open(file);
+        uid = store.create("benchmark", "hash");
+        playerData = new PlayerData();
+        playerData.setEquippedWeapon("Shotgun");
+        playerData.setUpgradeLevel("speed", 3);
+        playerData.setUpgradeLevel("fireRate", 2);
+        store.save(uid, playerData);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        store.close();
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        playerData.setCredit(playerData.getCredit() + 1);
+        store.save(uid, playerData);
+    }
+
+    @Benchmark
+    public PlayerData load() {
+        return store.load(uid);
+    }
+}
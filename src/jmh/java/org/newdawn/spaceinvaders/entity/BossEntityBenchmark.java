@@ -0,0 +1,56 @@
+package org.newdawn.spaceinvaders.entity;
+
+import org.newdawn.spaceinvaders.core.GameManager;
+import org.newdawn.spaceinvaders.core.HeadlessGameFactory;
+import org.newdawn.spaceinvaders.data.PlayerData;
+import org.newdawn.spaceinvaders.entity.boss.HydraBossEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 보스의 커튼 패턴({@link BossEntity#fireCurtainPattern()})이 한 번에 수십 개의 발사체를 생성하는 비용을 측정합니다.
+ * 생성된 발사체는 같은 호출에서 제거되어 풀로 돌아가므로, 풀이 채워진 뒤의 정상 상태 비용이 측정됩니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BossEntityBenchmark {
+
+    private EntityManager entityManager;
+    private BossEntity boss;
+
+    @Setup
+    public void setUp() {
+        GameManager gameManager = new HeadlessGameFactory(new PlayerData(), 1L).createGame();
+        entityManager = gameManager.getEntityManager();
+        boss = new HydraBossEntity(gameManager, 200, 50, 1000);
+    }
+
+    @Benchmark
+    public int fireCurtainPattern() {
+        boss.fireCurtainPattern();
+        entityManager.cleanup();
+
+        List<Entity> spawned = entityManager.getEntities();
+        int count = spawned.size();
+        for (Entity entity : spawned) {
+            entityManager.removeEntity(entity);
+        }
+        entityManager.cleanup();
+        return count;
+    }
+}
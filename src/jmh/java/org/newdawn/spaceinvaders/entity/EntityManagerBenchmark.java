@@ -0,0 +1,68 @@
+package org.newdawn.spaceinvaders.entity;
+
+import org.newdawn.spaceinvaders.core.GameManager;
+import org.newdawn.spaceinvaders.core.HeadlessGameFactory;
+import org.newdawn.spaceinvaders.data.PlayerData;
+import org.newdawn.spaceinvaders.entity.Projectile.ProjectileType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 많은 엔티티가 한 프레임에 추가되고 제거될 때 {@link EntityManager#cleanup()}의 비용을 측정합니다.
+ * 매 호출마다 활성 엔티티 중 {@code churn}개를 제거하고 같은 수의 발사체를 풀에서 꺼내 추가하므로 활성 엔티티 수는 일정하게 유지됩니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityManagerBenchmark {
+
+    @Param({"500"})
+    private int entityCount;
+
+    @Param({"50", "250"})
+    private int churn;
+
+    private EntityManager entityManager;
+    private EntityPool pool;
+
+    @Setup
+    public void setUp() {
+        GameManager gameManager = new HeadlessGameFactory(new PlayerData(), 1L).createGame();
+        entityManager = gameManager.getEntityManager();
+        pool = entityManager.getEntityPool();
+        for (int i = 0; i < entityCount; i++) {
+            entityManager.addEntity(spawn(i));
+        }
+        entityManager.cleanup();
+    }
+
+    @Benchmark
+    public List<Entity> addAndRemove() {
+        List<Entity> entities = entityManager.getEntities();
+        for (int i = 0; i < churn; i++) {
+            entityManager.removeEntity(entities.get(i));
+            entityManager.addEntity(spawn(i));
+        }
+        entityManager.cleanup();
+        return entities;
+    }
+
+    private Entity spawn(int i) {
+        return pool.acquireProjectile(ProjectileType.PLAYER_SHOT, 1, (i * 7) % 480, (i * 13) % 580, 0, -300);
+    }
+}
@@ -0,0 +1,52 @@
+package org.newdawn.spaceinvaders.graphics;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SpriteStore#getSprite(String)}의 캐시 적중과 실패 비용을 측정합니다.
+ * 벤치마크는 화면 없이 실행되므로 캐시 실패 시에는 {@link MetadataSpriteLoader}가 리소스를 열고 크기를 읽는 비용을 측정합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpriteStoreBenchmark {
+
+    private static final String SPRITE = "sprites/ship.gif";
+
+    private SpriteStore store;
+    private SpriteLoader loader;
+
+    @Setup
+    public void setUp() {
+        store = SpriteStore.get();
+        loader = new MetadataSpriteLoader();
+        store.setLoader(loader);
+        store.getSprite(SPRITE);
+    }
+
+    @Benchmark
+    public Sprite hit() {
+        return store.getSprite(SPRITE);
+    }
+
+    @Benchmark
+    public Sprite miss() {
+        // 로더를 다시 설정하면 캐시가 비워집니다.
+        store.setLoader(loader);
+        return store.getSprite(SPRITE);
+    }
+}
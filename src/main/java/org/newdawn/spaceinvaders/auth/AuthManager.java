@@ -1,44 +1,94 @@
 package org.newdawn.spaceinvaders.auth;
 
-import com.google.api.core.ApiFuture;
-import com.google.cloud.firestore.CollectionReference;
-import com.google.cloud.firestore.DocumentSnapshot;
-import com.google.cloud.firestore.Firestore;
-import com.google.cloud.firestore.QuerySnapshot;
 import org.mindrot.jbcrypt.BCrypt;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * 사용자 인증(회원가입, 로그인)을 전문적으로 처리하는 클래스입니다.
- * Firestore 데이터베이스와 통신하며, jBCrypt를 사용하여 비밀번호를 해싱하고 검증하는 역할을 합니다.
+ * {@link UserRepository}에 저장된 계정을 조회하며, jBCrypt를 사용하여 비밀번호를 해싱하고 검증하는 역할을 합니다.
+ * <p>
+ * 저장소 조회와 BCrypt 해싱은 느리므로, UI에서는 백그라운드 스레드에서 실행되는 {@link #signInAsync(String, String)}과
+ * {@link #signUpAsync(String, String)}을 사용합니다. 같은 요청이 진행 중일 때 다시 요청하면 새 작업을 시작하지 않고
+ * 진행 중인 작업의 결과를 함께 받습니다.
  */
 public class AuthManager {
 
-    /** Firestore 'users' 컬렉션에서 사용자 이름을 나타내는 필드 키. */
-    private static final String USERNAME_KEY = "username";
-    /** Firestore 'users' 컬렉션에서 해시된 비밀번호를 나타내는 필드 키. */
-    private static final String HASHED_PASSWORD_KEY = "hashedPassword";
+    /** 인증 작업을 실행하는 백그라운드 스레드 수. */
+    private static final int WORKER_THREADS = 2;
 
-    /** Firestore 데이터베이스 인스턴스. */
-    private final Firestore db;
-    /** 'users' 컬렉션에 대한 참조. */
-    private final CollectionReference usersCollection;
+    /** 계정을 저장하는 저장소. */
+    private final UserRepository userRepository;
+    /** 인증 작업을 실행하는 백그라운드 스레드. */
+    private final ExecutorService executor;
+    /** 진행 중인 로그인 요청 (Key: 사용자 이름과 비밀번호). 이 객체로 동기화됩니다. */
+    private final Map<String, CompletableFuture<String>> pendingSignIns = new HashMap<>();
+    /** 진행 중인 회원가입 요청 (Key: 사용자 이름). 이 객체로 동기화됩니다. */
+    private final Map<String, CompletableFuture<Boolean>> pendingSignUps = new HashMap<>();
 
     /**
      * AuthManager 생성자.
-     * @param db Firestore 데이터베이스 인스턴스
+     * @param userRepository 계정을 저장하는 저장소
      */
-    public AuthManager(Firestore db) {
-        this.db = db;
-        this.usersCollection = db.collection("users");
+    public AuthManager(UserRepository userRepository) {
+        this.userRepository = userRepository;
+        this.executor = Executors.newFixedThreadPool(WORKER_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "AuthWorker");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 백그라운드 스레드에서 로그인을 수행합니다. 같은 사용자 이름과 비밀번호의 로그인이 진행 중이면 그 작업의 결과를 반환합니다.
+     *
+     * @param username 로그인할 사용자 이름
+     * @param password 로그인할 비밀번호
+     * @return 로그인 성공 시 사용자의 고유 ID(UID), 실패 시 null로 완료되는 future
+     */
+    public synchronized CompletableFuture<String> signInAsync(String username, String password) {
+        String key = username + '\0' + password;
+        CompletableFuture<String> pending = pendingSignIns.get(key);
+        if (pending != null) {
+            return pending;
+        }
+        CompletableFuture<String> future = CompletableFuture.supplyAsync(() -> signIn(username, password), executor);
+        pendingSignIns.put(key, future);
+        future.whenComplete((result, error) -> removePending(pendingSignIns, key));
+        return future;
+    }
+
+    /**
+     * 백그라운드 스레드에서 회원가입을 수행합니다. 같은 사용자 이름의 회원가입이 진행 중이면 그 작업의 결과를 반환합니다.
+     *
+     * @param username 가입할 사용자 이름
+     * @param password 가입할 비밀번호
+     * @return 가입 성공 여부로 완료되는 future
+     */
+    public synchronized CompletableFuture<Boolean> signUpAsync(String username, String password) {
+        CompletableFuture<Boolean> pending = pendingSignUps.get(username);
+        if (pending != null) {
+            return pending;
+        }
+        CompletableFuture<Boolean> future = CompletableFuture.supplyAsync(() -> signUp(username, password), executor);
+        pendingSignUps.put(username, future);
+        future.whenComplete((result, error) -> removePending(pendingSignUps, username));
+        return future;
+    }
+
+    private synchronized void removePending(Map<String, ?> pending, String key) {
+        pending.remove(key);
     }
 
     /**
      * 새로운 사용자를 등록(회원가입)합니다.
-     * 사용자 이름이 이미 존재하는지 확인하고, 비밀번호를 해싱하여 Firestore에 저장합니다.
+     * 비밀번호를 해싱하여 저장소에 저장하며, 사용자 이름의 중복 확인은 저장소가 생성과 함께 원자적으로 수행합니다.
+     * 이미 사용 중인 것이 확실한 이름은 비용이 큰 해싱 전에 거부합니다.
      *
      * @param username 가입할 사용자 이름
      * @param password 가입할 비밀번호
@@ -46,26 +96,20 @@ public class AuthManager {
      */
     public boolean signUp(String username, String password) {
         try {
-            // 사용자 이름이 이미 존재하는지 확인
-            ApiFuture<QuerySnapshot> future = usersCollection.whereEqualTo(USERNAME_KEY, username).get();
-            QuerySnapshot snapshot = future.get();
-            if (!snapshot.isEmpty()) {
+            if (userRepository.isTaken(username)) {
                 System.err.println("Username already exists.");
                 return false;
             }
 
-            // 비밀번호 해싱
+            // 비밀번호 해싱 후 새 계정 생성 (그 사이 같은 이름으로 가입되었으면 null)
             String hashedPassword = BCrypt.hashpw(password, BCrypt.gensalt());
-
-            // 새 사용자 문서 생성
-            Map<String, Object> user = new HashMap<>();
-            user.put(USERNAME_KEY, username);
-            user.put(HASHED_PASSWORD_KEY, hashedPassword);
-
-            usersCollection.add(user).get();
+            if (userRepository.create(username, hashedPassword) == null) {
+                System.err.println("Username already exists.");
+                return false;
+            }
             return true;
 
-        } catch (InterruptedException | ExecutionException e) {
+        } catch (IOException e) {
             e.printStackTrace();
             return false;
         }
@@ -73,38 +117,33 @@ public class AuthManager {
 
     /**
      * 사용자를 로그인(인증)합니다.
-     * 제공된 사용자 이름과 비밀번호를 데이터베이스의 기록과 비교하여 검증합니다.
+     * 제공된 사용자 이름과 비밀번호를 저장소의 기록과 비교하여 검증합니다.
      *
      * @param username 로그인할 사용자 이름
      * @param password 로그인할 비밀번호
-     * @return 로그인 성공 시 사용자의 고유 문서 ID(UID), 실패 시 null
+     * @return 로그인 성공 시 사용자의 고유 ID(UID), 실패 시 null
      */
     public String signIn(String username, String password) {
         try {
             // 사용자 이름으로 사용자 찾기
-            ApiFuture<QuerySnapshot> future = usersCollection.whereEqualTo(USERNAME_KEY, username).limit(1).get();
-            QuerySnapshot snapshot = future.get();
-
-            if (snapshot.isEmpty()) {
+            UserCredentials credentials = userRepository.findByUsername(username);
+            if (credentials == null) {
                 System.err.println("User not found.");
                 return null;
             }
 
-            // 사용자 문서 가져오기
-            DocumentSnapshot userDoc = snapshot.getDocuments().get(0);
-            String hashedPasswordFromDB = userDoc.getString(HASHED_PASSWORD_KEY);
-
             // 비밀번호 확인
+            String hashedPasswordFromDB = credentials.getHashedPassword();
             if (hashedPasswordFromDB != null && BCrypt.checkpw(password, hashedPasswordFromDB)) {
-                return userDoc.getId();
+                return credentials.getUid();
             } else {
                 System.err.println("Incorrect password.");
                 return null;
             }
 
-        } catch (InterruptedException | ExecutionException e) {
+        } catch (IOException e) {
             e.printStackTrace();
             return null;
         }
     }
-}
\ No newline at end of file
+}
@@ -24,6 +24,8 @@ public class AuthScreen extends JPanel {
     private JButton signupButton;
     /** 오류나 상태 메시지를 표시하기 위한 레이블. */
     private final JLabel messageLabel;
+    /** 인증 요청이 진행 중임을 보여주는 진행 표시줄. */
+    private final JProgressBar progressBar;
     /** 패널의 배경 이미지. `transient`로 직렬화에서 제외됩니다. */
     private transient Image backgroundImage;
 
@@ -148,6 +150,13 @@ public class AuthScreen extends JPanel {
         messageLabel = new JLabel(" ");
         messageLabel.setForeground(Color.RED);
         add(messageLabel, gbc);
+
+        // 진행 표시줄 (요청 중에만 표시)
+        gbc.gridy = 4;
+        progressBar = new JProgressBar();
+        progressBar.setIndeterminate(true);
+        progressBar.setVisible(false);
+        add(progressBar, gbc);
     }
 
     /**
@@ -202,6 +211,19 @@ public class AuthScreen extends JPanel {
         messageLabel.setText(message);
     }
 
+    /**
+     * 인증 요청의 진행 상태를 표시합니다. 진행 중에는 입력 필드와 버튼을 비활성화하고 진행 표시줄을 보여줍니다.
+     * @param busy 요청이 진행 중이면 true
+     */
+    public void setBusy(boolean busy) {
+        usernameField.setEnabled(!busy);
+        passwordField.setEnabled(!busy);
+        loginButton.setEnabled(!busy);
+        signupButton.setEnabled(!busy);
+        progressBar.setVisible(busy);
+        revalidate();
+    }
+
     /**
      * 사용자 이름 필드 객체를 반환합니다.
      * @return 사용자 이름 텍스트 필드
@@ -0,0 +1,139 @@
+package org.newdawn.spaceinvaders.auth;
+
+import com.google.api.core.ApiFuture;
+import com.google.cloud.firestore.CollectionReference;
+import com.google.cloud.firestore.DocumentReference;
+import com.google.cloud.firestore.DocumentSnapshot;
+import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.QuerySnapshot;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Firestore 'users' 컬렉션에 계정을 저장하는 {@link UserRepository} 구현.
+ * 계정 문서의 ID가 곧 사용자의 UID이며, 같은 문서에 플레이어 데이터도 함께 저장됩니다.
+ * <p>
+ * 사용자 이름마다 'usernames/{이름}' 색인 문서에 UID를 저장하므로, 로그인은 컬렉션 검색 없이 키로 문서를 읽습니다.
+ * 회원가입은 색인 문서와 계정 문서를 한 트랜잭션에서 만들기 때문에, 여러 클라이언트가 동시에 같은 이름으로 가입해도 하나만 성공합니다.
+ * 색인이 생기기 전에 만들어진 계정은 처음 로그인할 때 기존 검색으로 찾은 뒤 색인을 추가하며,
+ * 색인이 아직 없는 이름으로 회원가입하려 할 때도 트랜잭션 안에서 기존 계정을 검색해 이름을 가로채지 못하게 합니다.
+ */
+public class FirestoreUserRepository implements UserRepository {
+
+    /** 'users' 컬렉션에서 사용자 이름을 나타내는 필드 키. */
+    private static final String USERNAME_KEY = "username";
+    /** 'users' 컬렉션에서 해시된 비밀번호를 나타내는 필드 키. */
+    private static final String HASHED_PASSWORD_KEY = "hashedPassword";
+    /** 'usernames' 색인 문서에서 UID를 나타내는 필드 키. */
+    private static final String UID_KEY = "uid";
+
+    /** 'users' 컬렉션에 대한 참조. */
+    private final CollectionReference usersCollection;
+    /** 사용자 이름 색인 'usernames' 컬렉션에 대한 참조. */
+    private final CollectionReference usernamesCollection;
+    /** Firestore 데이터베이스 인스턴스. 트랜잭션에 사용합니다. */
+    private final Firestore db;
+
+    /**
+     * FirestoreUserRepository 생성자.
+     * @param db Firestore 데이터베이스 인스턴스
+     */
+    public FirestoreUserRepository(Firestore db) {
+        this.db = db;
+        this.usersCollection = db.collection("users");
+        this.usernamesCollection = db.collection("usernames");
+    }
+
+    @Override
+    public UserCredentials findByUsername(String username) throws IOException {
+        DocumentSnapshot index = await(indexOf(username).get());
+        if (index.exists()) {
+            String uid = index.getString(UID_KEY);
+            DocumentSnapshot userDoc = await(usersCollection.document(uid).get());
+            return userDoc.exists() ? toCredentials(userDoc) : null;
+        }
+
+        // 색인이 생기기 전의 계정은 기존 방식으로 찾고 색인을 추가합니다.
+        QuerySnapshot snapshot = await(usersCollection.whereEqualTo(USERNAME_KEY, username).limit(1).get());
+        if (snapshot.isEmpty()) {
+            return null;
+        }
+        DocumentSnapshot userDoc = snapshot.getDocuments().get(0);
+        try {
+            await(indexOf(username).create(Map.of(UID_KEY, userDoc.getId())));
+        } catch (IOException e) {
+            System.err.println("사용자 이름 색인 추가 실패: " + e.getMessage());
+        }
+        return toCredentials(userDoc);
+    }
+
+    /**
+     * {@inheritDoc}
+     * 색인 문서 하나만 읽으며, 색인이 없는 기존 계정은 {@link #create(String, String)}의 트랜잭션에서 확인합니다.
+     */
+    @Override
+    public boolean isTaken(String username) throws IOException {
+        return await(indexOf(username).get()).exists();
+    }
+
+    /**
+     * {@inheritDoc}
+     * 색인 문서 확인과 두 문서의 생성을 한 트랜잭션에서 수행합니다.
+     * 색인이 없더라도 같은 이름의 기존 계정이 있으면 가입을 거부하고, 그 계정의 색인을 함께 추가합니다.
+     */
+    @Override
+    public String create(String username, String hashedPassword) throws IOException {
+        DocumentReference indexRef = indexOf(username);
+        return await(db.runTransaction(transaction -> {
+            if (transaction.get(indexRef).get().exists()) {
+                return null;
+            }
+            QuerySnapshot legacy = transaction.get(usersCollection.whereEqualTo(USERNAME_KEY, username).limit(1)).get();
+            if (!legacy.isEmpty()) {
+                transaction.create(indexRef, Map.of(UID_KEY, legacy.getDocuments().get(0).getId()));
+                return null;
+            }
+            Map<String, Object> user = new HashMap<>();
+            user.put(USERNAME_KEY, username);
+            user.put(HASHED_PASSWORD_KEY, hashedPassword);
+
+            DocumentReference userRef = usersCollection.document();
+            transaction.create(userRef, user);
+            transaction.create(indexRef, Map.of(UID_KEY, userRef.getId()));
+            return userRef.getId();
+        }));
+    }
+
+    /**
+     * 사용자 이름의 색인 문서 참조를 반환합니다.
+     * 문서 ID에 쓸 수 없는 문자('/' 등)와 예약된 형태('.', '..', '__이름__')를 피하기 위해 이름을 URL 인코딩하고
+     * '.'과 '_'도 인코딩합니다.
+     */
+    private DocumentReference indexOf(String username) {
+        String key = URLEncoder.encode(username, StandardCharsets.UTF_8).replace(".", "%2E").replace("_", "%5F");
+        return usernamesCollection.document(key);
+    }
+
+    private static UserCredentials toCredentials(DocumentSnapshot userDoc) {
+        return new UserCredentials(userDoc.getId(), userDoc.getString(USERNAME_KEY), userDoc.getString(HASHED_PASSWORD_KEY));
+    }
+
+    /**
+     * Firestore 요청이 끝날 때까지 기다리고, 실패를 {@link IOException}으로 바꿉니다.
+     */
+    private static <T> T await(ApiFuture<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+    }
+}
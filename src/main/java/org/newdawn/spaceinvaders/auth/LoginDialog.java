@@ -9,6 +9,8 @@ import javax.swing.WindowConstants;
  * 사용자 인증을 위한 모달(modal) 대화 상자.
  * 이 다이얼로그는 {@link AuthScreen}을 내부에 포함하고,
  * UI에서 발생하는 액션(버튼 클릭 등)을 {@link AuthManager}의 로직과 연결하는 역할을 합니다.
+ * 인증은 백그라운드 스레드에서 실행되며, 그동안 다이얼로그는 진행 표시를 보여주고 입력을 막습니다.
+ * 결과는 이벤트 디스패치 스레드에서 반영됩니다.
  */
 public class LoginDialog extends JDialog {
 
@@ -41,12 +43,16 @@ public class LoginDialog extends JDialog {
                 authScreen.setMessage("Password must be at least 6 characters.");
                 return;
             }
-            boolean success = authManager.signUp(username, password);
-            if (success) {
-                authScreen.setMessage("Sign up successful! Please log in.");
-            } else {
-                authScreen.setMessage("Sign up failed. Username may already exist.");
-            }
+            authScreen.setBusy(true);
+            authScreen.setMessage("Signing up...");
+            authManager.signUpAsync(username, password).whenComplete((success, error) -> SwingUtilities.invokeLater(() -> {
+                authScreen.setBusy(false);
+                if (Boolean.TRUE.equals(success)) {
+                    authScreen.setMessage("Sign up successful! Please log in.");
+                } else {
+                    authScreen.setMessage("Sign up failed. Username may already exist.");
+                }
+            }));
         });
 
         // 로그인 버튼 액션 리스너
@@ -57,13 +63,17 @@ public class LoginDialog extends JDialog {
                 authScreen.setMessage("Username and password cannot be empty.");
                 return;
             }
-            String docId = authManager.signIn(username, password);
-            if (docId != null) {
-                this.authenticatedUser = new AuthenticatedUser(docId, username);
-                dispose(); // 로그인 성공 시 다이얼로그 닫기
-            } else {
-                authScreen.setMessage("Login failed. Check username/password.");
-            }
+            authScreen.setBusy(true);
+            authScreen.setMessage("Logging in...");
+            authManager.signInAsync(username, password).whenComplete((docId, error) -> SwingUtilities.invokeLater(() -> {
+                authScreen.setBusy(false);
+                if (docId != null) {
+                    this.authenticatedUser = new AuthenticatedUser(docId, username);
+                    dispose(); // 로그인 성공 시 다이얼로그 닫기
+                } else {
+                    authScreen.setMessage("Login failed. Check username/password.");
+                }
+            }));
         });
 
         setContentPane(authScreen);
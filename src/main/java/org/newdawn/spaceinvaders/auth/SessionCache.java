@@ -0,0 +1,192 @@
+package org.newdawn.spaceinvaders.auth;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.newdawn.spaceinvaders.data.PlayerData;
+import org.newdawn.spaceinvaders.data.PlayerDataJson;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+
+/**
+ * 마지막 로그인 세션과 플레이어 데이터를 로컬에 암호화하여 보관하는 캐시.
+ * 세션이 남아 있으면 다음 실행 때 로그인 다이얼로그와 플레이어 데이터 조회를 기다리지 않고 바로 메인 메뉴를 띄우며,
+ * 저장소와의 대조는 백그라운드에서 이루어집니다.
+ * <p>
+ * 세션 파일은 AES-GCM으로 암호화되며, 키는 같은 디렉토리의 키 파일에 소유자만 읽을 수 있도록 보관합니다.
+ * 파일이 손상되었거나 변조되었거나, {@link #SESSION_TTL_MILLIS}가 지났거나, 다른 저장소에서 만든 세션이면 무시됩니다.
+ * 세션은 저장할 때마다 만료 시각이 연장됩니다.
+ * 종료할 때 저장소에 반영하지 못한 변경이 있었으면 세션에 표시해 두어, 다음 실행에서 저장소의 오래된 데이터 대신 캐시된 데이터를 우선하게 합니다.
+ */
+public class SessionCache {
+
+    /** 세션이 유효한 기간 (밀리초). */
+    public static final long SESSION_TTL_MILLIS = 30L * 24 * 60 * 60 * 1000;
+
+    /** 암호화 방식. */
+    private static final String CIPHER = "AES/GCM/NoPadding";
+    /** 암호화 키의 길이 (바이트). */
+    private static final int KEY_BYTES = 32;
+    /** GCM 초기화 벡터의 길이 (바이트). */
+    private static final int IV_BYTES = 12;
+    /** GCM 인증 태그의 길이 (비트). */
+    private static final int TAG_BITS = 128;
+
+    // 세션 필드 이름
+    private static final String UID_KEY = "uid";
+    private static final String USERNAME_KEY = "username";
+    private static final String BACKEND_KEY = "backend";
+    private static final String EXPIRES_AT_KEY = "expiresAt";
+    private static final String PLAYER_KEY = "player";
+    private static final String UNSYNCED_KEY = "unsynced";
+
+    /** 암호화된 세션 파일. */
+    private final Path sessionFile;
+    /** 암호화 키 파일. */
+    private final Path keyFile;
+    /** 세션을 만든 저장소의 식별자. 다른 저장소의 UID를 잘못 쓰지 않도록 비교합니다. */
+    private final String backend;
+    /** 초기화 벡터와 키 생성에 사용하는 난수 생성기. */
+    private final SecureRandom random = new SecureRandom();
+
+    /**
+     * SessionCache 생성자.
+     * @param directory 세션 파일과 키 파일을 둘 디렉토리
+     * @param backend 현재 저장소의 식별자 (예: "firestore", "local:경로")
+     */
+    public SessionCache(Path directory, String backend) {
+        this.sessionFile = directory.resolve("session.dat");
+        this.keyFile = directory.resolve("session.key");
+        this.backend = backend;
+    }
+
+    /**
+     * 기본 세션 디렉토리 (사용자 홈의 .spaceinvaders)를 반환합니다.
+     * @return 기본 세션 디렉토리
+     */
+    public static Path defaultDirectory() {
+        return Paths.get(System.getProperty("user.home"), ".spaceinvaders");
+    }
+
+    /**
+     * 저장된 세션을 불러옵니다.
+     * @return 유효한 세션, 없거나 사용할 수 없으면 null
+     */
+    public Session load() {
+        if (!Files.exists(sessionFile) || !Files.exists(keyFile)) {
+            return null;
+        }
+        try {
+            byte[] data = Files.readAllBytes(sessionFile);
+            if (data.length <= IV_BYTES) {
+                return null;
+            }
+            Cipher cipher = Cipher.getInstance(CIPHER);
+            cipher.init(Cipher.DECRYPT_MODE, new SecretKeySpec(Files.readAllBytes(keyFile), "AES"),
+                    new GCMParameterSpec(TAG_BITS, data, 0, IV_BYTES));
+            byte[] plain = cipher.doFinal(data, IV_BYTES, data.length - IV_BYTES);
+            JSONObject json = new JSONObject(new String(plain, StandardCharsets.UTF_8));
+
+            if (!backend.equals(json.optString(BACKEND_KEY)) || json.getLong(EXPIRES_AT_KEY) < System.currentTimeMillis()) {
+                return null;
+            }
+            AuthenticatedUser user = new AuthenticatedUser(json.getString(UID_KEY), json.getString(USERNAME_KEY));
+            JSONObject player = json.optJSONObject(PLAYER_KEY);
+            return new Session(user, player != null ? PlayerDataJson.fromJson(player) : null, json.optBoolean(UNSYNCED_KEY));
+        } catch (IOException | GeneralSecurityException | JSONException e) {
+            System.err.println("저장된 세션을 사용할 수 없습니다: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 세션과 플레이어 데이터를 암호화하여 저장합니다. 만료 시각은 지금부터 {@link #SESSION_TTL_MILLIS} 뒤로 정해집니다.
+     * @param user 로그인한 사용자
+     * @param playerData 마지막으로 알려진 플레이어 데이터, 없으면 null
+     * @param unsynced 플레이어 데이터에 저장소에 반영되지 않은 변경이 남아 있으면 true
+     */
+    public void save(AuthenticatedUser user, PlayerData playerData, boolean unsynced) {
+        JSONObject json = new JSONObject()
+                .put(UID_KEY, user.getLocalId())
+                .put(USERNAME_KEY, user.getUsername())
+                .put(BACKEND_KEY, backend)
+                .put(EXPIRES_AT_KEY, System.currentTimeMillis() + SESSION_TTL_MILLIS);
+        if (playerData != null) {
+            json.put(PLAYER_KEY, PlayerDataJson.toJson(playerData))
+                    .put(UNSYNCED_KEY, unsynced);
+        }
+        try {
+            byte[] iv = new byte[IV_BYTES];
+            random.nextBytes(iv);
+            Cipher cipher = Cipher.getInstance(CIPHER);
+            cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(loadOrCreateKey(), "AES"), new GCMParameterSpec(TAG_BITS, iv));
+            byte[] encrypted = cipher.doFinal(json.toString().getBytes(StandardCharsets.UTF_8));
+
+            byte[] data = Arrays.copyOf(iv, IV_BYTES + encrypted.length);
+            System.arraycopy(encrypted, 0, data, IV_BYTES, encrypted.length);
+            writeAtomically(sessionFile, data);
+        } catch (IOException | GeneralSecurityException e) {
+            System.err.println("세션 저장 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 암호화 키를 읽습니다. 키 파일이 없으면 새 키를 만들어 소유자만 읽을 수 있는 파일로 저장합니다.
+     */
+    private byte[] loadOrCreateKey() throws IOException {
+        if (Files.exists(keyFile)) {
+            return Files.readAllBytes(keyFile);
+        }
+        byte[] key = new byte[KEY_BYTES];
+        random.nextBytes(key);
+        writeAtomically(keyFile, key);
+        return key;
+    }
+
+    /**
+     * 임시 파일에 먼저 쓴 뒤 교체하여, 쓰는 도중 종료되어도 기존 파일이 손상되지 않게 합니다.
+     */
+    private static void writeAtomically(Path file, byte[] data) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(temp, data);
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            Files.setPosixFilePermissions(temp, PosixFilePermissions.fromString("rw-------"));
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 불러온 세션. 로그인한 사용자와 마지막으로 알려진 플레이어 데이터를 담습니다.
+     */
+    public static class Session {
+        /** 로그인한 사용자. */
+        private final AuthenticatedUser user;
+        /** 마지막으로 알려진 플레이어 데이터. 없으면 null. */
+        private final PlayerData playerData;
+        /** 플레이어 데이터에 저장소에 반영되지 않은 변경이 남아 있는지 여부. */
+        private final boolean unsynced;
+
+        Session(AuthenticatedUser user, PlayerData playerData, boolean unsynced) {
+            this.user = user;
+            this.playerData = playerData;
+            this.unsynced = unsynced;
+        }
+
+        public AuthenticatedUser getUser() { return user; }
+        public PlayerData getPlayerData() { return playerData; }
+        public boolean isUnsynced() { return unsynced; }
+    }
+}
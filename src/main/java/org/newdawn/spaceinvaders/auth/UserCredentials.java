@@ -0,0 +1,29 @@
+package org.newdawn.spaceinvaders.auth;
+
+/**
+ * 저장소에 저장된 계정 정보. 로그인 검증에 필요한 값만 담습니다.
+ */
+public class UserCredentials {
+    /** 계정의 고유 ID (UID). */
+    private final String uid;
+    /** 사용자 이름. */
+    private final String username;
+    /** BCrypt로 해시된 비밀번호. */
+    private final String hashedPassword;
+
+    /**
+     * UserCredentials 생성자.
+     * @param uid 계정의 고유 ID
+     * @param username 사용자 이름
+     * @param hashedPassword BCrypt로 해시된 비밀번호
+     */
+    public UserCredentials(String uid, String username, String hashedPassword) {
+        this.uid = uid;
+        this.username = username;
+        this.hashedPassword = hashedPassword;
+    }
+
+    public String getUid() { return uid; }
+    public String getUsername() { return username; }
+    public String getHashedPassword() { return hashedPassword; }
+}
@@ -0,0 +1,36 @@
+package org.newdawn.spaceinvaders.auth;
+
+import java.io.IOException;
+
+/**
+ * 로그인 계정(사용자 이름과 해시된 비밀번호)을 영구 저장소에 읽고 쓰는 저장소 인터페이스.
+ * {@link AuthManager}는 비밀번호 해싱과 검증만 담당하고, 계정의 저장 위치는 이 인터페이스의 구현이 결정합니다.
+ */
+public interface UserRepository {
+
+    /**
+     * 사용자 이름으로 계정을 찾습니다.
+     * @param username 찾을 사용자 이름
+     * @return 계정 정보, 없으면 null
+     * @throws IOException 저장소에 접근할 수 없는 경우
+     */
+    UserCredentials findByUsername(String username) throws IOException;
+
+    /**
+     * 사용자 이름이 이미 사용 중인지 빠르게 확인합니다. 회원가입 시 비밀번호를 해싱하기 전에 호출됩니다.
+     * 색인처럼 저렴한 조회만 수행하므로 false여도 {@link #create(String, String)}가 중복으로 거부할 수 있습니다.
+     * @param username 확인할 사용자 이름
+     * @return 사용 중인 것이 확실하면 true
+     * @throws IOException 저장소에 접근할 수 없는 경우
+     */
+    boolean isTaken(String username) throws IOException;
+
+    /**
+     * 새 계정을 만듭니다. 사용자 이름의 중복 확인과 생성은 원자적으로 수행되어야 합니다.
+     * @param username 사용자 이름
+     * @param hashedPassword BCrypt로 해시된 비밀번호
+     * @return 새로 만든 계정의 고유 ID (UID), 이미 같은 이름의 계정이 있으면 null
+     * @throws IOException 저장에 실패한 경우
+     */
+    String create(String username, String hashedPassword) throws IOException;
+}
@@ -1,26 +1,76 @@
 package org.newdawn.spaceinvaders.core;
 
+import org.newdawn.spaceinvaders.entity.CollisionLayer;
 import org.newdawn.spaceinvaders.entity.Entity;
 
+import java.util.Arrays;
 import java.util.List;
 
 /**
  * 엔티티 간의 충돌을 감지하며, 충돌이 발생하면 각 엔티티의 충돌 처리 로직을 호출하는 클래스입니다.
+ * <p>
+ * 모든 쌍을 검사하는 대신, 플레이 영역({@link Game#GAME_WIDTH} x {@link Game#GAME_HEIGHT})을
+ * 균일한 격자로 나누고 같은 셀을 공유하는 엔티티 쌍만 {@link Entity#collidesWith(Entity)}로 검사합니다.
+ * 격자는 매 틱마다 재사용되는 배열 위에서 다시 채워지며, 후보 쌍은 기존 이중 루프와
+ * 동일한 순서(목록 인덱스 오름차순)로 한 번씩만 검사되므로 충돌 결과는 완전히 같습니다.
+ * <p>
+ * 경계 검사 전에 {@link CollisionLayer} 충돌 행렬을 먼저 확인하여, 서로 반응하지 않는 레이어 쌍
+ * (예: 적 발사체끼리, 폭발과 운석)은 후보에서 제외합니다.
  */
 public class CollisionDetector {
 
+    /** 격자 셀 한 변의 크기 (픽셀). */
+    private static final int CELL_SIZE = 50;
+    /** 격자의 열 수. */
+    private static final int COLUMNS = (Game.GAME_WIDTH + CELL_SIZE - 1) / CELL_SIZE;
+    /** 격자의 행 수. */
+    private static final int ROWS = (Game.GAME_HEIGHT + CELL_SIZE - 1) / CELL_SIZE;
+    /** 셀 하나가 처음에 담을 수 있는 엔티티 수. */
+    private static final int INITIAL_CELL_CAPACITY = 8;
+
+    /** 각 셀에 들어 있는 엔티티의 목록 인덱스. */
+    private final int[][] cells = new int[COLUMNS * ROWS][INITIAL_CELL_CAPACITY];
+    /** 각 셀에 들어 있는 엔티티 수. */
+    private final int[] cellCounts = new int[COLUMNS * ROWS];
+
+    /** 마지막 검사에서 경계 검사를 수행한 엔티티 쌍의 수. */
+    private int pairsTested;
+
+    /** 엔티티별 충돌 레이어 비트. */
+    private int[] layerBits = new int[0];
+    /** 엔티티별 충돌 마스크. */
+    private int[] layerMasks = new int[0];
+    /** 엔티티별로 차지하는 셀 범위 (minCol, maxCol, minRow, maxRow). 범위가 없으면 minCol이 -1. */
+    private int[] cellRanges = new int[0];
+    /** 현재 엔티티의 후보로 이미 수집되었는지 표시하는 스탬프. */
+    private int[] candidateStamps = new int[0];
+    /** 현재 엔티티의 후보 인덱스를 모으는 임시 버퍼. */
+    private int[] candidates = new int[0];
+
     /**
-     * 주어진 엔티티 목록 내에서 모든 가능한 쌍에 대해 충돌을 검사합니다.
+     * 주어진 엔티티 목록 내에서 충돌 가능성이 있는 모든 쌍에 대해 충돌을 검사합니다.
      * 충돌이 감지되면, 두 엔티티 각각의 {@link Entity#collidedWith(Entity)} 메소드를 호출하여
      * 충돌을 처리하도록 합니다.
      *
      * @param entities 충돌 검사를 수행할 엔티티 목록
      */
     public void checkCollisions(List<Entity> entities) {
-        for (int p = 0; p < entities.size(); p++) {
-            for (int s = p + 1; s < entities.size(); s++) {
-                Entity me = entities.get(p);
-                Entity him = entities.get(s);
+        int count = entities.size();
+        ensureCapacity(count);
+        buildGrid(entities, count);
+        pairsTested = 0;
+
+        for (int p = 0; p < count; p++) {
+            int candidateCount = collectCandidates(p);
+            if (candidateCount == 0) {
+                continue;
+            }
+            Arrays.sort(candidates, 0, candidateCount);
+
+            Entity me = entities.get(p);
+            pairsTested += candidateCount;
+            for (int i = 0; i < candidateCount; i++) {
+                Entity him = entities.get(candidates[i]);
 
                 if (me.collidesWith(him)) {
                     me.collidedWith(him);
@@ -29,4 +79,151 @@ public class CollisionDetector {
             }
         }
     }
+
+    /**
+     * 마지막 {@link #checkCollisions(List)}에서 경계 검사를 수행한 엔티티 쌍의 수를 반환합니다.
+     * @return 검사한 쌍의 수
+     */
+    public int getPairsTested() {
+        return pairsTested;
+    }
+
+    /**
+     * 엔티티 수에 맞게 임시 버퍼들의 크기를 확보합니다.
+     * @param count 이번 틱의 엔티티 수
+     */
+    private void ensureCapacity(int count) {
+        if (candidateStamps.length < count) {
+            int capacity = Math.max(count, candidateStamps.length * 2);
+            cellRanges = new int[capacity * 4];
+            layerBits = new int[capacity];
+            layerMasks = new int[capacity];
+            candidateStamps = new int[capacity];
+            candidates = new int[capacity];
+        }
+        Arrays.fill(candidateStamps, 0, count, 0);
+    }
+
+    /**
+     * 현재 위치를 기준으로 격자를 다시 채웁니다.
+     * 화면 밖의 엔티티는 가장자리 셀로 고정되므로, 서로 겹치는 두 엔티티는 항상 적어도 하나의 셀을 공유합니다.
+     * 어떤 엔티티와도 충돌 검사를 받지 않는 레이어의 엔티티는 격자에 넣지 않습니다.
+     *
+     * @param entities 엔티티 목록
+     * @param count 엔티티 수
+     */
+    private void buildGrid(List<Entity> entities, int count) {
+        Arrays.fill(cellCounts, 0);
+
+        int wantedLayers = 0;
+        for (int i = 0; i < count; i++) {
+            Entity entity = entities.get(i);
+            layerBits[i] = entity.getCollisionLayer().bit;
+            layerMasks[i] = entity.getCollisionMask();
+            wantedLayers |= layerMasks[i];
+        }
+
+        for (int i = 0; i < count; i++) {
+            Entity entity = entities.get(i);
+            int base = i * 4;
+
+            if (layerMasks[i] == 0 && (wantedLayers & layerBits[i]) == 0) {
+                cellRanges[base] = -1;
+                continue;
+            }
+            int left = entity.getX();
+            int top = entity.getY();
+            int width = entity.getWidth();
+            int height = entity.getHeight();
+
+            // 너비나 높이가 0 이하인 사각형은 어떤 것과도 교차하지 않음
+            if (width <= 0 || height <= 0) {
+                cellRanges[base] = -1;
+                continue;
+            }
+
+            int minCol = toCell(left, COLUMNS);
+            int maxCol = toCell(left + width - 1, COLUMNS);
+            int minRow = toCell(top, ROWS);
+            int maxRow = toCell(top + height - 1, ROWS);
+            cellRanges[base] = minCol;
+            cellRanges[base + 1] = maxCol;
+            cellRanges[base + 2] = minRow;
+            cellRanges[base + 3] = maxRow;
+
+            for (int row = minRow; row <= maxRow; row++) {
+                for (int col = minCol; col <= maxCol; col++) {
+                    insert(row * COLUMNS + col, i);
+                }
+            }
+        }
+    }
+
+    /**
+     * 지정된 엔티티와 셀을 공유하고 목록에서 더 뒤에 있으며, 충돌 행렬상 검사가 필요한 엔티티들의 인덱스를 수집합니다.
+     * @param index 기준 엔티티의 인덱스
+     * @return 수집된 후보 수
+     */
+    private int collectCandidates(int index) {
+        int base = index * 4;
+        int minCol = cellRanges[base];
+        if (minCol < 0) {
+            return 0;
+        }
+        int maxCol = cellRanges[base + 1];
+        int minRow = cellRanges[base + 2];
+        int maxRow = cellRanges[base + 3];
+        int stamp = index + 1;
+        int bit = layerBits[index];
+        int mask = layerMasks[index];
+        int candidateCount = 0;
+
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                int cell = row * COLUMNS + col;
+                int[] members = cells[cell];
+                int memberCount = cellCounts[cell];
+                for (int m = 0; m < memberCount; m++) {
+                    int other = members[m];
+                    if (other > index && candidateStamps[other] != stamp) {
+                        candidateStamps[other] = stamp;
+                        if ((mask & layerBits[other]) != 0 || (layerMasks[other] & bit) != 0) {
+                            candidates[candidateCount++] = other;
+                        }
+                    }
+                }
+            }
+        }
+        return candidateCount;
+    }
+
+    /**
+     * 셀에 엔티티 인덱스를 추가합니다. 셀이 가득 차면 배열을 두 배로 늘립니다.
+     * @param cell 셀 번호
+     * @param index 엔티티 인덱스
+     */
+    private void insert(int cell, int index) {
+        int[] members = cells[cell];
+        int memberCount = cellCounts[cell];
+        if (memberCount == members.length) {
+            members = Arrays.copyOf(members, memberCount * 2);
+            cells[cell] = members;
+        }
+        members[memberCount] = index;
+        cellCounts[cell] = memberCount + 1;
+    }
+
+    /**
+     * 픽셀 좌표를 격자 범위 안으로 고정된 셀 좌표로 변환합니다.
+     * @param coordinate 픽셀 좌표
+     * @param limit 해당 축의 셀 수
+     * @return 0 이상 limit 미만의 셀 좌표
+     */
+    private static int toCell(int coordinate, int limit) {
+        int cell = Math.floorDiv(coordinate, CELL_SIZE);
+        if (cell < 0) {
+            return 0;
+        }
+        return Math.min(cell, limit - 1);
+    }
 }
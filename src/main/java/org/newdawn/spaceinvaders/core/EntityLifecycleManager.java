@@ -3,46 +3,70 @@ package org.newdawn.spaceinvaders.core;
 import org.newdawn.spaceinvaders.core.events.*;
 import org.newdawn.spaceinvaders.entity.Entity;
 import org.newdawn.spaceinvaders.entity.EntityManager;
+import org.newdawn.spaceinvaders.entity.EntityKind;
 import org.newdawn.spaceinvaders.entity.ItemEntity;
-import org.newdawn.spaceinvaders.entity.ShipEntity;
 import org.newdawn.spaceinvaders.entity.Enemy.Enemy;
+import org.newdawn.spaceinvaders.entity.Enemy.MeteorEntity;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
  * 엔티티의 생명주기 중 '파괴' 상태를 처리하는 클래스.
  * 파괴된 엔티티를 감지하고, 그에 맞는 이벤트를 발행하며, 최종적으로 게임 월드에서 제거되도록 예약합니다.
+ * <p>
+ * {@link Entity#destroy()}로 파괴되는 엔티티는 함선, 적과 운석, 아이템, 전역 레이저뿐이므로
+ * 전체 목록 대신 {@link EntityManager}의 해당 유형별 색인만 순회합니다.
+ * 발사체, 레이저 빔, 폭발 효과는 파괴 상태를 거치지 않고 {@link EntityManager#removeEntity(Entity)}로 직접 제거가 예약되며,
+ * 보스를 쓰러뜨린 레이저 빔도 마찬가지로 보스가 직접 제거를 예약합니다.
  */
 public class EntityLifecycleManager {
 
     /**
-     * 엔티티 목록을 순회하며 파괴(destroyed) 상태인 엔티티를 처리합니다.
-     * 파괴된 엔티티의 타입에 따라 적절한 이벤트(예: {@link PlayerDiedEvent})를 발행하고,
+     * 파괴(destroyed) 상태인 엔티티를 처리합니다.
+     * 파괴된 엔티티의 유형에 따라 적절한 이벤트(예: {@link PlayerDiedEvent})를 발행하고,
      * {@link EntityManager}의 제거 목록에 추가합니다.
      *
-     * @param entities 현재 게임 월드의 엔티티 목록
+     * @param entityManager 엔티티 색인을 제공하고 제거를 예약할 엔티티 매니저
      * @param eventBus 이벤트를 발행할 이벤트 버스
-     * @param entityManager 엔티티 제거를 예약할 엔티티 매니저
      */
-    public void processStateChanges(List<Entity> entities, EventBus eventBus, EntityManager entityManager) {
-        // ConcurrentModificationException을 피하기 위해 복사본을 순회합니다.
-        for (Entity entity : new ArrayList<>(entities)) {
+    public void processStateChanges(EntityManager entityManager, EventBus eventBus) {
+        // 이벤트 처리와 제거 예약은 색인을 바꾸지 않으므로(실제 제거는 EntityManager.cleanup에서 수행) 복사 없이 순회합니다.
+        List<Entity> players = entityManager.getEntities(EntityKind.PLAYER);
+        for (int i = 0, count = players.size(); i < count; i++) {
+            Entity entity = players.get(i);
             if (entity.isDestroyed()) {
-                // 엔티티 유형에 따라 이벤트를 발행합니다.
-                if (entity instanceof ShipEntity) {
-                    eventBus.publish(new PlayerDiedEvent());
-                } else if (entity instanceof Enemy) {
-                    eventBus.publish(new AlienKilledEvent());
-                } else if (entity instanceof org.newdawn.spaceinvaders.entity.Enemy.MeteorEntity) {
-                    eventBus.publish(new MeteorDestroyedEvent(((org.newdawn.spaceinvaders.entity.Enemy.MeteorEntity) entity).getScoreValue()));
-                } else if (entity instanceof ItemEntity) {
-                    eventBus.publish(new ItemCollectedEvent());
+                eventBus.publish(PlayerDiedEvent.INSTANCE);
+                entityManager.removeEntity(entity);
+            }
+        }
+        List<Entity> enemies = entityManager.getEntities(EntityKind.ENEMY);
+        for (int i = 0, count = enemies.size(); i < count; i++) {
+            Entity entity = enemies.get(i);
+            if (entity.isDestroyed()) {
+                if (entity instanceof Enemy) {
+                    eventBus.publish(AlienKilledEvent.INSTANCE);
+                } else if (entity instanceof MeteorEntity) {
+                    eventBus.publish(eventBus.obtainMeteorDestroyed(((MeteorEntity) entity).getScoreValue()));
                 }
-
-                // 정리를 위해 제거 목록에 엔티티를 추가합니다.
+                entityManager.removeEntity(entity);
+            }
+        }
+        List<Entity> pickups = entityManager.getEntities(EntityKind.PICKUP);
+        for (int i = 0, count = pickups.size(); i < count; i++) {
+            Entity entity = pickups.get(i);
+            if (entity.isDestroyed()) {
+                if (entity instanceof ItemEntity) {
+                    eventBus.publish(ItemCollectedEvent.INSTANCE);
+                }
+                entityManager.removeEntity(entity);
+            }
+        }
+        List<Entity> lasers = entityManager.getEntities(EntityKind.GLOBAL_LASER);
+        for (int i = 0, count = lasers.size(); i < count; i++) {
+            Entity entity = lasers.get(i);
+            if (entity.isDestroyed()) {
                 entityManager.removeEntity(entity);
             }
         }
     }
-}
\ No newline at end of file
+}
@@ -1,36 +1,129 @@
 package org.newdawn.spaceinvaders.core;
 
+import org.newdawn.spaceinvaders.core.events.AlienEscapedEvent;
 import org.newdawn.spaceinvaders.core.events.Event;
+import org.newdawn.spaceinvaders.core.events.EventPool;
+import org.newdawn.spaceinvaders.core.events.MeteorDestroyedEvent;
+import org.newdawn.spaceinvaders.core.events.RecyclableEvent;
+import org.newdawn.spaceinvaders.entity.Entity;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
- * 게임 컴포넌트 간의 결합도를 낮추기 위한 간단한 동기 방식의 이벤트 버스.
+ * 게임 컴포넌트 간의 결합도를 낮추기 위한 이벤트 버스.
  * 옵저버 패턴(Observer Pattern)을 구현합니다.
+ * <p>
+ * 리스너는 이벤트 클래스별로 등록되며, 이벤트는 발행 즉시 전달되지 않고 큐에 쌓였다가
+ * {@link #dispatchPending()}이 호출될 때 발행 순서대로 전달됩니다.
+ * 게임 월드는 틱마다 엔티티 정리가 끝난 뒤 큐를 비우므로, 충돌 처리 도중에 발행된 이벤트도
+ * 엔티티 목록이 안정된 시점에 처리됩니다.
+ * <p>
+ * 클래스별 리스너 목록은 등록 시에만 새 배열로 교체(copy-on-write)되므로, 전달 중에 리스너가 추가되어도 안전하며
+ * 발행과 전달 과정에서는 객체를 새로 할당하지 않습니다. 리스너는 이벤트의 실제 클래스로만 조회됩니다.
+ * 이벤트 자체도 데이터가 없는 이벤트는 공유 인스턴스를, 데이터가 있는 이벤트는 {@link RecyclableEvent} 풀을 사용하므로
+ * 많은 적이 한꺼번에 처치되어도 이벤트 할당이 몰리지 않습니다.
+ * <p>
+ * 이벤트 풀은 버스마다 따로 가지며, 풀링되는 이벤트는 이 버스의 {@code obtain} 메소드로 얻어야 합니다.
+ * 버스는 동기화하지 않으므로 한 시뮬레이션 스레드에서만 사용해야 하며, 병렬로 실행되는 시뮬레이션은 각자의 버스를 가집니다.
  */
 public class EventBus {
 
-    /** 이벤트를 수신할 리스너들의 목록. */
-    private final List<EventListener> listeners = new ArrayList<>();
+    /** 리스너가 없는 이벤트 클래스에 사용하는 빈 배열. */
+    private static final EventListener<?>[] NO_LISTENERS = new EventListener<?>[0];
+
+    /** 이벤트 클래스별로 등록된 리스너 배열. */
+    private final Map<Class<? extends Event>, EventListener<?>[]> listeners = new HashMap<>();
+    /** 전달을 기다리는 이벤트 큐. */
+    private final List<Event> pending = new ArrayList<>();
+    /** 외계인 탈출 이벤트 풀. */
+    private final EventPool<AlienEscapedEvent> alienEscapedPool = AlienEscapedEvent.newPool();
+    /** 운석 파괴 이벤트 풀. */
+    private final EventPool<MeteorDestroyedEvent> meteorDestroyedPool = MeteorDestroyedEvent.newPool();
 
     /**
-     * 리스너를 등록하여 이벤트를 수신할 수 있도록 합니다.
+     * 리스너를 등록하여 지정된 클래스의 이벤트를 수신할 수 있도록 합니다.
+     * @param type 수신할 이벤트 클래스
      * @param listener 등록할 리스너
+     * @param <E> 이벤트의 타입
+     */
+    public <E extends Event> void subscribe(Class<E> type, EventListener<? super E> listener) {
+        EventListener<?>[] current = listeners.getOrDefault(type, NO_LISTENERS);
+        EventListener<?>[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = listener;
+        listeners.put(type, updated);
+    }
+
+    /**
+     * 이 버스의 풀에서 외계인 탈출 이벤트를 얻습니다.
+     * @param alien 탈출한 외계인 엔티티
+     * @return 발행할 이벤트
      */
-    public void register(EventListener listener) {
-        listeners.add(listener);
+    public AlienEscapedEvent obtainAlienEscaped(Entity alien) {
+        return AlienEscapedEvent.obtain(alienEscapedPool, alien);
     }
 
+    /**
+     * 이 버스의 풀에서 운석 파괴 이벤트를 얻습니다.
+     * @param scoreValue 플레이어에게 부여할 점수
+     * @return 발행할 이벤트
+     */
+    public MeteorDestroyedEvent obtainMeteorDestroyed(int scoreValue) {
+        return MeteorDestroyedEvent.obtain(meteorDestroyedPool, scoreValue);
+    }
 
     /**
-     * 등록된 모든 리스너에게 이벤트를 발행(전송)합니다.
+     * 이벤트를 큐에 추가합니다. 이벤트는 다음 {@link #dispatchPending()} 호출 때 리스너에게 전달됩니다.
      * @param event 발행할 이벤트
      */
     public void publish(Event event) {
-        // 리스너 목록을 복사하여 순회 중 수정 문제를 방지할 수 있지만,
-        // 현재 구조에서는 동기식으로 즉시 처리되므로 필수적이지는 않음.
-        for (EventListener listener : new ArrayList<>(listeners)) {
+        pending.add(event);
+    }
+
+    /**
+     * 큐에 쌓인 이벤트를 발행 순서대로 리스너에게 전달합니다.
+     * 전달 중에 새로 발행된 이벤트도 같은 호출에서 이어서 전달됩니다.
+     * 전달이 끝난 {@link RecyclableEvent}는 풀로 돌려보냅니다.
+     */
+    public void dispatchPending() {
+        for (int i = 0; i < pending.size(); i++) {
+            Event event = pending.get(i);
+            dispatch(event);
+            if (event instanceof RecyclableEvent) {
+                ((RecyclableEvent) event).recycle();
+            }
+        }
+        pending.clear();
+    }
+
+    /**
+     * 큐에 쌓인 이벤트를 전달하지 않고 버립니다. 새 게임을 시작할 때 이전 게임의 이벤트가 전달되지 않도록 호출합니다.
+     * 버린 {@link RecyclableEvent}는 풀로 돌려보냅니다.
+     */
+    public void clearPending() {
+        for (int i = 0; i < pending.size(); i++) {
+            Event event = pending.get(i);
+            if (event instanceof RecyclableEvent) {
+                ((RecyclableEvent) event).recycle();
+            }
+        }
+        pending.clear();
+    }
+
+    /**
+     * 이벤트 클래스에 등록된 리스너들에게 이벤트를 전달합니다.
+     * @param event 전달할 이벤트
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void dispatch(Event event) {
+        EventListener[] targets = listeners.get(event.getClass());
+        if (targets == null) {
+            return;
+        }
+        for (EventListener listener : targets) {
             listener.onEvent(event);
         }
     }
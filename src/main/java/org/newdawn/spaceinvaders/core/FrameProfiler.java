@@ -0,0 +1,286 @@
+package org.newdawn.spaceinvaders.core;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 게임 루프의 각 구간이 걸린 시간을 기록하는 프레임 프로파일러.
+ * 시뮬레이션 틱은 입력, 웨이브, 이동, 충돌, 생명주기, 정리, 이벤트 구간으로, 화면 출력은 스냅샷 생성, 렌더, 표시 구간으로 나뉘며,
+ * 구간마다 최근 {@link #WINDOW}개의 측정값을 보관하여 p50/p99를 계산합니다.
+ * 틱마다 충돌 검사한 쌍의 수와 시뮬레이션 스레드의 할당량도 함께 기록합니다.
+ * <p>
+ * 비활성화 상태에서는 {@link #begin()}과 {@link #end(Section, long)}가 시간을 읽지 않으므로 비용이 거의 없습니다.
+ * 렌더와 표시 구간은 렌더링 스레드에서 기록되므로 기록과 조회는 이 객체로 동기화됩니다.
+ */
+public class FrameProfiler {
+
+    /** 구간마다 보관하는 최근 측정값의 수. */
+    public static final int WINDOW = 512;
+
+    /**
+     * 프로파일링 구간.
+     */
+    public enum Section {
+        /** 입력 반영과 현재 상태의 입력 처리. */
+        INPUT("입력"),
+        /** 배경과 웨이브 관리자 업데이트. */
+        WAVE("웨이브"),
+        /** 모든 엔티티의 이동 ({@code EntityManager.moveAll}). */
+        MOVE("이동"),
+        /** 충돌 검사. */
+        COLLISION("충돌"),
+        /** 전역 레이저와 엔티티 상태 변경 처리. */
+        LIFECYCLE("생명주기"),
+        /** 엔티티 목록 정리 ({@code EntityManager.cleanup}). */
+        CLEANUP("정리"),
+        /** 이벤트 큐 처리 ({@code EventBus.dispatchPending}). */
+        EVENTS("이벤트"),
+        /** 렌더 스냅샷 생성 (시뮬레이션 스레드). */
+        CAPTURE("스냅샷"),
+        /** 스냅샷 그리기 (렌더링 스레드). */
+        RENDER("렌더"),
+        /** 버퍼 교체 (렌더링 스레드). */
+        PRESENT("표시");
+
+        /** 오버레이에 표시할 이름. */
+        private final String label;
+
+        Section(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    /** 구간별 최근 측정값 (나노초). */
+    private final Map<Section, Samples> sections = new EnumMap<>(Section.class);
+    /** 틱별 충돌 검사 쌍의 수. */
+    private final Samples pairsTested = new Samples();
+    /** 틱별 시뮬레이션 스레드 할당량 (바이트). */
+    private final Samples allocatedBytes = new Samples();
+    /** 스레드별 할당량을 제공하는 JVM 확장. 지원하지 않으면 null. */
+    private final com.sun.management.ThreadMXBean allocationBean;
+
+    /** 프로파일링 활성화 여부. */
+    private volatile boolean enabled;
+    /** 현재 틱 시작 시점의 스레드 할당량. */
+    private long tickStartAllocation = -1;
+
+    /**
+     * FrameProfiler 생성자.
+     */
+    public FrameProfiler() {
+        for (Section section : Section.values()) {
+            sections.put(section, new Samples());
+        }
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+            allocationBean = (com.sun.management.ThreadMXBean) bean;
+        } else {
+            allocationBean = null;
+        }
+    }
+
+    /**
+     * 프로파일링이 활성화되어 있는지 확인합니다.
+     * @return 활성화되어 있으면 true
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 프로파일링을 켜거나 끕니다. 켤 때 이전 측정값은 지워집니다.
+     * @param enabled 활성화하려면 true
+     */
+    public synchronized void setEnabled(boolean enabled) {
+        if (enabled && !this.enabled) {
+            for (Samples samples : sections.values()) {
+                samples.clear();
+            }
+            pairsTested.clear();
+            allocatedBytes.clear();
+            tickStartAllocation = -1;
+        }
+        this.enabled = enabled;
+    }
+
+    /**
+     * 구간 측정을 시작합니다.
+     * @return 시작 시각 (나노초), 비활성화 상태면 0
+     */
+    public long begin() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * 구간 측정을 끝내고 걸린 시간을 기록합니다.
+     * 반환값을 다음 구간의 시작 시각으로 넘기면 연속된 구간을 한 번의 시간 읽기로 측정할 수 있습니다.
+     * @param section 측정한 구간
+     * @param start {@link #begin()} 또는 직전 {@code end}가 반환한 시작 시각
+     * @return 현재 시각 (나노초), 비활성화 상태면 0
+     */
+    public long end(Section section, long start) {
+        if (!enabled) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        if (start != 0) {
+            synchronized (this) {
+                sections.get(section).add(now - start);
+            }
+        }
+        return now;
+    }
+
+    /**
+     * 시뮬레이션 틱의 시작을 알립니다. 틱 동안의 할당량 측정을 시작합니다.
+     */
+    public void beginTick() {
+        if (enabled && allocationBean != null) {
+            tickStartAllocation = allocationBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+    }
+
+    /**
+     * 시뮬레이션 틱의 끝을 알립니다. 틱 동안의 할당량을 기록합니다.
+     */
+    public void endTick() {
+        if (!enabled || allocationBean == null || tickStartAllocation < 0) {
+            return;
+        }
+        long allocated = allocationBean.getThreadAllocatedBytes(Thread.currentThread().getId()) - tickStartAllocation;
+        synchronized (this) {
+            allocatedBytes.add(allocated);
+        }
+    }
+
+    /**
+     * 이번 틱에서 충돌 검사한 엔티티 쌍의 수를 기록합니다.
+     * @param pairs 경계 검사를 수행한 쌍의 수
+     */
+    public void recordPairsTested(int pairs) {
+        if (enabled) {
+            synchronized (this) {
+                pairsTested.add(pairs);
+            }
+        }
+    }
+
+    /**
+     * 구간의 백분위 시간을 반환합니다.
+     * @param section 구간
+     * @param percentile 0.0 ~ 1.0 사이의 백분위
+     * @return 해당 백분위의 시간 (나노초), 측정값이 없으면 0
+     */
+    public synchronized long getPercentile(Section section, double percentile) {
+        return sections.get(section).percentile(percentile);
+    }
+
+    /**
+     * 충돌 검사한 쌍의 수의 백분위 값을 반환합니다.
+     * @param percentile 0.0 ~ 1.0 사이의 백분위
+     * @return 틱당 검사한 쌍의 수
+     */
+    public synchronized long getPairsTestedPercentile(double percentile) {
+        return pairsTested.percentile(percentile);
+    }
+
+    /**
+     * 틱당 할당량의 평균을 반환합니다.
+     * @return 틱당 평균 할당량 (바이트), 측정할 수 없으면 -1
+     */
+    public synchronized long getAllocatedBytesPerTick() {
+        if (allocationBean == null) {
+            return -1;
+        }
+        return (long) allocatedBytes.mean();
+    }
+
+    /**
+     * 모든 구간과 카운터의 요약 통계를 CSV 파일로 저장합니다. 빌드 간 비교를 위해 사용합니다.
+     * @param path 저장할 파일 경로
+     * @throws IOException 파일 쓰기에 실패한 경우
+     */
+    public void exportCsv(Path path) throws IOException {
+        StringBuilder csv = new StringBuilder("metric,unit,samples,mean,p50,p99,max\n");
+        synchronized (this) {
+            for (Map.Entry<Section, Samples> entry : sections.entrySet()) {
+                appendRow(csv, entry.getKey().name().toLowerCase(), "us", entry.getValue(), 1000.0);
+            }
+            appendRow(csv, "pairs_tested", "pairs/tick", pairsTested, 1.0);
+            appendRow(csv, "allocated", "bytes/tick", allocatedBytes, 1.0);
+        }
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(path, StandardCharsets.UTF_8))) {
+            writer.print(csv);
+        }
+    }
+
+    private static void appendRow(StringBuilder csv, String metric, String unit, Samples samples, double divisor) {
+        csv.append(metric).append(',').append(unit).append(',').append(samples.size()).append(',')
+                .append(String.format("%.2f,%.2f,%.2f,%.2f%n",
+                        samples.mean() / divisor,
+                        samples.percentile(0.50) / divisor,
+                        samples.percentile(0.99) / divisor,
+                        samples.percentile(1.0) / divisor));
+    }
+
+    /**
+     * 최근 {@link #WINDOW}개의 값을 보관하는 원형 버퍼.
+     */
+    private static final class Samples {
+        private final long[] values = new long[WINDOW];
+        private final long[] sorted = new long[WINDOW];
+        private int next;
+        private int size;
+
+        void add(long value) {
+            values[next] = value;
+            next = (next + 1) % WINDOW;
+            if (size < WINDOW) {
+                size++;
+            }
+        }
+
+        void clear() {
+            next = 0;
+            size = 0;
+        }
+
+        int size() {
+            return size;
+        }
+
+        double mean() {
+            if (size == 0) {
+                return 0;
+            }
+            long sum = 0;
+            for (int i = 0; i < size; i++) {
+                sum += values[i];
+            }
+            return (double) sum / size;
+        }
+
+        long percentile(double percentile) {
+            if (size == 0) {
+                return 0;
+            }
+            System.arraycopy(values, 0, sorted, 0, size);
+            Arrays.sort(sorted, 0, size);
+            int index = (int) Math.ceil(percentile * size) - 1;
+            return sorted[Math.max(0, Math.min(size - 1, index))];
+        }
+    }
+}
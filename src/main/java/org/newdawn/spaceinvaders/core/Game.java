@@ -7,14 +7,27 @@ import com.google.firebase.FirebaseOptions;
 import com.google.firebase.cloud.FirestoreClient;
 import org.newdawn.spaceinvaders.auth.AuthManager;
 import org.newdawn.spaceinvaders.auth.AuthenticatedUser;
+import org.newdawn.spaceinvaders.auth.FirestoreUserRepository;
 import org.newdawn.spaceinvaders.auth.LoginDialog;
+import org.newdawn.spaceinvaders.auth.SessionCache;
+import org.newdawn.spaceinvaders.auth.UserRepository;
+import org.newdawn.spaceinvaders.data.DatabaseManager;
+import org.newdawn.spaceinvaders.data.FirestorePlayerRepository;
+import org.newdawn.spaceinvaders.data.LocalDataStore;
+import org.newdawn.spaceinvaders.data.PlayerData;
+import org.newdawn.spaceinvaders.data.PlayerRepository;
+import org.newdawn.spaceinvaders.graphics.SpritePreloader;
+import org.newdawn.spaceinvaders.graphics.SpriteStore;
+import org.newdawn.spaceinvaders.player.PlayerManager;
+import org.newdawn.spaceinvaders.replay.InputRecorder;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Paths;
 
 /**
  * Space Invaders 게임 애플리케이션의 메인 진입점입니다.
- * Firebase 초기화, 사용자 인증, 게임 인스턴스 생성 및 전체 게임 루프의 시작을 담당합니다.
+ * 저장소(Firebase 또는 로컬 파일) 초기화, 사용자 인증, 게임 인스턴스 생성 및 전체 게임 루프의 시작을 담당합니다.
  */
 public class Game {
 
@@ -26,47 +39,127 @@ public class Game {
     public static final int GAME_WIDTH = 500;
     /** 실제 게임 플레이가 이루어지는 영역의 높이. */
     public static final int GAME_HEIGHT = 600;
+    /** 지정되면 매 플레이를 이 경로의 리플레이 파일로 기록하는 시스템 속성. */
+    public static final String RECORD_REPLAY_PROPERTY = "spaceinvaders.recordReplay";
+    /** 지정되면 Firebase 대신 이 경로의 로컬 파일에 계정과 플레이어 데이터를 저장하는 시스템 속성. */
+    public static final String LOCAL_STORE_PROPERTY = "spaceinvaders.localStore";
+    /** true로 지정되면 저장된 세션을 무시하고 로그인 다이얼로그를 띄우는 시스템 속성. */
+    public static final String FORCE_LOGIN_PROPERTY = "spaceinvaders.forceLogin";
 
     /**
      * 게임 애플리케이션의 주 실행 메소드.
      * @param argv 커맨드 라인 인수 (사용되지 않음)
      */
     public static void main(String[] argv) {
-        // Firebase 초기화
-        Firestore db = initializeFirebase();
-        if (db == null) {
-            System.err.println("Firebase 초기화 실패. 프로그램을 종료합니다.");
-            return;
+        // 로그인하는 동안 작업 스레드에서 스프라이트를 미리 불러옵니다.
+        SpritePreloader spritePreloader = new SpritePreloader(SpriteStore.get());
+        spritePreloader.start();
+
+        // 저장소 선택: 로컬 저장소 경로가 지정되면 Firebase 없이 실행
+        PlayerRepository playerRepository;
+        UserRepository userRepository;
+        LocalDataStore localStore = null;
+        String localStorePath = System.getProperty(LOCAL_STORE_PROPERTY);
+        if (localStorePath != null) {
+            try {
+                localStore = LocalDataStore.open(Paths.get(localStorePath));
+            } catch (IOException e) {
+                System.err.println("로컬 저장소를 열 수 없습니다: " + localStorePath);
+                e.printStackTrace();
+                return;
+            }
+            playerRepository = localStore;
+            userRepository = localStore;
+        } else {
+            // Firebase 초기화
+            Firestore db = initializeFirebase();
+            if (db == null) {
+                System.err.println("Firebase 초기화 실패. 프로그램을 종료합니다.");
+                return;
+            }
+            playerRepository = new FirestorePlayerRepository(db);
+            userRepository = new FirestoreUserRepository(db);
         }
 
-        // 인증 관리자 생성
-        AuthManager authManager = new AuthManager(db);
+        // 저장된 세션이 있으면 로그인 다이얼로그 없이 바로 시작
+        SessionCache sessionCache = new SessionCache(SessionCache.defaultDirectory(),
+                localStorePath != null ? "local:" + Paths.get(localStorePath).toAbsolutePath() : "firestore");
+        SessionCache.Session session = Boolean.getBoolean(FORCE_LOGIN_PROPERTY) ? null : sessionCache.load();
+        AuthenticatedUser user;
+        if (session != null) {
+            user = session.getUser();
+        } else {
+            // 인증 관리자 생성
+            AuthManager authManager = new AuthManager(userRepository);
 
-        // 로그인 다이얼로그 생성 및 표시
-        LoginDialog loginDialog = new LoginDialog(null, authManager);
-        AuthenticatedUser user = loginDialog.showDialog();
+            // 로그인 다이얼로그 생성 및 표시
+            LoginDialog loginDialog = new LoginDialog(null, authManager);
+            user = loginDialog.showDialog();
 
-        // 로그인 성공 여부 확인
-        if (user == null) {
-            // 로그인 실패 또는 취소
-            System.out.println("로그인이 취소되었습니다. 프로그램을 종료합니다.");
-            System.exit(0);
+            // 로그인 성공 여부 확인
+            if (user == null) {
+                // 로그인 실패 또는 취소
+                System.out.println("로그인이 취소되었습니다. 프로그램을 종료합니다.");
+                System.exit(0);
+            }
+            sessionCache.save(user, null, false);
         }
 
         // 로그인 성공 시, 게임 시작
         System.out.println(user.getUsername() + "님, 환영합니다!");
 
         // 팩토리를 사용하여 게임 인스턴스 생성
-        GameFactory gameFactory = new GameFactory(db, user);
+        GameFactory gameFactory = new GameFactory(playerRepository, user);
         GameManager gameManager = gameFactory.createGame();
 
+        gameManager.setSpritePreloader(spritePreloader);
+        // 종료 시 아직 저장되지 않은 플레이어 데이터를 마저 저장하고, 다음 실행을 위해 세션을 남깁니다.
+        DatabaseManager databaseManager = gameManager.getGameContainer().getDatabaseManager();
+        PlayerManager playerManager = gameManager.getPlayerManager();
+        LocalDataStore storeToClose = localStore;
+        AuthenticatedUser sessionUser = user;
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            boolean synced = shutdownStorage(databaseManager, storeToClose);
+            PlayerData currentPlayer = playerManager.getCurrentPlayer();
+            boolean unsynced = !synced || (currentPlayer != null && !currentPlayer.changedPaths().isEmpty());
+            sessionCache.save(sessionUser, currentPlayer, unsynced);
+        }, "DatabaseShutdown"));
+
+        String replayPath = System.getProperty(RECORD_REPLAY_PROPERTY);
+        if (replayPath != null) {
+            gameManager.setInputRecorder(new InputRecorder(Paths.get(replayPath)));
+        }
+
         // 게임 초기화 및 시작
         gameManager.init();
         gameManager.setCurrentState(GameState.Type.MAIN_MENU);
-        gameManager.initializePlayer();
+        PlayerData cachedPlayer = session != null ? session.getPlayerData() : null;
+        if (cachedPlayer != null) {
+            gameManager.initializePlayerFromCache(cachedPlayer, session.isUnsynced());
+        } else {
+            gameManager.initializePlayer();
+        }
         gameManager.startGame();
     }
 
+    /**
+     * 남은 플레이어 데이터를 저장하고 로컬 저장소를 닫습니다. 종료 훅에서 호출됩니다.
+     * @param databaseManager 저장을 기다릴 데이터베이스 관리자
+     * @param localStore 닫을 로컬 저장소, Firestore를 사용하면 null
+     * @return 남은 플레이어 데이터를 모두 저장했으면 true
+     */
+    private static boolean shutdownStorage(DatabaseManager databaseManager, LocalDataStore localStore) {
+        boolean synced = databaseManager.shutdown();
+        if (localStore != null) {
+            try {
+                localStore.close();
+            } catch (IOException e) {
+                System.err.println("로컬 저장소를 닫는 중 오류 발생: " + e.getMessage());
+            }
+        }
+        return synced;
+    }
+
     /**
      * Firebase Admin SDK를 초기화하고 Firestore 인스턴스를 반환합니다.
      * 리소스 폴더에서 `serviceAccountKey.json` 파일을 찾아 인증을 수행합니다.
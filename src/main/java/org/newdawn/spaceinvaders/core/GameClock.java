@@ -0,0 +1,37 @@
+package org.newdawn.spaceinvaders.core;
+
+/**
+ * 시뮬레이션된 게임 시간을 제공하는 시계입니다.
+ * 실제 시간과 무관하게 게임 월드가 업데이트될 때마다 그 업데이트가 시뮬레이션한 시간만큼만 앞으로 갑니다.
+ * 따라서 일시정지 중에는 멈추고, 헤드리스 모드에서 빠르게 돌리면 그만큼 빨리 흐르며,
+ * 같은 입력과 난수 시드에서는 실행 속도와 관계없이 항상 같은 결과를 냅니다.
+ * 엔티티와 관리자는 {@link System#currentTimeMillis()} 대신 {@link GameContext#getClock()}으로 시간을 읽어야 합니다.
+ */
+public class GameClock {
+
+    /** 지금까지 시뮬레이션된 시간 (밀리초). */
+    private long time;
+
+    /**
+     * 현재 게임 시간을 반환합니다.
+     * @return 게임 시작 이후 시뮬레이션된 시간 (밀리초)
+     */
+    public long getTime() {
+        return time;
+    }
+
+    /**
+     * 게임 시간을 지정된 만큼 앞으로 진행시킵니다.
+     * @param delta 시뮬레이션된 시간 (밀리초)
+     */
+    public void advance(long delta) {
+        time += delta;
+    }
+
+    /**
+     * 게임 시간을 0으로 되돌립니다. 게임 플레이가 시작될 때마다 호출되어, 같은 플레이는 항상 같은 시간에서 출발합니다.
+     */
+    public void reset() {
+        time = 0;
+    }
+}
@@ -1,13 +1,16 @@
 package org.newdawn.spaceinvaders.core;
 
 import org.newdawn.spaceinvaders.entity.Entity;
+import org.newdawn.spaceinvaders.entity.EntityPool;
 import org.newdawn.spaceinvaders.entity.ShipEntity;
 import org.newdawn.spaceinvaders.entity.weapon.Weapon;
 import org.newdawn.spaceinvaders.graphics.Sprite;
+import org.newdawn.spaceinvaders.graphics.SpritePreloader;
 import org.newdawn.spaceinvaders.view.Background;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 
 /**
  * 게임의 다른 구성 요소들이 핵심 시스템과 상호작용할 수 있도록 하는 퍼사드(Facade) 인터페이스.
@@ -78,6 +81,38 @@ public interface GameContext {
      */
     ShipEntity getShip();
 
+    /**
+     * 발사체와 폭발 효과를 재사용하는 객체 풀을 반환합니다.
+     * @return 엔티티 풀
+     */
+    EntityPool getEntityPool();
+
+    // --- 시간 및 난수 ---
+
+    /**
+     * 시뮬레이션된 게임 시간을 제공하는 시계를 반환합니다.
+     * @return 게임 시계
+     */
+    GameClock getClock();
+
+    /**
+     * 게임 로직에서 사용하는 시드 고정 가능한 난수 생성기를 반환합니다.
+     * @return 난수 생성기
+     */
+    Random getRandom();
+
+    /**
+     * 게임 루프 구간별 시간을 기록하는 프레임 프로파일러를 반환합니다.
+     * @return 프레임 프로파일러
+     */
+    FrameProfiler getProfiler();
+
+    /**
+     * 시작 시 스프라이트를 미리 불러오는 프리로더를 반환합니다.
+     * @return 스프라이트 프리로더, 미리 불러오지 않으면 null
+     */
+    SpritePreloader getSpritePreloader();
+
     // --- 플레이어 상태 ---
 
     /**
@@ -142,7 +177,7 @@ public interface GameContext {
 
     /**
      * 메시지가 사라질 시간을 설정합니다.
-     * @param time 메시지가 사라질 시스템 시간 (타임스탬프)
+     * @param time 메시지가 사라질 게임 시간 (밀리초)
      */
     void setMessageEndTime(long time);
 
@@ -7,10 +7,10 @@ import org.newdawn.spaceinvaders.sound.SoundManager;
 
 /**
  * 게임 내에서 발생하는 모든 이벤트를 수신하고 처리하는 중앙 이벤트 핸들러.
- * {@link EventListener}를 구현하며, {@link EventBus}에 등록되어
+ * 이벤트 클래스별로 {@link EventBus}에 처리 메소드를 등록하여
  * 다양한 타입의 이벤트를 각각의 처리 메소드로 위임합니다.
  */
-public class GameEventHandler implements EventListener {
+public class GameEventHandler {
 
     private final GameContext gameContext;
     private final PlayerManager playerManager;
@@ -38,24 +38,16 @@ public class GameEventHandler implements EventListener {
     }
 
     /**
-     * {@link EventBus}로부터 이벤트를 수신하여 타입에 맞는 핸들러 메소드를 호출합니다.
-     * @param event 발행된 이벤트 객체
+     * 각 이벤트 클래스에 맞는 핸들러 메소드를 {@link EventBus}에 등록합니다.
+     * @param eventBus 이벤트를 구독할 이벤트 버스
      */
-    @Override
-    public void onEvent(Event event) {
-        if (event instanceof PlayerDiedEvent) {
-            handlePlayerDied();
-        } else if (event instanceof GameWonEvent) {
-            handleGameWon();
-        } else if (event instanceof AlienKilledEvent) {
-            handleAlienKilled();
-        } else if (event instanceof AlienEscapedEvent) {
-            handleAlienEscaped((AlienEscapedEvent) event);
-        } else if (event instanceof MeteorDestroyedEvent) {
-            handleMeteorDestroyed((MeteorDestroyedEvent) event);
-        } else if (event instanceof ItemCollectedEvent) {
-            handleItemCollected();
-        }
+    public void subscribe(EventBus eventBus) {
+        eventBus.subscribe(PlayerDiedEvent.class, event -> handlePlayerDied());
+        eventBus.subscribe(GameWonEvent.class, event -> handleGameWon());
+        eventBus.subscribe(AlienKilledEvent.class, event -> handleAlienKilled());
+        eventBus.subscribe(AlienEscapedEvent.class, this::handleAlienEscaped);
+        eventBus.subscribe(MeteorDestroyedEvent.class, this::handleMeteorDestroyed);
+        eventBus.subscribe(ItemCollectedEvent.class, event -> handleItemCollected());
     }
 
     /** 아이템 수집 이벤트를 처리합니다. */
@@ -82,7 +74,7 @@ public class GameEventHandler implements EventListener {
         entityManager.decreaseAlienCount();
 
         // 버프 드롭 로직
-        double roll = Math.random();
+        double roll = gameContext.getRandom().nextDouble();
         if (roll < 0.05) { // 5% 확률로 무적
             gameContext.getShip().getBuffManager().addBuff(org.newdawn.spaceinvaders.player.BuffType.INVINCIBILITY);
         } else if (roll < 0.10) { // 5% 확률로 속도 증가
@@ -1,8 +1,8 @@
 package org.newdawn.spaceinvaders.core;
 
-import com.google.cloud.firestore.Firestore;
 import org.newdawn.spaceinvaders.auth.AuthenticatedUser;
 import org.newdawn.spaceinvaders.data.DatabaseManager;
+import org.newdawn.spaceinvaders.data.PlayerRepository;
 import org.newdawn.spaceinvaders.shop.ShopManager;
 import org.newdawn.spaceinvaders.sound.SoundManager;
 import org.newdawn.spaceinvaders.player.PlayerManager;
@@ -14,7 +14,6 @@ import org.newdawn.spaceinvaders.view.MainMenu;
 import org.newdawn.spaceinvaders.view.PauseMenu;
 import org.newdawn.spaceinvaders.view.GameOverMenu;
 import org.newdawn.spaceinvaders.view.Background;
-import org.newdawn.spaceinvaders.graphics.Sprite;
 import org.newdawn.spaceinvaders.graphics.SpriteStore;
 import org.newdawn.spaceinvaders.view.ConfirmDialog;
 import org.newdawn.spaceinvaders.view.UIManager;
@@ -26,6 +25,7 @@ import org.newdawn.spaceinvaders.entity.weapon.Laser;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Random;
 
 /**
  * 게임에 필요한 모든 객체를 생성하고 의존성을 주입하여 조립하는 팩토리 클래스.
@@ -33,19 +33,19 @@ import java.util.Map;
  */
 public class GameFactory {
 
-    /** Firestore 데이터베이스 인스턴스. */
-    private final Firestore db;
+    /** 플레이어 데이터를 저장하는 저장소. */
+    private final PlayerRepository playerRepository;
     /** 현재 인증된 사용자 정보. */
     private final AuthenticatedUser user;
 
     /**
      * GameFactory 생성자.
-     * @param db Firestore 데이터베이스 인스턴스
+     * @param playerRepository 플레이어 데이터를 저장하는 저장소
      * @param user 인증된 사용자 객체
      */
 
-    public GameFactory(Firestore db, AuthenticatedUser user) {
-        this.db = db;
+    public GameFactory(PlayerRepository playerRepository, AuthenticatedUser user) {
+        this.playerRepository = playerRepository;
         this.user = user;
     }
 
@@ -58,26 +58,22 @@ public class GameFactory {
     public GameManager createGame() {
         // 1. 관리자 및 핵심 구성 요소 생성
         GameManager gameManager = new GameManager();
+        Random random = createRandom();
+        gameManager.setRandom(random);
         InputHandler inputHandler = new InputHandler();
-        DatabaseManager databaseManager = new DatabaseManager(db);
+        DatabaseManager databaseManager = new DatabaseManager(playerRepository);
         ShopManager shopManager = new ShopManager();
-        FormationManager formationManager = new FormationManager();
-        SoundManager soundManager = new SoundManager();
+        FormationManager formationManager = new FormationManager(random);
+        SoundManager soundManager = createSoundManager();
         WaveManager waveManager = new WaveManager(gameManager, formationManager);
-        PlayerManager playerManager = new PlayerManager(user, databaseManager, shopManager, soundManager, waveManager);
+        PlayerManager playerManager = new PlayerManager(user, databaseManager, shopManager, soundManager, waveManager, gameManager.getClock());
         EntityManager entityManager = new EntityManager(gameManager);
         GameStateManager gsm = new GameStateManager();
         GameStateFactory gameStateFactory = new GameStateFactory();
         EntityLifecycleManager entityLifecycleManager = new EntityLifecycleManager();
 
         // 2. UI 구성 요소 생성
-        GameWindow gameWindow = new GameWindow(inputHandler);
-        MainMenu mainMenu = new MainMenu();
-        PauseMenu pauseMenu = new PauseMenu();
-        GameOverMenu gameOverMenu = new GameOverMenu();
-        ConfirmDialog confirmDialog = new ConfirmDialog("Are you sure you want to exit?");
-        Sprite staticBackgroundSprite = SpriteStore.get().getSprite("sprites/background.jpg");
-        UIManager uiManager = new UIManager(gameWindow, mainMenu, pauseMenu, gameOverMenu, confirmDialog, staticBackgroundSprite);
+        UIManager uiManager = createUIManager(inputHandler);
 
         // 3. 게임 세계 및 컨테이너 생성
         GameContainer gameContainer = new GameContainer(databaseManager, playerManager, shopManager, soundManager,
@@ -99,4 +95,39 @@ public class GameFactory {
 
         return gameManager;
     }
+
+    /**
+     * 게임 로직에서 사용할 난수 생성기를 생성합니다.
+     * @return 시드가 고정되지 않은 난수 생성기
+     */
+    protected Random createRandom() {
+        return new Random();
+    }
+
+    /**
+     * 게임에서 사용할 사운드 관리자를 생성합니다.
+     * @return 모든 사운드를 로드한 사운드 관리자
+     */
+    protected SoundManager createSoundManager() {
+        return new SoundManager();
+    }
+
+    /**
+     * 게임 창과 메뉴를 포함한 UI 관리자를 생성합니다.
+     * @param inputHandler 게임 창에 연결할 입력 핸들러
+     * @return UI 관리자
+     */
+    private UIManager createUIManager(InputHandler inputHandler) {
+        return new UIManager(createGameWindow(inputHandler), new MainMenu(), new PauseMenu(), new GameOverMenu(),
+                new ConfirmDialog("Are you sure you want to exit?"), SpriteStore.get().getSprite("sprites/background.jpg"));
+    }
+
+    /**
+     * 게임이 그려질 창을 생성합니다.
+     * @param inputHandler 게임 창에 연결할 입력 핸들러
+     * @return 게임 창
+     */
+    protected GameWindow createGameWindow(InputHandler inputHandler) {
+        return new GameWindow(inputHandler);
+    }
 }
\ No newline at end of file
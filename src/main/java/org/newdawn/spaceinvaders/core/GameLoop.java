@@ -1,16 +1,24 @@
 package org.newdawn.spaceinvaders.core;
 
 import org.newdawn.spaceinvaders.core.GameStateManager;
+import org.newdawn.spaceinvaders.graphics.RenderSnapshot;
+import org.newdawn.spaceinvaders.replay.InputRecorder;
 import org.newdawn.spaceinvaders.view.GameWindow;
 
-import java.awt.Graphics2D;
-
 /**
  * 게임의 메인 루프를 책임지는 클래스입니다.
- * 정해진 주기에 따라 입력 처리, 게임 상태 업데이트, 렌더링을 반복적으로 수행합니다.
+ * 실제 경과 시간을 누산기에 모아 고정된 간격({@link #UPDATE_STEP}ms)으로 입력 처리와 게임 상태 업데이트를 수행하고,
+ * 업데이트가 끝날 때마다 화면의 불변 스냅샷을 {@link RenderThread}에 넘깁니다.
+ * 렌더링은 별도 스레드에서 직전 틱과 현재 틱 사이를 보간하여 그리므로, 시뮬레이션과 렌더링이 겹쳐서 실행됩니다.
+ * 프레임이 느려져도 틱 간격이 일정하므로 물리 계산이 결정적으로 유지됩니다.
  */
 public class GameLoop {
 
+    /** 한 번의 로직 업데이트가 시뮬레이션하는 시간 (밀리초, 125Hz). */
+    public static final long UPDATE_STEP = 8;
+    /** 한 프레임에서 따라잡기 위해 수행할 수 있는 최대 업데이트 횟수. */
+    private static final int MAX_UPDATES_PER_FRAME = 5;
+
     /** 게임 상태를 관리하는 객체. */
     private final GameStateManager gsm;
     /** 사용자 입력을 처리하는 객체. */
@@ -19,11 +27,15 @@ public class GameLoop {
     private final GameWindow gameWindow;
     /** 게임의 중앙 관리자. */
     private final GameManager gameManager;
+    /** 게임 상태 업데이트와 렌더링 스레드의 직접 렌더링을 직렬화하는 잠금 객체. */
+    private final Object stateLock = new Object();
 
     /** 게임 루프의 실행 여부를 제어. */
     private boolean gameRunning = true;
     /** 마지막 루프 실행 시간을 저장. */
     private long lastLoopTime;
+    /** 아직 시뮬레이션되지 않은 누적 시간 (밀리초). */
+    private long accumulator;
 
     /**
      * GameLoop의 생성자.
@@ -42,35 +54,79 @@ public class GameLoop {
 
     /**
      * 메인 게임 루프를 시작하고 실행합니다.
-     * `gameRunning` 플래그가 false가 될 때까지 입력을 처리하고, 상태를 업데이트하며, 화면을 렌더링합니다.
+     * `gameRunning` 플래그가 false가 될 때까지 누적된 시간만큼 고정 간격 업데이트를 수행하고 화면을 렌더링합니다.
+     * GC 등으로 긴 정지가 발생하면 최대 {@link #MAX_UPDATES_PER_FRAME}번만 따라잡고 나머지 시간은 버립니다.
      */
     public void run() {
+        FrameProfiler profiler = gameManager.getProfiler();
+        RenderThread renderThread = new RenderThread(gsm, gameWindow.getGameCanvas(), stateLock, profiler);
+        renderThread.start();
+
         lastLoopTime = SystemTimer.getTime();
+        accumulator = 0;
         while (gameRunning) {
-            long delta = SystemTimer.getTime() - lastLoopTime;
-            lastLoopTime = SystemTimer.getTime();
+            long now = SystemTimer.getTime();
+            accumulator += now - lastLoopTime;
+            lastLoopTime = now;
 
-            gsm.handleInput(inputHandler);
-            gsm.update(delta);
-
-            if (gameManager.getMessageEndTime() > 0 && System.currentTimeMillis() > gameManager.getMessageEndTime()) {
-                gameManager.setMessage("");
-                gameManager.setMessageEndTime(0);
+            int updates = 0;
+            while (accumulator >= UPDATE_STEP && updates < MAX_UPDATES_PER_FRAME) {
+                synchronized (stateLock) {
+                    tick(UPDATE_STEP);
+                }
+                accumulator -= UPDATE_STEP;
+                updates++;
             }
-
-            if (gameManager.nextState != null) {
-                gameManager.setCurrentState(gameManager.nextState);
-                gameManager.nextState = null;
+            if (accumulator >= UPDATE_STEP) {
+                // 따라잡기 한도를 넘은 시간은 버려서 업데이트가 계속 밀리는 것을 방지
+                accumulator %= UPDATE_STEP;
             }
 
-            Graphics2D g = gameWindow.getGameCanvas().getGraphics2D();
-            if (g != null) {
-                gsm.render(g);
-                g.dispose();
-                gameWindow.getGameCanvas().showStrategy();
+            if (updates > 0) {
+                long captureStart = profiler.begin();
+                RenderSnapshot snapshot = gsm.captureRenderSnapshot((double) accumulator / UPDATE_STEP);
+                profiler.end(FrameProfiler.Section.CAPTURE, captureStart);
+                renderThread.publish(snapshot);
             }
 
-            SystemTimer.sleep(lastLoopTime + 10 - SystemTimer.getTime());
+            // 다음 틱이 필요해질 때까지 대기
+            SystemTimer.sleep(lastLoopTime + UPDATE_STEP - accumulator - SystemTimer.getTime());
+        }
+
+        renderThread.stop();
+    }
+
+    /**
+     * 고정된 시간 간격만큼 입력 처리와 게임 상태 업데이트, 상태 전환을 수행합니다.
+     * @param delta 시뮬레이션할 시간 (밀리초)
+     */
+    private void tick(long delta) {
+        FrameProfiler profiler = gameManager.getProfiler();
+        profiler.beginTick();
+        long inputStart = profiler.begin();
+        inputHandler.update();
+        InputRecorder inputRecorder = gameManager.getInputRecorder();
+        if (inputRecorder != null) {
+            inputRecorder.recordTick(inputHandler.getAppliedKeyEvents());
+        }
+        gsm.handleInput(inputHandler);
+        profiler.end(FrameProfiler.Section.INPUT, inputStart);
+        gsm.update(delta);
+
+        if (gameManager.getMessageEndTime() > 0 && gameManager.getClock().getTime() > gameManager.getMessageEndTime()) {
+            gameManager.setMessage("");
+            gameManager.setMessageEndTime(0);
+        }
+
+        if (gameManager.nextState != null) {
+            gameManager.setCurrentState(gameManager.nextState);
+            gameManager.nextState = null;
+        }
+
+        // 백그라운드에서 받아 온 저장소의 플레이어 데이터는 메인 메뉴에서만 반영하여 플레이 중 스탯이 바뀌지 않게 함
+        if (gameManager.getCurrentStateType() == GameState.Type.MAIN_MENU) {
+            gameManager.getPlayerManager().applyReconciledPlayer();
         }
+        profiler.endTick();
     }
 }
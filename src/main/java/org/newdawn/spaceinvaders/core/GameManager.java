@@ -3,12 +3,15 @@ package org.newdawn.spaceinvaders.core;
 import org.newdawn.spaceinvaders.data.PlayerData;
 import org.newdawn.spaceinvaders.entity.Entity;
 import org.newdawn.spaceinvaders.entity.EntityManager;
+import org.newdawn.spaceinvaders.entity.EntityPool;
 import org.newdawn.spaceinvaders.entity.ShipEntity;
 import org.newdawn.spaceinvaders.entity.weapon.Weapon;
 import org.newdawn.spaceinvaders.gamestates.*;
 import org.newdawn.spaceinvaders.graphics.Sprite;
+import org.newdawn.spaceinvaders.graphics.SpritePreloader;
 import org.newdawn.spaceinvaders.player.PlayerManager;
 import org.newdawn.spaceinvaders.player.PlayerStats;
+import org.newdawn.spaceinvaders.replay.InputRecorder;
 import org.newdawn.spaceinvaders.shop.ShopManager;
 import org.newdawn.spaceinvaders.sound.SoundManager;
 import org.newdawn.spaceinvaders.view.*;
@@ -16,6 +19,7 @@ import org.newdawn.spaceinvaders.wave.WaveManager;
 
 import java.awt.Graphics2D;
 import java.util.Map;
+import java.util.Random;
 
 /**
  * 게임의 핵심 로직을 관리하고, 모든 하위 시스템(Manager)을 연결하는 중앙 허브 클래스.
@@ -35,6 +39,8 @@ public class GameManager implements GameContext {
     /** 게임 월드의 엔티티와 웨이브를 관리하는 객체. */
     private GameWorld gameWorld;
 
+    /** 현재 게임 상태의 타입. */
+    private GameState.Type currentStateType;
     /** 다음으로 전환될 게임 상태의 타입. */
     public GameState.Type nextState = null;
     /** 화면에 표시될 메시지. */
@@ -56,13 +62,24 @@ public class GameManager implements GameContext {
     private GameLoop gameLoop;
     /** 게임 내 이벤트를 발행하고 구독하는 이벤트 버스. */
     private final EventBus eventBus;
+    /** 시뮬레이션된 게임 시간을 제공하는 시계. */
+    private final GameClock clock;
+    /** 게임 로직에서 사용하는 난수 생성기. */
+    private Random random = new Random();
+    /** 플레이 입력을 리플레이로 기록하는 기록기. 기록하지 않으면 null. */
+    private InputRecorder inputRecorder;
+    /** 게임 루프 구간별 시간을 기록하는 프로파일러. */
+    private final FrameProfiler profiler = new FrameProfiler();
+    /** 시작 시 스프라이트를 미리 불러오는 프리로더. 미리 불러오지 않으면 null. */
+    private SpritePreloader spritePreloader;
 
     /**
      * GameManager 생성자.
      * 의존성은 setter를 통해 주입됩니다.
      */
     public GameManager() {
-        this.gameSession = new GameSession();
+        this.clock = new GameClock();
+        this.gameSession = new GameSession(clock);
         this.eventBus = new EventBus();
     }
 
@@ -71,7 +88,7 @@ public class GameManager implements GameContext {
      */
     public void init() {
         this.gameEventHandler = new GameEventHandler(this, getPlayerManager(), getEntityManager(), getSoundManager(), this.gameSession);
-        getEventBus().register(this.gameEventHandler);
+        this.gameEventHandler.subscribe(getEventBus());
     }
 
     /**
@@ -154,6 +171,47 @@ public class GameManager implements GameContext {
         this.gameContainer = gameContainer;
     }
 
+    /**
+     * 난수 생성기를 주입합니다. 시드를 고정하면 같은 입력에 대해 같은 게임이 재현됩니다.
+     * @param random 게임 로직에서 사용할 난수 생성기
+     */
+    public void setRandom(Random random) {
+        this.random = random;
+    }
+
+    /**
+     * 입력 기록기를 주입합니다. 설정되면 이후의 모든 게임 플레이가 리플레이로 기록됩니다.
+     * @param inputRecorder 입력 기록기
+     */
+    public void setInputRecorder(InputRecorder inputRecorder) {
+        this.inputRecorder = inputRecorder;
+    }
+
+    /**
+     * 스프라이트 프리로더를 주입합니다. 설정되면 게임 플레이는 미리 불러오기가 끝난 뒤에 시작됩니다.
+     * @param spritePreloader 스프라이트 프리로더
+     */
+    public void setSpritePreloader(SpritePreloader spritePreloader) {
+        this.spritePreloader = spritePreloader;
+    }
+
+    /**
+     * 시작 시 스프라이트를 미리 불러오는 프리로더를 반환합니다.
+     * @return 스프라이트 프리로더, 미리 불러오지 않으면 null
+     */
+    @Override
+    public SpritePreloader getSpritePreloader() {
+        return spritePreloader;
+    }
+
+    /**
+     * 입력 기록기를 반환합니다.
+     * @return 입력 기록기, 기록하지 않으면 null
+     */
+    public InputRecorder getInputRecorder() {
+        return inputRecorder;
+    }
+
     /**
      * 무기 정보를 주입합니다.
      * @param weapons 사용 가능한 무기 맵
@@ -188,6 +246,16 @@ public class GameManager implements GameContext {
         gameContainer.getUiManager().setShopMenu(new ShopMenu(getShopManager().getAllUpgrades()));
     }
 
+    /**
+     * 로컬 세션 캐시의 플레이어 데이터로 플레이어 관련 시스템을 초기화합니다. 저장소와의 대조는 백그라운드에서 이루어집니다.
+     * @param cachedPlayer 세션 캐시의 플레이어 데이터
+     * @param unsynced 캐시된 데이터에 저장소에 반영되지 않은 변경이 남아 있으면 true
+     */
+    public void initializePlayerFromCache(PlayerData cachedPlayer, boolean unsynced) {
+        getPlayerManager().initializeFromCache(cachedPlayer, unsynced);
+        gameContainer.getUiManager().setShopMenu(new ShopMenu(getShopManager().getAllUpgrades()));
+    }
+
     /**
      * 게임을 시작하고 메인 게임 루프를 실행합니다.
      */
@@ -203,10 +271,22 @@ public class GameManager implements GameContext {
      */
     @Override
     public void setCurrentState(GameState.Type stateType) {
+        if (inputRecorder != null && inputRecorder.isRecording() && stateType != GameState.Type.PLAYING) {
+            inputRecorder.finish(getPlayerManager().getScore(), getWaveManager().getWave());
+        }
         GameState newState = gameStateFactory.create(stateType, this);
+        currentStateType = stateType;
         getGsm().setState(newState);
     }
 
+    /**
+     * 현재 게임 상태의 타입을 반환합니다.
+     * @return 현재 게임 상태의 타입, 아직 설정되지 않았으면 null
+     */
+    public GameState.Type getCurrentStateType() {
+        return currentStateType;
+    }
+
     /**
      * 다음 게임 루프에서 전환될 게임 상태를 설정합니다.
      * @param stateType 다음 프레임에 설정될 게임 상태의 타입
@@ -262,12 +342,46 @@ public class GameManager implements GameContext {
     @Override
     public ShipEntity getShip() { return gameWorld.getShip(); }
 
+    /**
+     * 발사체와 폭발 효과를 재사용하는 객체 풀을 반환합니다.
+     * @return 엔티티 풀
+     */
+    @Override
+    public EntityPool getEntityPool() { return gameWorld.getEntityManager().getEntityPool(); }
+
     /**
      * 실제 게임 플레이를 시작합니다.
-     * 플레이어 관련 설정을 초기화하고 게임 플레이 상태로 전환합니다.
+     * 현재 난수 생성기에서 새 시드를 뽑아 {@link #startGameplay(long)}을 호출합니다.
      */
     @Override
     public void startGameplay() {
+        startGameplay(random.nextLong());
+    }
+
+    /**
+     * 지정된 시드로 게임 플레이를 시작합니다.
+     * 이전 게임에서 전달되지 않은 이벤트를 버리고 게임 시계를 0으로 되돌리고 난수 생성기를 시드로 초기화한 뒤,
+     * 플레이어 관련 설정을 초기화하고 게임 플레이 상태로 전환합니다.
+     * 같은 시드와 같은 틱별 입력이 주어지면 같은 플레이가 재현됩니다.
+     * 스프라이트를 아직 불러오는 중이라면 게임 중 디스크 접근이 없도록 불러오기가 끝날 때까지 기다립니다.
+     * @param seed 이번 플레이에서 사용할 난수 시드
+     */
+    public void startGameplay(long seed) {
+        if (spritePreloader != null) {
+            spritePreloader.awaitCompletion();
+        }
+        getEventBus().clearPending();
+        clock.reset();
+        // 무기는 게임 사이에 재사용되므로 이전 게임의 시계를 기준으로 한 발사 시간을 초기화합니다.
+        if (weapons != null) {
+            for (Weapon weapon : weapons.values()) {
+                weapon.reset();
+            }
+        }
+        random.setSeed(seed);
+        if (inputRecorder != null) {
+            inputRecorder.start(seed, getCurrentPlayer(), getInputHandler());
+        }
         getPlayerManager().startGameplay();
     }
 
@@ -349,6 +463,33 @@ public class GameManager implements GameContext {
         return gameWorld.getBackground();
     }
 
+    /**
+     * 시뮬레이션된 게임 시간을 제공하는 시계를 반환합니다.
+     * @return 게임 시계
+     */
+    @Override
+    public GameClock getClock() {
+        return clock;
+    }
+
+    /**
+     * 게임 로직에서 사용하는 난수 생성기를 반환합니다.
+     * @return 난수 생성기
+     */
+    @Override
+    public Random getRandom() {
+        return random;
+    }
+
+    /**
+     * 게임 루프 구간별 시간을 기록하는 프레임 프로파일러를 반환합니다.
+     * @return 프레임 프로파일러
+     */
+    @Override
+    public FrameProfiler getProfiler() {
+        return profiler;
+    }
+
     /**
      * 게임 내 이벤트 버스를 반환합니다.
      * @return 이벤트 버스
@@ -6,11 +6,21 @@ package org.newdawn.spaceinvaders.core;
  */
 public class GameSession {
 
+    /** 시뮬레이션된 게임 시간을 제공하는 시계. */
+    private final GameClock clock;
     /** 현재 세션에서 수집한 아이템의 수. */
     private int collectedItems = 0;
-    /** 플레이어의 공격이 비활성화되는 시간 (타임스탬프). */
+    /** 플레이어의 공격이 비활성화되는 시간 (게임 시간, 밀리초). */
     private long playerAttackDisabledUntil = 0;
 
+    /**
+     * GameSession 생성자.
+     * @param clock 시뮬레이션된 게임 시간을 제공하는 시계
+     */
+    public GameSession(GameClock clock) {
+        this.clock = clock;
+    }
+
     /**
      * 아이템이 수집되었음을 알리고 카운터를 증가시킵니다.
      */
@@ -27,6 +37,6 @@ public class GameSession {
     }
 
     public boolean canPlayerAttack() {
-        return System.currentTimeMillis() > playerAttackDisabledUntil;
+        return clock.getTime() > playerAttackDisabledUntil;
     }
 }
@@ -1,5 +1,7 @@
 package org.newdawn.spaceinvaders.core;
 
+import org.newdawn.spaceinvaders.graphics.RenderSnapshot;
+
 import java.awt.Graphics2D;
 
 /**
@@ -51,6 +53,17 @@ public interface GameState {
      */
     void render(Graphics2D g);
 
+    /**
+     * 렌더링 스레드가 게임 상태에 접근하지 않고 그릴 수 있도록 현재 화면의 불변 스냅샷을 만듭니다.
+     * 스냅샷을 지원하지 않는 상태는 null을 반환하며, 이 경우 렌더링 스레드는 게임 상태를 잠근 채 {@link #render(Graphics2D)}를 호출합니다.
+     *
+     * @param alpha 스냅샷 생성 시점의 보간 비율
+     * @return 렌더 스냅샷, 지원하지 않으면 null
+     */
+    default RenderSnapshot captureRenderSnapshot(double alpha) {
+        return null;
+    }
+
     /**
      * 이 상태로 처음 진입할 때 한 번 호출됩니다.
      */
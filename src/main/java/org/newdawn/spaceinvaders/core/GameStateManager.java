@@ -2,6 +2,7 @@ package org.newdawn.spaceinvaders.core;
 
 import org.newdawn.spaceinvaders.gamestates.MainMenuState;
 import org.newdawn.spaceinvaders.gamestates.PlayingState;
+import org.newdawn.spaceinvaders.graphics.RenderSnapshot;
 
 /**
  * 게임의 상태(GameState)를 관리하는 클래스 (상태 머신).
@@ -81,4 +82,16 @@ public class GameStateManager {
             currentState.render(g);
         }
     }
+
+    /**
+     * 현재 게임 상태의 렌더 스냅샷을 만듭니다.
+     * @param alpha 스냅샷 생성 시점의 보간 비율
+     * @return 렌더 스냅샷, 현재 상태가 지원하지 않으면 null
+     */
+    public RenderSnapshot captureRenderSnapshot(double alpha) {
+        if (currentState != null) {
+            return currentState.captureRenderSnapshot(alpha);
+        }
+        return null;
+    }
 }
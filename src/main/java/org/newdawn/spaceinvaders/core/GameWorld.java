@@ -3,7 +3,6 @@ package org.newdawn.spaceinvaders.core;
 import org.newdawn.spaceinvaders.entity.Entity;
 import org.newdawn.spaceinvaders.entity.EntityManager;
 import org.newdawn.spaceinvaders.entity.ShipEntity;
-import org.newdawn.spaceinvaders.entity.Projectile.LaserEntity;
 import org.newdawn.spaceinvaders.view.Background;
 import org.newdawn.spaceinvaders.wave.WaveManager;
 
@@ -21,6 +20,7 @@ public class GameWorld {
     private final WaveManager waveManager;
     private final GameContext gameContext;
     private final EntityLifecycleManager entityLifecycleManager;
+    private final CollisionDetector collisionDetector = new CollisionDetector();
 
     /**
      * GameWorld 생성자.
@@ -43,21 +43,37 @@ public class GameWorld {
      * @param delta 마지막 프레임 이후 경과 시간
      */
     public void update(long delta) {
+        // 게임 시계는 게임 월드가 업데이트될 때만 진행되므로 일시정지 중에는 멈춥니다.
+        gameContext.getClock().advance(delta);
+        FrameProfiler profiler = gameContext.getProfiler();
+        long mark = profiler.begin();
         background.update(delta);
         waveManager.update(delta);
+        mark = profiler.end(FrameProfiler.Section.WAVE, mark);
         entityManager.moveAll(delta);
-        new CollisionDetector().checkCollisions(entityManager.getEntities());
+        mark = profiler.end(FrameProfiler.Section.MOVE, mark);
+        collisionDetector.checkCollisions(entityManager.getEntities());
+        mark = profiler.end(FrameProfiler.Section.COLLISION, mark);
+        profiler.recordPairsTested(collisionDetector.getPairsTested());
 
         handleGlobalLaser();
 
         // 파괴되도록 표시된 엔티티를 처리하고 이벤트를 발행합니다.
-        entityLifecycleManager.processStateChanges(entityManager.getEntities(), gameContext.getEventBus(), entityManager);
+        entityLifecycleManager.processStateChanges(entityManager, gameContext.getEventBus());
+        mark = profiler.end(FrameProfiler.Section.LIFECYCLE, mark);
 
         entityManager.cleanup();
+        mark = profiler.end(FrameProfiler.Section.CLEANUP, mark);
+
+        // 이번 틱에 발행된 이벤트를 엔티티 목록이 정리된 뒤 한꺼번에 처리합니다.
+        gameContext.getEventBus().dispatchPending();
+        profiler.end(FrameProfiler.Section.EVENTS, mark);
 
         // 모든 적이 처치되고 스폰이 완료되면 웨이브 클리어 처리
-        if (entityManager.getAlienCount() == 0 && waveManager.hasFinishedSpawning()) {
+        if (entityManager.getAlienCount() == 0 && waveManager.hasFinishedSpawning() && !waveManager.isGameWon()) {
             gameContext.onWaveCleared();
+            // 마지막 웨이브를 클리어하며 발행된 승리 이벤트가 다음 틱까지 남지 않도록 바로 전달합니다.
+            gameContext.getEventBus().dispatchPending();
         }
     }
 
@@ -66,15 +82,7 @@ public class GameWorld {
      * 레이저가 존재할 때 플레이어가 모든 아이템을 수집하지 않았다면 함선을 파괴합니다.
      */
     private void handleGlobalLaser() {
-        boolean laserActive = false;
-        for (Entity entity : getEntities()) {
-            if (entity instanceof LaserEntity) {
-                laserActive = true;
-                break;
-            }
-        }
-
-        if (laserActive) {
+        if (entityManager.isGlobalLaserActive()) {
             if (!gameContext.hasCollectedAllItems()) {
                 ShipEntity ship = getShip();
                 if (ship != null) {
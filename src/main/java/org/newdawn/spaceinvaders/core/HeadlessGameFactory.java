@@ -0,0 +1,77 @@
+package org.newdawn.spaceinvaders.core;
+
+import org.newdawn.spaceinvaders.data.PlayerData;
+import org.newdawn.spaceinvaders.graphics.MetadataSpriteLoader;
+import org.newdawn.spaceinvaders.graphics.SpriteStore;
+import org.newdawn.spaceinvaders.sound.SoundManager;
+import org.newdawn.spaceinvaders.view.GameWindow;
+
+import java.util.Random;
+
+/**
+ * 창, 사운드, 데이터베이스 없이 게임 로직만 실행하는 {@link GameManager}를 조립하는 팩토리.
+ * 밸런싱 시뮬레이션이나 장시간 부하 테스트처럼 {@link HeadlessGameLoop}로 게임을 실제 시간보다 빠르게 돌릴 때 사용합니다.
+ * <p>
+ * 스프라이트는 {@link MetadataSpriteLoader}로 크기 정보만 로드되고, 사운드 관리자는 아무 소리도 내지 않으며,
+ * 게임 창은 생성되지 않습니다. 사용자와 데이터베이스가 없으므로 플레이 결과는 저장되지 않습니다.
+ */
+public class HeadlessGameFactory extends GameFactory {
+
+    /** 시뮬레이션에 사용할 플레이어 데이터. */
+    private final PlayerData playerData;
+    /** 게임 로직 난수 생성기의 시드. */
+    private final long seed;
+
+    /**
+     * HeadlessGameFactory 생성자.
+     * 전역 {@link SpriteStore}를 크기 정보만 로드하도록 전환하므로, 어떤 엔티티보다도 먼저 생성되어야 합니다.
+     * @param playerData 시뮬레이션에 사용할 플레이어 데이터 (장착 무기, 업그레이드 등)
+     * @param seed 게임 로직 난수 생성기의 시드. 같은 시드는 같은 게임을 재현합니다.
+     */
+    public HeadlessGameFactory(PlayerData playerData, long seed) {
+        super(null, null);
+        this.playerData = playerData;
+        this.seed = seed;
+        SpriteStore.get().setLoader(new MetadataSpriteLoader());
+    }
+
+    /**
+     * 헤드리스 게임을 생성하고 주어진 플레이어 데이터로 플레이어를 초기화합니다.
+     * @return 의존성 주입과 초기화가 완료된 GameManager 인스턴스
+     */
+    @Override
+    public GameManager createGame() {
+        GameManager gameManager = super.createGame();
+        gameManager.init();
+        gameManager.getPlayerManager().initializePlayer(playerData);
+        return gameManager;
+    }
+
+    /**
+     * 지정된 시드로 고정된 난수 생성기를 생성합니다.
+     * @return 시드가 고정된 난수 생성기
+     */
+    @Override
+    protected Random createRandom() {
+        return new Random(seed);
+    }
+
+    /**
+     * 아무 소리도 내지 않는 사운드 관리자를 생성합니다.
+     * @return 무음 사운드 관리자
+     */
+    @Override
+    protected SoundManager createSoundManager() {
+        return SoundManager.silent();
+    }
+
+    /**
+     * 헤드리스 모드에서는 게임 창을 만들지 않습니다.
+     * @param inputHandler 사용되지 않음
+     * @return 항상 null
+     */
+    @Override
+    protected GameWindow createGameWindow(InputHandler inputHandler) {
+        return null;
+    }
+}
@@ -0,0 +1,158 @@
+package org.newdawn.spaceinvaders.core;
+
+import org.newdawn.spaceinvaders.replay.Replay;
+
+/**
+ * 화면과 입력 없이 게임 로직만 최대한 빠르게 실행하는 루프입니다.
+ * {@link GameLoop}와 같은 고정 간격({@link GameLoop#UPDATE_STEP}ms)으로 업데이트하지만, 실제 시간을 기다리거나
+ * 화면을 그리지 않으므로 실제 시간보다 훨씬 빠르게 시뮬레이션할 수 있습니다.
+ * {@link HeadlessGameFactory}로 생성한 {@link GameManager}와 함께 사용합니다.
+ * <p>
+ * {@link Replay}가 주어지면 기록된 시드로 플레이를 시작하고, 매 틱 기록된 키 이벤트를 입력 핸들러에 넣어
+ * {@link GameLoop}와 같은 순서(입력 반영, 입력 처리, 업데이트)로 실행하므로 기록된 플레이가 그대로 재현됩니다.
+ * 플레이를 시작한 0번 틱은 실제 게임에서 메뉴가 입력을 처리한 틱이므로 업데이트만 수행합니다.
+ */
+public class HeadlessGameLoop {
+
+    /** 시뮬레이션할 게임의 중앙 관리자. */
+    private final GameManager gameManager;
+    /** 재생할 리플레이. 입력 없이 실행하면 null. */
+    private final Replay replay;
+    /** 다음에 넣을 리플레이 이벤트의 인덱스. */
+    private int replayCursor;
+
+    /** 지금까지 실행한 업데이트 횟수. */
+    private long ticks;
+    /** 플레이가 끝나며 전환되었거나 예약되었던 상태. 아직 플레이 중이면 null. */
+    private GameState.Type endState;
+
+    /**
+     * HeadlessGameLoop 생성자.
+     * @param gameManager 헤드리스로 조립된 게임 관리자
+     */
+    public HeadlessGameLoop(GameManager gameManager) {
+        this(gameManager, null);
+    }
+
+    /**
+     * 리플레이를 재생하는 HeadlessGameLoop 생성자.
+     * @param gameManager 리플레이의 플레이어 데이터로 헤드리스 조립된 게임 관리자
+     * @param replay 재생할 리플레이
+     */
+    public HeadlessGameLoop(GameManager gameManager, Replay replay) {
+        this.gameManager = gameManager;
+        this.replay = replay;
+    }
+
+    /**
+     * 게임 플레이를 시작하고, 플레이가 끝나거나 지정된 횟수만큼 업데이트할 때까지 쉬지 않고 실행합니다.
+     * 함선 파괴나 승리로 플레이 상태를 벗어나면 메뉴 상태로 전환하지 않고 멈춥니다.
+     * @param maxTicks 실행할 최대 업데이트 횟수
+     * @return 이번 호출에서 실행한 업데이트 횟수
+     */
+    public long run(long maxTicks) {
+        if (endState == null && ticks == 0 && gameManager.getCurrentStateType() != GameState.Type.PLAYING) {
+            if (replay != null) {
+                gameManager.startGameplay(replay.getSeed());
+            } else {
+                gameManager.startGameplay();
+            }
+        }
+
+        InputHandler input = gameManager.getInputHandler();
+        long executed = 0;
+        while (executed < maxTicks && isPlaying()) {
+            if (ticks + executed > 0) {
+                feedReplay((int) (ticks + executed), input);
+                input.update();
+                if (gameManager.getInputRecorder() != null) {
+                    gameManager.getInputRecorder().recordTick(input.getAppliedKeyEvents());
+                }
+                consumeInitialKeys((int) (ticks + executed), input);
+                gameManager.getGsm().handleInput(input);
+            }
+            gameManager.getGsm().update(GameLoop.UPDATE_STEP);
+            executed++;
+
+            if (gameManager.nextState != null) {
+                // 게임 오버 메뉴로 전환하는 대신 시뮬레이션을 종료
+                endState = gameManager.nextState;
+                gameManager.nextState = null;
+            } else if (gameManager.getCurrentStateType() != GameState.Type.PLAYING) {
+                // 승리처럼 즉시 전환된 경우
+                endState = gameManager.getCurrentStateType();
+            }
+        }
+        ticks += executed;
+        return executed;
+    }
+
+    /**
+     * 지정된 틱에 기록된 키 이벤트를 입력 핸들러의 대기열에 넣습니다.
+     * 첫 틱에는 기록 시작 시 눌려 있던 키를 먼저 누릅니다.
+     * @param tick 현재 틱 번호
+     * @param input 입력 핸들러
+     */
+    private void feedReplay(int tick, InputHandler input) {
+        if (replay == null) {
+            return;
+        }
+        if (tick == 1) {
+            for (int i = 0; i < replay.getInitialKeyCount(); i++) {
+                input.queueKeyEvent(replay.getInitialKeyCode(i), true);
+            }
+        }
+        while (replayCursor < replay.getEventCount() && replay.getEventTick(replayCursor) == tick) {
+            int event = replay.getEvent(replayCursor++);
+            input.queueKeyEvent(InputHandler.decodeKeyCode(event), InputHandler.decodePressed(event));
+        }
+    }
+
+    /**
+     * 기록 시작 전에 메뉴에서 이미 소비된 키를 첫 틱에 다시 소비된 상태로 만듭니다.
+     * @param tick 현재 틱 번호
+     * @param input 입력 핸들러
+     */
+    private void consumeInitialKeys(int tick, InputHandler input) {
+        if (replay == null || tick != 1) {
+            return;
+        }
+        for (int i = 0; i < replay.getInitialKeyCount(); i++) {
+            if (replay.isInitialKeyConsumed(i)) {
+                input.isPressedAndConsume(replay.getInitialKeyCode(i));
+            }
+        }
+    }
+
+    /**
+     * 게임이 아직 플레이 중인지 확인합니다.
+     * @return 플레이 상태이고 다른 상태로의 전환이 예약되지 않았으면 true
+     */
+    public boolean isPlaying() {
+        return endState == null && gameManager.getCurrentStateType() == GameState.Type.PLAYING;
+    }
+
+    /**
+     * 지금까지 실행한 전체 업데이트 횟수를 반환합니다.
+     * @return 업데이트 횟수
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * 시뮬레이션된 게임 시간을 반환합니다.
+     * @return 업데이트 횟수 x {@link GameLoop#UPDATE_STEP} (밀리초)
+     */
+    public long getSimulatedTime() {
+        return ticks * GameLoop.UPDATE_STEP;
+    }
+
+    /**
+     * 플레이가 끝날 때 전환되었거나 예약되었던 상태를 반환합니다.
+     * @return 게임 오버나 승리 상태, 아직 플레이 중이면 null
+     */
+    public GameState.Type getEndState() {
+        return endState;
+    }
+}
@@ -13,6 +13,9 @@ import java.util.Set;
  * 키보드 입력을 감지하며, 현재 키의 상태를 저장하고 관리하는 클래스입니다.
  * {@link KeyAdapter}를 상속받아 키 이벤트를 처리합니다.
  * 키를 계속 누르고 있는 상태와, 한 번만 처리되어야 하는 단일 입력 상태를 구분하여 관리합니다.
+ * <p>
+ * 키 이벤트는 이벤트 스레드에서 대기열에 쌓였다가 게임 루프가 매 틱 시작 시 {@link #update()}를 호출할 때 순서대로 반영됩니다.
+ * 따라서 한 틱 동안 키 상태가 바뀌지 않으며, 틱마다 반영된 이벤트를 기록하고 그대로 다시 넣으면 같은 입력이 재현됩니다.
  */
 public class InputHandler extends KeyAdapter {
 
@@ -22,6 +25,10 @@ public class InputHandler extends KeyAdapter {
     private final Set<Integer> consumedKeys = new HashSet<>();
     /** 타이핑된 문자들을 저장하는 리스트. */
     private final List<Character> typedChars = new ArrayList<>();
+    /** 아직 반영되지 않은 키 이벤트. 각 값은 {@link #encodeKeyEvent(int, boolean)}로 인코딩됩니다. */
+    private final List<Integer> pendingKeyEvents = new ArrayList<>();
+    /** 마지막 {@link #update()}에서 반영된 키 이벤트. */
+    private final List<Integer> appliedKeyEvents = new ArrayList<>();
 
     // --- 연속 입력이 필요한 경우를 위한 Getter --- //
 
@@ -93,7 +100,7 @@ public class InputHandler extends KeyAdapter {
      */
     @Override
     public void keyPressed(KeyEvent e) {
-        updateKeyState(e.getKeyCode(), true);
+        queueKeyEvent(e.getKeyCode(), true);
     }
 
     /**
@@ -102,7 +109,92 @@ public class InputHandler extends KeyAdapter {
      */
     @Override
     public void keyReleased(KeyEvent e) {
-        updateKeyState(e.getKeyCode(), false);
+        queueKeyEvent(e.getKeyCode(), false);
+    }
+
+    /**
+     * 키 이벤트를 대기열에 추가합니다. 다음 {@link #update()} 호출 시 반영됩니다.
+     * 리플레이 재생 시에도 이 메소드로 기록된 이벤트를 다시 넣습니다.
+     * @param keyCode 키 코드
+     * @param pressed 눌림 상태
+     */
+    public void queueKeyEvent(int keyCode, boolean pressed) {
+        synchronized (pendingKeyEvents) {
+            pendingKeyEvents.add(encodeKeyEvent(keyCode, pressed));
+        }
+    }
+
+    /**
+     * 대기 중인 키 이벤트를 들어온 순서대로 키 상태에 반영합니다. 게임 루프의 매 틱 시작 시 호출됩니다.
+     */
+    public void update() {
+        appliedKeyEvents.clear();
+        synchronized (pendingKeyEvents) {
+            appliedKeyEvents.addAll(pendingKeyEvents);
+            pendingKeyEvents.clear();
+        }
+        for (int event : appliedKeyEvents) {
+            updateKeyState(decodeKeyCode(event), decodePressed(event));
+        }
+    }
+
+    /**
+     * 마지막 {@link #update()}에서 반영된 키 이벤트 목록을 반환합니다.
+     * @return {@link #encodeKeyEvent(int, boolean)}로 인코딩된 이벤트 목록
+     */
+    public List<Integer> getAppliedKeyEvents() {
+        return appliedKeyEvents;
+    }
+
+    /**
+     * 현재 눌려 있는 모든 키의 코드를 반환합니다.
+     * @return 눌린 키 코드 목록
+     */
+    public List<Integer> getPressedKeys() {
+        List<Integer> keys = new ArrayList<>();
+        for (Map.Entry<Integer, Boolean> entry : pressedKeys.entrySet()) {
+            if (entry.getValue()) {
+                keys.add(entry.getKey());
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * 특정 키가 단일 입력으로 이미 소비되었는지 확인합니다.
+     * @param keyCode 확인할 키의 {@link KeyEvent} 코드
+     * @return 키를 뗄 때까지 다시 처리되지 않는 상태이면 true
+     */
+    public boolean isConsumed(int keyCode) {
+        return consumedKeys.contains(keyCode);
+    }
+
+    /**
+     * 키 이벤트를 하나의 정수로 인코딩합니다.
+     * @param keyCode 키 코드
+     * @param pressed 눌림 상태
+     * @return 상위 비트에 키 코드, 최하위 비트에 눌림 여부를 담은 값
+     */
+    public static int encodeKeyEvent(int keyCode, boolean pressed) {
+        return (keyCode << 1) | (pressed ? 1 : 0);
+    }
+
+    /**
+     * 인코딩된 키 이벤트에서 키 코드를 꺼냅니다.
+     * @param event {@link #encodeKeyEvent(int, boolean)}로 인코딩된 이벤트
+     * @return 키 코드
+     */
+    public static int decodeKeyCode(int event) {
+        return event >>> 1;
+    }
+
+    /**
+     * 인코딩된 키 이벤트에서 눌림 여부를 꺼냅니다.
+     * @param event {@link #encodeKeyEvent(int, boolean)}로 인코딩된 이벤트
+     * @return 눌림 이벤트이면 true
+     */
+    public static boolean decodePressed(int event) {
+        return (event & 1) != 0;
     }
 
     /**
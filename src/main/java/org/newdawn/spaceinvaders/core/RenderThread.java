@@ -0,0 +1,147 @@
+package org.newdawn.spaceinvaders.core;
+
+import org.newdawn.spaceinvaders.graphics.RenderSnapshot;
+import org.newdawn.spaceinvaders.view.GameWindow;
+
+import java.awt.Graphics2D;
+
+/**
+ * 시뮬레이션과 분리된 별도 스레드에서 화면을 그리는 클래스입니다.
+ * 게임 루프가 {@link #publish(RenderSnapshot)}로 넘겨준 최신 불변 스냅샷을 {@link GameWindow.GameCanvas}에 그리고 버퍼를 교체하므로,
+ * 느린 블릿이나 수직 동기화 대기가 게임 로직을 지연시키지 않습니다.
+ * <p>
+ * 스냅샷은 발행 시 참조만 교체되는 이중 버퍼로 전달됩니다. 게임 루프는 다음 스냅샷을 만드는 동안
+ * 렌더링 스레드는 직전 스냅샷을 그리며, 불변 객체이므로 별도의 복사나 잠금이 필요하지 않습니다.
+ * 스냅샷을 지원하지 않는 상태(메뉴 등)는 게임 상태 잠금을 잡은 채 {@link GameStateManager#render(Graphics2D)}로 그립니다.
+ */
+public class RenderThread implements Runnable {
+
+    /** 새 스냅샷이 없을 때 다시 그리기까지 기다리는 최대 시간 (밀리초). */
+    private static final long FRAME_INTERVAL = 10;
+
+    /** 게임 상태를 관리하는 객체. */
+    private final GameStateManager gsm;
+    /** 게임이 그려지는 캔버스. */
+    private final GameWindow.GameCanvas canvas;
+    /** 게임 상태 업데이트와 직접 렌더링을 직렬화하는 잠금 객체. */
+    private final Object stateLock;
+    /** 렌더와 표시 구간의 시간을 기록하는 프로파일러. */
+    private final FrameProfiler profiler;
+    /** 스냅샷 발행을 알리는 모니터. */
+    private final Object frameSignal = new Object();
+
+    /** 가장 최근에 발행된 스냅샷. 스냅샷을 지원하지 않는 상태에서는 null. */
+    private RenderSnapshot latestSnapshot;
+    /** 발행된 스냅샷의 일련번호. */
+    private long publishedFrame;
+    /** 렌더링 스레드의 실행 여부. */
+    private volatile boolean running;
+    /** 렌더링을 수행하는 스레드. */
+    private Thread thread;
+
+    /**
+     * RenderThread 생성자.
+     * @param gsm 게임 상태 관리자
+     * @param canvas 그리기를 수행할 게임 캔버스
+     * @param stateLock 게임 상태 업데이트와 공유하는 잠금 객체
+     * @param profiler 렌더와 표시 구간의 시간을 기록할 프로파일러
+     */
+    public RenderThread(GameStateManager gsm, GameWindow.GameCanvas canvas, Object stateLock, FrameProfiler profiler) {
+        this.gsm = gsm;
+        this.canvas = canvas;
+        this.stateLock = stateLock;
+        this.profiler = profiler;
+    }
+
+    /**
+     * 렌더링 스레드를 시작합니다.
+     */
+    public void start() {
+        running = true;
+        thread = new Thread(this, "render");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 렌더링 스레드를 중지하고 종료될 때까지 기다립니다.
+     */
+    public void stop() {
+        running = false;
+        synchronized (frameSignal) {
+            frameSignal.notifyAll();
+        }
+        if (thread != null) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * 새 스냅샷을 발행합니다. 게임 루프(시뮬레이션 스레드)에서 호출됩니다.
+     * @param snapshot 발행할 스냅샷, 현재 상태가 스냅샷을 지원하지 않으면 null
+     */
+    public void publish(RenderSnapshot snapshot) {
+        synchronized (frameSignal) {
+            latestSnapshot = snapshot;
+            publishedFrame++;
+            frameSignal.notifyAll();
+        }
+    }
+
+    /**
+     * 새 스냅샷이 발행되거나 프레임 간격이 지날 때마다 화면을 그립니다.
+     */
+    @Override
+    public void run() {
+        long renderedFrame = 0;
+        while (running) {
+            RenderSnapshot snapshot;
+            synchronized (frameSignal) {
+                if (publishedFrame == renderedFrame && running) {
+                    try {
+                        frameSignal.wait(FRAME_INTERVAL);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+                snapshot = latestSnapshot;
+                renderedFrame = publishedFrame;
+            }
+            render(snapshot);
+        }
+    }
+
+    /**
+     * 스냅샷(또는 스냅샷이 없으면 현재 게임 상태)을 그리고 버퍼를 교체합니다.
+     * 스냅샷의 보간 비율은 생성 이후 흐른 시간만큼 앞당겨 적용됩니다.
+     * @param snapshot 그릴 스냅샷, null이면 게임 상태를 직접 그림
+     */
+    private void render(RenderSnapshot snapshot) {
+        Graphics2D g = canvas.getGraphics2D();
+        if (g == null) {
+            return;
+        }
+        long mark = profiler.begin();
+        try {
+            if (snapshot != null) {
+                double elapsed = SystemTimer.getTime() - snapshot.getCapturedAt();
+                double alpha = Math.min(1.0, snapshot.getAlpha() + elapsed / GameLoop.UPDATE_STEP);
+                snapshot.render(g, alpha);
+            } else {
+                synchronized (stateLock) {
+                    gsm.render(g);
+                }
+            }
+        } finally {
+            g.dispose();
+        }
+        mark = profiler.end(FrameProfiler.Section.RENDER, mark);
+        canvas.showStrategy();
+        profiler.end(FrameProfiler.Section.PRESENT, mark);
+    }
+}
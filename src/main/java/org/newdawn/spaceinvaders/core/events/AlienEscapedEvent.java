@@ -4,17 +4,37 @@ import org.newdawn.spaceinvaders.entity.Entity;
 
 /**
  * 외계인이 화면 밖으로 탈출했을 때 발생하는 이벤트를 나타내는 클래스.
+ * 인스턴스는 {@link org.newdawn.spaceinvaders.core.EventBus#obtainAlienEscaped(Entity)}로 버스의 풀에서 얻으며,
+ * 전달이 끝나면 그 풀로 돌아갑니다.
  */
-public class AlienEscapedEvent implements Event {
+public final class AlienEscapedEvent implements RecyclableEvent {
+    /** 전달이 끝나면 돌아갈 이벤트 풀. */
+    private final EventPool<AlienEscapedEvent> pool;
     /** 탈출한 외계인 엔티티. */
-    private final Entity alien;
+    private Entity alien;
+
+    private AlienEscapedEvent(EventPool<AlienEscapedEvent> pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * 이 이벤트를 위한 새 풀을 만듭니다.
+     * @return 빈 이벤트 풀
+     */
+    public static EventPool<AlienEscapedEvent> newPool() {
+        return new EventPool<>(AlienEscapedEvent::new);
+    }
 
     /**
-     * AlienEscapedEvent 생성자.
+     * 풀에서 이벤트를 얻어 탈출한 외계인을 설정합니다.
+     * @param pool 이벤트를 얻을 풀
      * @param alien 탈출한 외계인 엔티티
+     * @return 발행할 이벤트
      */
-    public AlienEscapedEvent(Entity alien) {
-        this.alien = alien;
+    public static AlienEscapedEvent obtain(EventPool<AlienEscapedEvent> pool, Entity alien) {
+        AlienEscapedEvent event = pool.acquire();
+        event.alien = alien;
+        return event;
     }
 
     /**
@@ -24,4 +44,11 @@ public class AlienEscapedEvent implements Event {
     public Entity getAlien() {
         return alien;
     }
+
+    @Override
+    public void recycle() {
+        // 풀에 있는 동안 엔티티를 붙잡아 두지 않도록 참조를 지웁니다.
+        alien = null;
+        pool.release(this);
+    }
 }
@@ -3,6 +3,12 @@ package org.newdawn.spaceinvaders.core.events;
 /**
  * 외계인이 처치되었을 때 발생하는 마커(marker) 이벤트.
  * 이 이벤트는 추가적인 데이터를 포함하지 않으며, 사건 발생 자체를 알리는 역할을 합니다.
+ * 데이터를 갖지 않으므로 매번 새로 만들지 않고 공유 인스턴스 {@link #INSTANCE}를 발행합니다.
  */
-public class AlienKilledEvent implements Event {
+public final class AlienKilledEvent implements Event {
+    /** 공유 인스턴스. */
+    public static final AlienKilledEvent INSTANCE = new AlienKilledEvent();
+
+    private AlienKilledEvent() {
+    }
 }
@@ -0,0 +1,46 @@
+package org.newdawn.spaceinvaders.core.events;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * {@link RecyclableEvent}를 재사용하기 위한 간단한 객체 풀.
+ * 한 틱에 발행된 이벤트는 틱 끝에 한꺼번에 반환되므로, 풀은 한 틱에 가장 많이 발행된 수만큼만 커집니다.
+ * 풀은 {@link org.newdawn.spaceinvaders.core.EventBus}마다 따로 소유하며 그 버스를 사용하는 시뮬레이션 스레드에서만 쓰이므로 동기화하지 않습니다.
+ * 여러 헤드리스 시뮬레이션을 병렬로 실행해도 각자의 버스와 풀을 사용하므로 서로 간섭하지 않습니다.
+ *
+ * @param <E> 풀링할 이벤트 타입
+ */
+public final class EventPool<E extends RecyclableEvent> {
+
+    /** 풀이 비었을 때 새 이벤트를 만드는 팩토리. 이벤트가 돌아갈 풀을 인자로 받습니다. */
+    private final Function<EventPool<E>, E> factory;
+    /** 재사용을 기다리는 이벤트 목록. */
+    private final List<E> free = new ArrayList<>();
+
+    /**
+     * EventPool 생성자.
+     * @param factory 이벤트가 돌아갈 풀을 받아 새 이벤트를 만드는 팩토리
+     */
+    EventPool(Function<EventPool<E>, E> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * 풀에서 이벤트를 꺼냅니다. 풀이 비어 있으면 새로 만듭니다.
+     * @return 사용할 이벤트
+     */
+    E acquire() {
+        int last = free.size() - 1;
+        return last >= 0 ? free.remove(last) : factory.apply(this);
+    }
+
+    /**
+     * 이벤트를 풀로 반환합니다.
+     * @param event 반환할 이벤트
+     */
+    void release(E event) {
+        free.add(event);
+    }
+}
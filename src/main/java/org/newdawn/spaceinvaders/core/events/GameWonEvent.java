@@ -2,6 +2,12 @@ package org.newdawn.spaceinvaders.core.events;
 
 /**
  * 플레이어가 게임에서 승리했을 때 발생하는 마커(marker) 이벤트.
+ * 데이터를 갖지 않으므로 매번 새로 만들지 않고 공유 인스턴스 {@link #INSTANCE}를 발행합니다.
  */
-public class GameWonEvent implements Event {
+public final class GameWonEvent implements Event {
+    /** 공유 인스턴스. */
+    public static final GameWonEvent INSTANCE = new GameWonEvent();
+
+    private GameWonEvent() {
+    }
 }
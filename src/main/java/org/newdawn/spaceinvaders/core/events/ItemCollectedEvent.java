@@ -2,6 +2,12 @@ package org.newdawn.spaceinvaders.core.events;
 
 /**
  * 플레이어가 아이템을 수집했을 때 발생하는 마커(marker) 이벤트.
+ * 데이터를 갖지 않으므로 매번 새로 만들지 않고 공유 인스턴스 {@link #INSTANCE}를 발행합니다.
  */
-public class ItemCollectedEvent implements Event {
+public final class ItemCollectedEvent implements Event {
+    /** 공유 인스턴스. */
+    public static final ItemCollectedEvent INSTANCE = new ItemCollectedEvent();
+
+    private ItemCollectedEvent() {
+    }
 }
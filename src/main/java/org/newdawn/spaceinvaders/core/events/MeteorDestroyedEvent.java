@@ -3,17 +3,37 @@ package org.newdawn.spaceinvaders.core.events;
 /**
  * 메테오(운석)가 파괴되었을 때 발생하는 이벤트를 나타내는 클래스.
  * 파괴 시 플레이어에게 부여될 점수 값을 포함합니다.
+ * 인스턴스는 {@link org.newdawn.spaceinvaders.core.EventBus#obtainMeteorDestroyed(int)}로 버스의 풀에서 얻으며,
+ * 전달이 끝나면 그 풀로 돌아갑니다.
  */
-public class MeteorDestroyedEvent implements Event {
+public final class MeteorDestroyedEvent implements RecyclableEvent {
+    /** 전달이 끝나면 돌아갈 이벤트 풀. */
+    private final EventPool<MeteorDestroyedEvent> pool;
     /** 획득할 점수. */
-    private final int scoreValue;
+    private int scoreValue;
+
+    private MeteorDestroyedEvent(EventPool<MeteorDestroyedEvent> pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * 이 이벤트를 위한 새 풀을 만듭니다.
+     * @return 빈 이벤트 풀
+     */
+    public static EventPool<MeteorDestroyedEvent> newPool() {
+        return new EventPool<>(MeteorDestroyedEvent::new);
+    }
 
     /**
-     * MeteorDestroyedEvent 생성자.
+     * 풀에서 이벤트를 얻어 점수를 설정합니다.
+     * @param pool 이벤트를 얻을 풀
      * @param scoreValue 플레이어에게 부여할 점수
+     * @return 발행할 이벤트
      */
-    public MeteorDestroyedEvent(int scoreValue) {
-        this.scoreValue = scoreValue;
+    public static MeteorDestroyedEvent obtain(EventPool<MeteorDestroyedEvent> pool, int scoreValue) {
+        MeteorDestroyedEvent event = pool.acquire();
+        event.scoreValue = scoreValue;
+        return event;
     }
 
     /**
@@ -23,4 +43,10 @@ public class MeteorDestroyedEvent implements Event {
     public int getScoreValue() {
         return scoreValue;
     }
+
+    @Override
+    public void recycle() {
+        scoreValue = 0;
+        pool.release(this);
+    }
 }
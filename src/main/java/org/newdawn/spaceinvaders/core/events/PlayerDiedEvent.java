@@ -2,6 +2,12 @@ package org.newdawn.spaceinvaders.core.events;
 
 /**
  * 플레이어의 함선이 파괴되었을 때(사망) 발생하는 마커(marker) 이벤트.
+ * 데이터를 갖지 않으므로 매번 새로 만들지 않고 공유 인스턴스 {@link #INSTANCE}를 발행합니다.
  */
-public class PlayerDiedEvent implements Event {
+public final class PlayerDiedEvent implements Event {
+    /** 공유 인스턴스. */
+    public static final PlayerDiedEvent INSTANCE = new PlayerDiedEvent();
+
+    private PlayerDiedEvent() {
+    }
 }
@@ -0,0 +1,13 @@
+package org.newdawn.spaceinvaders.core.events;
+
+/**
+ * 데이터를 담고 있어 공유할 수 없지만, 전달이 끝나면 재사용되는 이벤트.
+ * 이벤트 버스는 모든 리스너에게 전달한 뒤 {@link #recycle()}을 호출하여 이벤트를 풀로 돌려보냅니다.
+ * 따라서 리스너는 전달받은 이벤트나 그 데이터를 {@code onEvent} 밖에서 보관해서는 안 됩니다.
+ */
+public interface RecyclableEvent extends Event {
+    /**
+     * 이벤트의 데이터를 지우고 풀로 돌려보냅니다. 전달이 끝난 뒤 {@link org.newdawn.spaceinvaders.core.EventBus}가 호출합니다.
+     */
+    void recycle();
+}
@@ -2,6 +2,12 @@ package org.newdawn.spaceinvaders.core.events;
 
 /**
  * 한 웨이브의 모든 적이 처치되어 웨이브가 클리어되었을 때 발생하는 마커(marker) 이벤트.
+ * 데이터를 갖지 않으므로 매번 새로 만들지 않고 공유 인스턴스 {@link #INSTANCE}를 발행합니다.
  */
-public class WaveClearedEvent implements Event {
+public final class WaveClearedEvent implements Event {
+    /** 공유 인스턴스. */
+    public static final WaveClearedEvent INSTANCE = new WaveClearedEvent();
+
+    private WaveClearedEvent() {
+    }
 }
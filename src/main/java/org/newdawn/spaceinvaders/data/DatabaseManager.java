@@ -1,30 +1,19 @@
 package org.newdawn.spaceinvaders.data;
 
-import com.google.api.core.ApiFuture;
-import com.google.cloud.firestore.*;
+import org.newdawn.spaceinvaders.ranking.Leaderboard;
+import org.newdawn.spaceinvaders.ranking.Ranking;
 
+import java.io.IOException;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ExecutionException;
 
 /**
- * Firebase Firestore 데이터베이스와의 모든 상호작용(데이터 저장, 불러오기)을 담당하는 클래스입니다.
- * 플레이어 데이터, 랭킹 등 게임의 영구 데이터를 처리하고 관리합니다.
+ * 게임의 영구 데이터(플레이어 데이터, 랭킹)의 저장과 불러오기를 담당하는 클래스입니다.
+ * 실제 저장 위치는 {@link PlayerRepository} 구현이 결정하며, 이 클래스는 오류 로그, 기본값 처리, 백그라운드 저장을 맡습니다.
+ * 저장소마다 입출력 지연을 비교할 수 있도록 모든 요청의 소요 시간을 로그에 남깁니다.
  */
 public class DatabaseManager {
 
-    // Firestore 컬렉션 및 필드 이름을 상수로 정의
-    private static final String USERS_COLLECTION = "users";
-    private static final String HIGH_SCORE_FIELD = "highScore";
-    private static final String CREDIT_FIELD = "credit";
-    private static final String UPGRADE_LEVELS_FIELD = "upgradeLevels";
-    private static final String PET_INVENTORY_FIELD = "petInventory";
-    private static final String PET_LEVELS_FIELD = "petLevels";
-    private static final String WEAPON_LEVELS_FIELD = "weaponLevels";
-    private static final String USERNAME_FIELD = "username";
-
     // 로그 메시지를 상수로 정의
     private static final String LOG_UPDATE_SUCCESS = "PlayerData 업데이트 완료: ";
     private static final String LOG_UPDATE_ERROR = "PlayerData 업데이트 중 오류 발생: ";
@@ -32,47 +21,90 @@ public class DatabaseManager {
     private static final String LOG_LOAD_SUCCESS_SUFFIX = ", 크레딧: ";
     private static final String LOG_CREATE_NEW_USER_DATA = " 사용자의 데이터가 존재하지 않아 새로 생성합니다.";
     private static final String LOG_LOAD_ERROR = "데이터 불러오기 중 오류 발생: ";
+    private static final String LOG_RANKING_LOADED = "랭킹 불러오기 완료: ";
+
+    /** 랭킹에 표시할 최대 항목 수. */
+    private static final int HIGH_SCORE_LIMIT = 10;
+    /** 종료 시 남은 저장을 기다리는 최대 시간 (밀리초). */
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5000;
 
-    /** Firestore 데이터베이스 인스턴스. */
-    private final Firestore db;
+    /** 플레이어 데이터를 저장하는 저장소. 헤드리스 게임처럼 저장소가 없으면 null. */
+    private final PlayerRepository repository;
+    /** 플레이어 데이터를 백그라운드에서 저장하는 write-behind 큐. 처음 저장을 예약할 때 만들어집니다. */
+    private PlayerDataWriter writer;
+    /** 상위 랭킹을 캐시하는 리더보드. */
+    private final Leaderboard leaderboard;
 
     /**
      * DatabaseManager 생성자.
-     * @param db Firestore 데이터베이스 인스턴스
+     * @param repository 플레이어 데이터를 저장하는 저장소 (없으면 null)
+     */
+    public DatabaseManager(PlayerRepository repository) {
+        this.repository = repository;
+        this.leaderboard = new Leaderboard(this::fetchHighScores, HIGH_SCORE_LIMIT);
+    }
+
+    /**
+     * 상위 랭킹을 캐시하는 리더보드를 반환합니다. 랭킹 조회는 리더보드가 백그라운드에서 수행합니다.
+     * @return 리더보드
      */
-    public DatabaseManager(Firestore db) {
-        this.db = db;
+    public Leaderboard getLeaderboard() {
+        return leaderboard;
     }
 
     /**
-     * 특정 사용자의 PlayerData를 Firestore에 업데이트합니다.
-     * 기존 데이터를 덮어쓰지 않고 주어진 필드만 갱신합니다.
+     * 특정 사용자의 PlayerData 저장을 백그라운드 스레드에 예약하고 바로 반환합니다.
+     * 게임 스레드에서는 {@link #updatePlayerData(String, PlayerData)} 대신 이 메소드를 사용해야 합니다.
      *
      * @param uid 업데이트할 사용자의 고유 ID (UID)
      * @param playerData 저장할 데이터가 포함된 PlayerData 객체
      */
-    public void updatePlayerData(String uid, PlayerData playerData) {
-        if (uid == null || uid.trim().isEmpty()) return;
-        DocumentReference docRef = db.collection(USERS_COLLECTION).document(uid);
+    public void queuePlayerData(String uid, PlayerData playerData) {
+        if (repository == null || uid == null || uid.trim().isEmpty()) return;
+        synchronized (this) {
+            if (writer == null) {
+                writer = new PlayerDataWriter(this);
+            }
+        }
+        writer.submit(uid, playerData);
+    }
 
-        Map<String, Object> updates = new HashMap<>();
-        updates.put(HIGH_SCORE_FIELD, playerData.getHighScore());
-        updates.put(CREDIT_FIELD, playerData.getCredit());
-        updates.put(UPGRADE_LEVELS_FIELD, playerData.getUpgradeLevels());
-        updates.put(PET_INVENTORY_FIELD, playerData.getPetInventory());
-        updates.put(PET_LEVELS_FIELD, playerData.getPetLevels());
-        updates.put(WEAPON_LEVELS_FIELD, playerData.getWeaponLevels());
+    /**
+     * 예약된 저장이 모두 끝날 때까지 기다린 뒤 백그라운드 저장 스레드를 종료합니다. 프로그램 종료 시 호출됩니다.
+     * @return 예약된 저장이 모두 끝났으면 true, 저장되지 않은 데이터가 남았으면 false
+     */
+    public synchronized boolean shutdown() {
+        boolean drained = true;
+        if (writer != null) {
+            drained = writer.shutdown(SHUTDOWN_TIMEOUT_MILLIS);
+            writer = null;
+        }
+        return drained;
+    }
 
-        ApiFuture<WriteResult> result = docRef.update(updates);
+    /**
+     * 특정 사용자의 PlayerData를 저장소에 업데이트합니다.
+     * 저장소 응답을 기다리므로 게임 스레드에서 직접 호출하지 않습니다.
+     *
+     * @param uid 업데이트할 사용자의 고유 ID (UID)
+     * @param playerData 저장할 데이터가 포함된 PlayerData 객체
+     * @return 저장에 성공하면 true
+     */
+    public boolean updatePlayerData(String uid, PlayerData playerData) {
+        if (repository == null || uid == null || uid.trim().isEmpty()) return false;
+        long start = System.nanoTime();
         try {
-            System.out.println(LOG_UPDATE_SUCCESS + result.get().getUpdateTime());
-        } catch (Exception e) {
+            repository.save(uid, playerData);
+            System.out.println(LOG_UPDATE_SUCCESS + elapsedMillis(start) + "ms");
+            return true;
+        } catch (IOException e) {
             System.err.println(LOG_UPDATE_ERROR + e.getMessage());
+            return false;
         }
     }
 
     /**
-     * Firestore에서 특정 사용자의 플레이어 데이터를 불러옵니다.
+     * 저장소에서 특정 사용자의 플레이어 데이터를 불러옵니다.
      * 데이터가 없는 경우, 새로운 기본 PlayerData 객체를 생성하여 반환합니다.
      *
      * @param uid 불러올 사용자의 고유 ID (UID)
@@ -80,72 +112,62 @@ public class DatabaseManager {
      * @return 불러온 PlayerData 객체. 데이터가 없으면 기본값을 가진 새 객체를 반환합니다.
      */
     public PlayerData loadPlayerData(String uid, String username) {
-        if (uid == null || uid.trim().isEmpty()) return new PlayerData();
-        DocumentReference docRef = db.collection(USERS_COLLECTION).document(uid);
-        ApiFuture<DocumentSnapshot> future = docRef.get();
+        if (repository == null || uid == null || uid.trim().isEmpty()) return new PlayerData();
+        long start = System.nanoTime();
         try {
-            DocumentSnapshot document = future.get();
-            if (document.exists()) {
-                PlayerData playerData = document.toObject(PlayerData.class);
-                if (playerData != null) {
-                    playerData.setWeaponLevels(extractWeaponLevels(document));
-                    System.out.println(username + LOG_LOAD_SUCCESS_PREFIX + playerData.getHighScore() + LOG_LOAD_SUCCESS_SUFFIX + playerData.getCredit());
-                }
+            PlayerData playerData = repository.load(uid);
+            if (playerData != null) {
+                // 불러온 값은 저장소와 같으므로 바뀐 필드 기록을 지웁니다.
+                playerData.clearChanges();
+                System.out.println(username + LOG_LOAD_SUCCESS_PREFIX + playerData.getHighScore() + LOG_LOAD_SUCCESS_SUFFIX
+                        + playerData.getCredit() + " (" + elapsedMillis(start) + "ms)");
                 return playerData;
             } else {
                 System.out.println(username + LOG_CREATE_NEW_USER_DATA);
-                return new PlayerData();
+                // 저장소에 아직 없으므로 첫 저장에서 모든 필드를 기록합니다.
+                PlayerData newPlayerData = new PlayerData();
+                newPlayerData.markAllChanged();
+                return newPlayerData;
             }
-        } catch (Exception e) {
+        } catch (IOException e) {
             System.err.println(LOG_LOAD_ERROR + e.getMessage());
             return new PlayerData();
         }
     }
 
     /**
-     * Firestore DocumentSnapshot에서 무기 레벨 정보를 추출합니다.
-     * Firestore는 숫자를 Long으로 저장하므로, 이를 Integer로 변환하는 과정을 거칩니다.
+     * 저장소에서 특정 사용자의 플레이어 데이터를 불러옵니다. {@link #loadPlayerData(String, String)}와 달리
+     * 실패를 기본값으로 숨기지 않으므로, 캐시된 데이터를 저장소와 대조할 때 사용합니다.
      *
-     * @param document Firestore 문서 스냅샷
-     * @return 무기 타입과 레벨을 매핑한 맵
+     * @param uid 불러올 사용자의 고유 ID (UID)
+     * @return 저장된 플레이어 데이터, 저장된 적이 없으면 null
+     * @throws IOException 저장소에 접근할 수 없는 경우
      */
-    private Map<String, Integer> extractWeaponLevels(DocumentSnapshot document) {
-        Map<String, Integer> weaponLevels = new HashMap<>();
-        if (document.contains(WEAPON_LEVELS_FIELD)) {
-            Object rawWeaponLevelsObject = document.get(WEAPON_LEVELS_FIELD);
-            if (rawWeaponLevelsObject instanceof Map) {
-                @SuppressWarnings("unchecked")
-                Map<String, Object> rawWeaponLevels = (Map<String, Object>) rawWeaponLevelsObject;
-                for (Map.Entry<String, Object> entry : rawWeaponLevels.entrySet()) {
-                    if (entry.getValue() instanceof Number) {
-                        weaponLevels.put(entry.getKey(), ((Number) entry.getValue()).intValue());
-                    }
-                }
-            }
+    public PlayerData fetchPlayerData(String uid) throws IOException {
+        if (repository == null) return null;
+        PlayerData playerData = repository.load(uid);
+        if (playerData != null) {
+            playerData.clearChanges();
         }
-        return weaponLevels;
+        return playerData;
     }
 
     /**
-     * 데이터베이스에서 상위 10명의 최고 점수 기록을 가져와 랭킹 목록을 생성합니다.
-     *
-     * @return 랭킹 정보가 담긴 {@link org.newdawn.spaceinvaders.ranking.Ranking} 객체의 리스트
+     * 리더보드의 백그라운드 조회 작업. 저장소에서 상위 {@link #HIGH_SCORE_LIMIT}명의 기록을 가져옵니다.
+     * 실패를 예외로 알려 리더보드가 기존 캐시를 유지하게 합니다.
      */
-    public List<org.newdawn.spaceinvaders.ranking.Ranking> getHighScores() {
-        List<org.newdawn.spaceinvaders.ranking.Ranking> highScores = new ArrayList<>();
-        if (db == null) return highScores;
-
-        ApiFuture<QuerySnapshot> query = db.collection(USERS_COLLECTION).orderBy(HIGH_SCORE_FIELD, Query.Direction.DESCENDING).limit(10).get();
-        try {
-            QuerySnapshot querySnapshot = query.get();
-            for (QueryDocumentSnapshot document : querySnapshot.getDocuments()) {
-                String username = document.getString(USERNAME_FIELD);
-                int score = document.getLong(HIGH_SCORE_FIELD).intValue();
-                highScores.add(new org.newdawn.spaceinvaders.ranking.Ranking(username, score));
-            }
-        } catch (InterruptedException | ExecutionException e) {
-            e.printStackTrace();
-        }
+    private List<Ranking> fetchHighScores() throws IOException {
+        if (repository == null) return new ArrayList<>();
+        long start = System.nanoTime();
+        List<Ranking> highScores = repository.findTopScores(HIGH_SCORE_LIMIT);
+        System.out.println(LOG_RANKING_LOADED + elapsedMillis(start) + "ms");
         return highScores;
     }
-}
\ No newline at end of file
+
+    /**
+     * 시작 시각부터 지금까지의 경과 시간을 소수점 한 자리의 밀리초 문자열로 반환합니다.
+     */
+    private static String elapsedMillis(long start) {
+        return String.format("%.1f", (System.nanoTime() - start) / 1_000_000.0);
+    }
+}
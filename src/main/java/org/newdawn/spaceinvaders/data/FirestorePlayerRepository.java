@@ -0,0 +1,166 @@
+package org.newdawn.spaceinvaders.data;
+
+import com.google.api.core.ApiFuture;
+import com.google.cloud.firestore.*;
+import org.newdawn.spaceinvaders.ranking.Ranking;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Firestore 'users' 컬렉션에 플레이어 데이터를 저장하는 {@link PlayerRepository} 구현.
+ * 플레이어 데이터는 회원가입 때 만들어진 계정 문서에 필드로 저장됩니다.
+ */
+public class FirestorePlayerRepository implements PlayerRepository {
+
+    // Firestore 컬렉션 및 필드 이름을 상수로 정의
+    private static final String USERS_COLLECTION = "users";
+    private static final String HIGH_SCORE_FIELD = "highScore";
+    private static final String CREDIT_FIELD = "credit";
+    private static final String UPGRADE_LEVELS_FIELD = "upgradeLevels";
+    private static final String PET_INVENTORY_FIELD = "petInventory";
+    private static final String PET_LEVELS_FIELD = "petLevels";
+    private static final String WEAPON_LEVELS_FIELD = "weaponLevels";
+    private static final String USERNAME_FIELD = "username";
+    /** 계정 문서에 저장하는 플레이어 데이터 필드. */
+    private static final Set<String> SAVED_FIELDS = Set.of(HIGH_SCORE_FIELD, CREDIT_FIELD, UPGRADE_LEVELS_FIELD,
+            PET_INVENTORY_FIELD, PET_LEVELS_FIELD, WEAPON_LEVELS_FIELD);
+
+    /** Firestore 데이터베이스 인스턴스. */
+    private final Firestore db;
+
+    /**
+     * FirestorePlayerRepository 생성자.
+     * @param db Firestore 데이터베이스 인스턴스
+     */
+    public FirestorePlayerRepository(Firestore db) {
+        this.db = db;
+    }
+
+    /**
+     * {@inheritDoc}
+     * 계정 문서를 덮어쓰지 않고, 마지막 저장 이후 바뀐 필드 경로({@link PlayerData#changedPaths()})만 갱신합니다.
+     * 맵의 한 키만 바뀐 경우 {@code weaponLevels.Laser}처럼 해당 키만 보내므로, 상점에서 크레딧만 바뀌면 크레딧만 전송됩니다.
+     * Firestore 문서에 저장하지 않는 필드(장착 정보 등)의 변경은 무시합니다.
+     */
+    @Override
+    public void save(String uid, PlayerData playerData) throws IOException {
+        List<Object> fieldsAndValues = new ArrayList<>();
+        for (String path : playerData.changedPaths()) {
+            int dot = path.indexOf('.');
+            String field = dot < 0 ? path : path.substring(0, dot);
+            if (!SAVED_FIELDS.contains(field)) {
+                continue;
+            }
+            if (dot < 0) {
+                fieldsAndValues.add(FieldPath.of(field));
+                fieldsAndValues.add(fieldValue(playerData, field));
+            } else {
+                String key = path.substring(dot + 1);
+                Integer value = mapField(playerData, field).get(key);
+                fieldsAndValues.add(FieldPath.of(field, key));
+                fieldsAndValues.add(value != null ? value : FieldValue.delete());
+            }
+        }
+        if (fieldsAndValues.isEmpty()) {
+            return;
+        }
+
+        DocumentReference docRef = db.collection(USERS_COLLECTION).document(uid);
+        await(docRef.update((FieldPath) fieldsAndValues.get(0), fieldsAndValues.get(1),
+                fieldsAndValues.subList(2, fieldsAndValues.size()).toArray()));
+    }
+
+    /**
+     * 저장할 필드 전체의 값을 반환합니다.
+     */
+    private static Object fieldValue(PlayerData playerData, String field) {
+        switch (field) {
+            case HIGH_SCORE_FIELD: return playerData.getHighScore();
+            case CREDIT_FIELD: return playerData.getCredit();
+            default: return mapField(playerData, field);
+        }
+    }
+
+    /**
+     * 맵 필드의 값을 반환합니다.
+     */
+    private static Map<String, Integer> mapField(PlayerData playerData, String field) {
+        switch (field) {
+            case UPGRADE_LEVELS_FIELD: return playerData.getUpgradeLevels();
+            case PET_INVENTORY_FIELD: return playerData.getPetInventory();
+            case PET_LEVELS_FIELD: return playerData.getPetLevels();
+            case WEAPON_LEVELS_FIELD: return playerData.getWeaponLevels();
+            default: throw new IllegalArgumentException("저장하지 않는 필드입니다: " + field);
+        }
+    }
+
+    @Override
+    public PlayerData load(String uid) throws IOException {
+        DocumentSnapshot document = await(db.collection(USERS_COLLECTION).document(uid).get());
+        if (!document.exists()) {
+            return null;
+        }
+        PlayerData playerData = document.toObject(PlayerData.class);
+        if (playerData != null) {
+            playerData.setWeaponLevels(extractWeaponLevels(document));
+        }
+        return playerData;
+    }
+
+    @Override
+    public List<Ranking> findTopScores(int limit) throws IOException {
+        List<Ranking> highScores = new ArrayList<>();
+        QuerySnapshot querySnapshot = await(db.collection(USERS_COLLECTION)
+                .orderBy(HIGH_SCORE_FIELD, Query.Direction.DESCENDING).limit(limit).get());
+        for (QueryDocumentSnapshot document : querySnapshot.getDocuments()) {
+            String username = document.getString(USERNAME_FIELD);
+            int score = document.getLong(HIGH_SCORE_FIELD).intValue();
+            highScores.add(new Ranking(username, score));
+        }
+        return highScores;
+    }
+
+    /**
+     * Firestore DocumentSnapshot에서 무기 레벨 정보를 추출합니다.
+     * Firestore는 숫자를 Long으로 저장하므로, 이를 Integer로 변환하는 과정을 거칩니다.
+     *
+     * @param document Firestore 문서 스냅샷
+     * @return 무기 타입과 레벨을 매핑한 맵
+     */
+    private Map<String, Integer> extractWeaponLevels(DocumentSnapshot document) {
+        Map<String, Integer> weaponLevels = new HashMap<>();
+        if (document.contains(WEAPON_LEVELS_FIELD)) {
+            Object rawWeaponLevelsObject = document.get(WEAPON_LEVELS_FIELD);
+            if (rawWeaponLevelsObject instanceof Map) {
+                @SuppressWarnings("unchecked")
+                Map<String, Object> rawWeaponLevels = (Map<String, Object>) rawWeaponLevelsObject;
+                for (Map.Entry<String, Object> entry : rawWeaponLevels.entrySet()) {
+                    if (entry.getValue() instanceof Number) {
+                        weaponLevels.put(entry.getKey(), ((Number) entry.getValue()).intValue());
+                    }
+                }
+            }
+        }
+        return weaponLevels;
+    }
+
+    /**
+     * Firestore 요청이 끝날 때까지 기다리고, 실패를 {@link IOException}으로 바꿉니다.
+     */
+    private static <T> T await(ApiFuture<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+    }
+}
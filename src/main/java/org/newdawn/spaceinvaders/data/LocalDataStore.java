@@ -0,0 +1,266 @@
+package org.newdawn.spaceinvaders.data;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.newdawn.spaceinvaders.auth.UserCredentials;
+import org.newdawn.spaceinvaders.auth.UserRepository;
+import org.newdawn.spaceinvaders.ranking.Ranking;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Firebase 없이 로컬 파일에 계정과 플레이어 데이터를 저장하는 내장 저장소.
+ * {@link PlayerRepository}와 {@link UserRepository}를 함께 구현하므로, 오프라인 플레이나 로컬 성능 테스트에서
+ * Firestore 구현 대신 그대로 끼워 넣을 수 있습니다.
+ * <p>
+ * 모든 데이터는 메모리에 보관하고, 변경은 한 줄에 JSON 레코드 하나씩 파일 끝에 덧붙입니다 (append-only 로그).
+ * 파일을 열 때 로그를 처음부터 다시 읽어 같은 키의 마지막 레코드를 현재 값으로 삼습니다.
+ * 덮어쓰인 레코드가 쌓여 로그가 살아 있는 레코드 수의 {@link #COMPACT_RATIO}배를 넘으면 현재 값만으로 로그를 다시 씁니다.
+ * 쓰기 도중 프로그램이 종료되어 마지막 줄이 잘린 경우, 그 줄은 경고와 함께 파일에서 잘라 냅니다.
+ * <p>
+ * 파일 없이 생성하면 메모리에만 보관하므로 테스트와 벤치마크에 사용할 수 있습니다. 모든 메소드는 이 객체로 동기화됩니다.
+ */
+public class LocalDataStore implements PlayerRepository, UserRepository, Closeable {
+
+    /** 로그 압축을 시작하는 비율 (전체 레코드 수 / 살아 있는 레코드 수). */
+    static final int COMPACT_RATIO = 4;
+    /** 로그가 이보다 작으면 압축하지 않습니다. */
+    static final int MIN_COMPACT_RECORDS = 64;
+
+    // 레코드 필드 이름
+    private static final String TYPE_KEY = "type";
+    private static final String ID_KEY = "id";
+    private static final String USER_TYPE = "user";
+    private static final String PLAYER_TYPE = "player";
+    private static final String USERNAME_KEY = "username";
+    private static final String HASHED_PASSWORD_KEY = "hashedPassword";
+
+    /** 로그 파일 경로. 메모리 전용이면 null. */
+    private final Path file;
+    /** UID별 계정 정보. */
+    private final Map<String, UserCredentials> users = new HashMap<>();
+    /** 사용자 이름별 계정 정보. */
+    private final Map<String, UserCredentials> usersByName = new HashMap<>();
+    /** UID별 플레이어 데이터. 저장된 사본이므로 밖으로 내보낼 때는 다시 복사합니다. */
+    private final Map<String, PlayerData> players = new HashMap<>();
+
+    /** 로그 파일 끝에 레코드를 덧붙이는 출력. 메모리 전용이면 null. */
+    private BufferedWriter writer;
+    /** 로그 파일에 들어 있는 레코드 수. */
+    private int recordCount;
+
+    /**
+     * 파일 없이 메모리에만 데이터를 보관하는 저장소를 생성합니다.
+     */
+    public LocalDataStore() {
+        this.file = null;
+    }
+
+    private LocalDataStore(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * 로그 파일을 열어 저장된 데이터를 읽어 들입니다. 파일이 없으면 새로 만듭니다.
+     * @param file 로그 파일 경로
+     * @return 파일에 연결된 저장소
+     * @throws IOException 파일을 읽거나 만들 수 없는 경우
+     */
+    public static LocalDataStore open(Path file) throws IOException {
+        LocalDataStore store = new LocalDataStore(file);
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        if (Files.exists(file)) {
+            store.replay();
+        }
+        store.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        return store;
+    }
+
+    @Override
+    public synchronized UserCredentials findByUsername(String username) {
+        return usersByName.get(username);
+    }
+
+    @Override
+    public synchronized boolean isTaken(String username) {
+        return usersByName.containsKey(username);
+    }
+
+    @Override
+    public synchronized String create(String username, String hashedPassword) throws IOException {
+        if (usersByName.containsKey(username)) {
+            return null;
+        }
+        String uid = UUID.randomUUID().toString();
+        UserCredentials credentials = new UserCredentials(uid, username, hashedPassword);
+        append(new JSONObject()
+                .put(TYPE_KEY, USER_TYPE)
+                .put(ID_KEY, uid)
+                .put(USERNAME_KEY, username)
+                .put(HASHED_PASSWORD_KEY, hashedPassword));
+        putUser(credentials);
+        return uid;
+    }
+
+    @Override
+    public synchronized PlayerData load(String uid) {
+        PlayerData playerData = players.get(uid);
+        return playerData != null ? playerData.copy() : null;
+    }
+
+    @Override
+    public synchronized void save(String uid, PlayerData playerData) throws IOException {
+        // 로그 레코드는 항상 전체 값을 담으므로 바뀐 필드 기록은 필요 없습니다.
+        PlayerData snapshot = playerData.copy();
+        snapshot.clearChanges();
+        append(toRecord(uid, snapshot));
+        players.put(uid, snapshot);
+        compactIfNeeded();
+    }
+
+    @Override
+    public synchronized List<Ranking> findTopScores(int limit) {
+        List<Ranking> rankings = new ArrayList<>();
+        for (Map.Entry<String, PlayerData> entry : players.entrySet()) {
+            UserCredentials user = users.get(entry.getKey());
+            String username = user != null ? user.getUsername() : entry.getValue().getUsername();
+            rankings.add(new Ranking(username, entry.getValue().getHighScore()));
+        }
+        rankings.sort((a, b) -> Integer.compare(b.getScore(), a.getScore()));
+        return rankings.size() > limit ? new ArrayList<>(rankings.subList(0, limit)) : rankings;
+    }
+
+    /**
+     * 로그 파일을 닫습니다. 메모리에 있는 데이터는 모두 이미 파일에 기록되어 있습니다.
+     * @throws IOException 파일을 닫을 수 없는 경우
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+            writer = null;
+        }
+    }
+
+    /**
+     * 로그 파일을 처음부터 읽어 메모리 상태를 복원합니다.
+     * 줄바꿈으로 끝나지 않은 마지막 줄은 쓰기 도중 잘린 레코드이므로, 다음 레코드가 그 뒤에 이어 붙지 않도록 파일에서 잘라 냅니다.
+     */
+    private void replay() throws IOException {
+        byte[] data = Files.readAllBytes(file);
+        int start = 0;
+        int lineNumber = 0;
+        for (int i = 0; i < data.length; i++) {
+            if (data[i] != '\n') {
+                continue;
+            }
+            lineNumber++;
+            int end = i > start && data[i - 1] == '\r' ? i - 1 : i;
+            if (end > start) {
+                try {
+                    apply(new JSONObject(new String(data, start, end - start, StandardCharsets.UTF_8)));
+                    recordCount++;
+                } catch (JSONException e) {
+                    System.err.println("로컬 저장소의 손상된 레코드를 무시합니다: " + file + ":" + lineNumber);
+                }
+            }
+            start = i + 1;
+        }
+        if (start < data.length) {
+            System.err.println("로컬 저장소의 잘린 마지막 레코드를 제거합니다: " + file + ":" + (lineNumber + 1));
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                channel.truncate(start);
+            }
+        }
+    }
+
+    /**
+     * 로그 레코드 하나를 메모리 상태에 반영합니다.
+     */
+    private void apply(JSONObject record) {
+        String uid = record.getString(ID_KEY);
+        if (USER_TYPE.equals(record.getString(TYPE_KEY))) {
+            putUser(new UserCredentials(uid, record.getString(USERNAME_KEY), record.optString(HASHED_PASSWORD_KEY, null)));
+        } else {
+            players.put(uid, PlayerDataJson.fromJson(record));
+        }
+    }
+
+    private void putUser(UserCredentials credentials) {
+        UserCredentials previous = users.put(credentials.getUid(), credentials);
+        if (previous != null) {
+            usersByName.remove(previous.getUsername());
+        }
+        usersByName.put(credentials.getUsername(), credentials);
+    }
+
+    /**
+     * 레코드를 로그 파일 끝에 덧붙이고 바로 내보냅니다.
+     */
+    private void append(JSONObject record) throws IOException {
+        if (file == null) {
+            return;
+        }
+        if (writer == null) {
+            throw new IOException("로컬 저장소가 이미 닫혔습니다: " + file);
+        }
+        writer.write(record.toString());
+        writer.write('\n');
+        writer.flush();
+        recordCount++;
+    }
+
+    /**
+     * 덮어쓰인 레코드가 많이 쌓였으면 현재 값만으로 로그를 다시 씁니다.
+     * 임시 파일에 먼저 쓴 뒤 교체하므로, 압축 도중 종료되어도 기존 로그는 남아 있습니다.
+     */
+    private void compactIfNeeded() throws IOException {
+        int liveRecords = users.size() + players.size();
+        if (file == null || recordCount < MIN_COMPACT_RECORDS || recordCount < liveRecords * COMPACT_RATIO) {
+            return;
+        }
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (BufferedWriter out = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            for (UserCredentials user : users.values()) {
+                out.write(new JSONObject()
+                        .put(TYPE_KEY, USER_TYPE)
+                        .put(ID_KEY, user.getUid())
+                        .put(USERNAME_KEY, user.getUsername())
+                        .put(HASHED_PASSWORD_KEY, user.getHashedPassword())
+                        .toString());
+                out.write('\n');
+            }
+            for (Map.Entry<String, PlayerData> entry : players.entrySet()) {
+                out.write(toRecord(entry.getKey(), entry.getValue()).toString());
+                out.write('\n');
+            }
+        }
+        writer.close();
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        recordCount = liveRecords;
+    }
+
+    private static JSONObject toRecord(String uid, PlayerData playerData) {
+        return PlayerDataJson.toJson(playerData)
+                .put(TYPE_KEY, PLAYER_TYPE)
+                .put(ID_KEY, uid);
+    }
+}
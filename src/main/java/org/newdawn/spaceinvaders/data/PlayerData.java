@@ -1,11 +1,19 @@
 package org.newdawn.spaceinvaders.data;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Firebase Firestore에 저장될 플레이어의 영구 데이터를 담는 POJO(Plain Old Java Object) 클래스.
  * 최고 점수, 재화, 업그레이드, 펫, 무기 등 플레이어의 모든 저장 가능한 정보를 포함합니다.
+ * <p>
+ * 마지막 저장 이후 바뀐 필드를 경로({@code credit}, {@code weaponLevels.Laser} 등)로 기록하여,
+ * 저장소가 바뀐 부분만 보낼 수 있게 합니다. 이 기록이 정확하도록 맵 필드의 getter는 읽기 전용 뷰를 반환하며,
+ * 값의 변경은 반드시 setter를 거쳐야 합니다.
  */
 public class PlayerData {
 
@@ -28,6 +36,9 @@ public class PlayerData {
     /** 소유한 무기들의 레벨 정보. (Key: 무기 ID, Value: 레벨) */
     private Map<String, Integer> weaponLevels = new HashMap<>();
 
+    /** 마지막 저장 이후 바뀐 필드 경로. 맵 필드 전체가 바뀌면 필드 이름, 한 키만 바뀌면 "필드.키" 형태입니다. */
+    private final Set<String> changedPaths = new LinkedHashSet<>();
+
     /**
      * 기본 생성자.
      * Firestore가 데이터를 객체로 변환할 때 필요합니다.
@@ -36,10 +47,104 @@ public class PlayerData {
         // Firestore 역직렬화를 위해 필요
     }
 
+    /**
+     * 이 플레이어 데이터의 사본을 만듭니다. 맵 필드도 새 맵으로 복사하므로 원본을 수정해도 사본은 바뀌지 않습니다.
+     * 백그라운드 저장처럼 다른 스레드에 데이터를 넘길 때 사용합니다.
+     * @return 플레이어 데이터 사본
+     */
+    public PlayerData copy() {
+        PlayerData copy = new PlayerData();
+        copy.username = username;
+        copy.highScore = highScore;
+        copy.credit = credit;
+        copy.upgradeLevels = new HashMap<>(upgradeLevels);
+        copy.petLevels = new HashMap<>(petLevels);
+        copy.petInventory = new HashMap<>(petInventory);
+        copy.equippedPet = equippedPet;
+        copy.equippedWeapon = equippedWeapon;
+        copy.weaponLevels = new HashMap<>(weaponLevels);
+        copy.changedPaths.addAll(changedPaths);
+        return copy;
+    }
+
+    /**
+     * 바뀐 필드 기록을 포함한 사본을 만들고, 이 객체의 기록은 지웁니다. 저장을 예약할 때 사용합니다.
+     * @return 바뀐 필드 기록을 가진 사본
+     */
+    public PlayerData takeChanges() {
+        PlayerData copy = copy();
+        changedPaths.clear();
+        return copy;
+    }
+
+    /**
+     * 마지막 저장 이후 바뀐 필드 경로를 반환합니다.
+     * @return 읽기 전용 경로 집합
+     */
+    public Set<String> changedPaths() {
+        return Collections.unmodifiableSet(changedPaths);
+    }
+
+    /**
+     * 바뀐 필드 기록을 지웁니다. 저장소에서 불러온 직후처럼 저장된 값과 같아졌을 때 호출합니다.
+     */
+    public void clearChanges() {
+        changedPaths.clear();
+    }
+
+    /**
+     * 모든 필드를 바뀐 것으로 표시합니다. 저장소에 아직 없는 새 플레이어 데이터에 사용합니다.
+     */
+    public void markAllChanged() {
+        for (String field : new String[] {"username", "highScore", "credit", "upgradeLevels", "petLevels",
+                "petInventory", "equippedPet", "equippedWeapon", "weaponLevels"}) {
+            markChanged(field);
+        }
+    }
+
+    /**
+     * 다른 데이터의 바뀐 필드 기록을 이 데이터의 기록에 합칩니다.
+     * 저장되지 않은 이전 사본을 더 새로운 사본으로 대체할 때, 이전 사본의 변경이 빠지지 않도록 사용합니다.
+     * @param older 대체되는 이전 데이터
+     */
+    public void mergeChanges(PlayerData older) {
+        for (String path : older.changedPaths) {
+            int dot = path.indexOf('.');
+            if (dot < 0) {
+                markChanged(path);
+            } else {
+                markChanged(path.substring(0, dot), path.substring(dot + 1));
+            }
+        }
+    }
+
+    /**
+     * 필드 전체를 바뀐 것으로 표시합니다. 이미 기록된 하위 키 경로는 필드 경로에 포함되므로 지웁니다.
+     */
+    private void markChanged(String field) {
+        String prefix = field + ".";
+        for (Iterator<String> iterator = changedPaths.iterator(); iterator.hasNext(); ) {
+            if (iterator.next().startsWith(prefix)) {
+                iterator.remove();
+            }
+        }
+        changedPaths.add(field);
+    }
+
+    /**
+     * 맵 필드의 한 키를 바뀐 것으로 표시합니다. 필드 전체가 이미 표시되어 있으면 아무것도 하지 않습니다.
+     */
+    private void markChanged(String field, String key) {
+        if (!changedPaths.contains(field)) {
+            changedPaths.add(field + "." + key);
+        }
+    }
+
     public String getUsername() { return username; }
 
     public void setUsername(String username) {
         this.username = username;
+        markChanged("username");
     }
 
     public int getHighScore() {
@@ -48,6 +153,7 @@ public class PlayerData {
 
     public void setHighScore(int highScore) {
         this.highScore = highScore;
+        markChanged("highScore");
     }
 
     public int getCredit() {
@@ -56,14 +162,16 @@ public class PlayerData {
 
     public void setCredit(int credit) {
         this.credit = credit;
+        markChanged("credit");
     }
 
     public Map<String, Integer> getUpgradeLevels() {
-        return upgradeLevels;
+        return Collections.unmodifiableMap(upgradeLevels);
     }
 
     public void setUpgradeLevels(Map<String, Integer> upgradeLevels) {
-        this.upgradeLevels = upgradeLevels;
+        this.upgradeLevels = upgradeLevels != null ? new HashMap<>(upgradeLevels) : new HashMap<>();
+        markChanged("upgradeLevels");
     }
 
     /**
@@ -82,14 +190,16 @@ public class PlayerData {
      */
     public void setUpgradeLevel(String upgradeId, int level) {
         upgradeLevels.put(upgradeId, level);
+        markChanged("upgradeLevels", upgradeId);
     }
 
     public Map<String, Integer> getPetLevels() {
-        return petLevels;
+        return Collections.unmodifiableMap(petLevels);
     }
 
     public void setPetLevels(Map<String, Integer> petLevels) {
-        this.petLevels = petLevels;
+        this.petLevels = petLevels != null ? new HashMap<>(petLevels) : new HashMap<>();
+        markChanged("petLevels");
     }
 
     /**
@@ -107,14 +217,35 @@ public class PlayerData {
      */
     public void increasePetLevel(String petType) {
         petLevels.put(petType, getPetLevel(petType) + 1);
+        markChanged("petLevels", petType);
     }
 
     public Map<String, Integer> getPetInventory() {
-        return petInventory;
+        return Collections.unmodifiableMap(petInventory);
     }
 
     public void setPetInventory(Map<String, Integer> petInventory) {
-        this.petInventory = petInventory;
+        this.petInventory = petInventory != null ? new HashMap<>(petInventory) : new HashMap<>();
+        markChanged("petInventory");
+    }
+
+    /**
+     * 특정 펫의 보유 개수를 반환합니다.
+     * @param petType 조회할 펫의 타입
+     * @return 보유 개수. 없으면 0.
+     */
+    public int getPetCount(String petType) {
+        return petInventory.getOrDefault(petType, 0);
+    }
+
+    /**
+     * 특정 펫의 보유 개수를 설정합니다.
+     * @param petType 개수를 설정할 펫의 타입
+     * @param count 설정할 개수
+     */
+    public void setPetCount(String petType, int count) {
+        petInventory.put(petType, count);
+        markChanged("petInventory", petType);
     }
 
     public String getEquippedPet() {
@@ -123,6 +254,7 @@ public class PlayerData {
 
     public void setEquippedPet(String equippedPet) {
         this.equippedPet = equippedPet;
+        markChanged("equippedPet");
     }
 
     public String getEquippedWeapon() {
@@ -131,13 +263,34 @@ public class PlayerData {
 
     public void setEquippedWeapon(String equippedWeapon) {
         this.equippedWeapon = equippedWeapon;
+        markChanged("equippedWeapon");
     }
 
     public Map<String, Integer> getWeaponLevels() {
-        return weaponLevels;
+        return Collections.unmodifiableMap(weaponLevels);
     }
 
     public void setWeaponLevels(Map<String, Integer> weaponLevels) {
-        this.weaponLevels = weaponLevels;
+        this.weaponLevels = weaponLevels != null ? new HashMap<>(weaponLevels) : new HashMap<>();
+        markChanged("weaponLevels");
+    }
+
+    /**
+     * 특정 무기의 레벨을 반환합니다.
+     * @param weaponId 조회할 무기의 ID
+     * @return 해당 무기의 레벨. 없으면 0.
+     */
+    public int getWeaponLevel(String weaponId) {
+        return weaponLevels.getOrDefault(weaponId, 0);
+    }
+
+    /**
+     * 특정 무기의 레벨을 설정합니다.
+     * @param weaponId 레벨을 설정할 무기의 ID
+     * @param level 설정할 레벨
+     */
+    public void setWeaponLevel(String weaponId, int level) {
+        weaponLevels.put(weaponId, level);
+        markChanged("weaponLevels", weaponId);
     }
-}
\ No newline at end of file
+}
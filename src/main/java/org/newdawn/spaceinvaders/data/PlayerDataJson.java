@@ -0,0 +1,76 @@
+package org.newdawn.spaceinvaders.data;
+
+import org.json.JSONObject;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link PlayerData}를 JSON 객체로 바꾸고 되돌리는 변환기.
+ * 로컬 저장소의 로그 레코드와 세션 캐시처럼 Firestore 밖에 플레이어 데이터를 저장할 때 사용합니다.
+ */
+public final class PlayerDataJson {
+
+    // JSON 필드 이름
+    private static final String USERNAME_KEY = "username";
+    private static final String HIGH_SCORE_KEY = "highScore";
+    private static final String CREDIT_KEY = "credit";
+    private static final String UPGRADE_LEVELS_KEY = "upgradeLevels";
+    private static final String PET_LEVELS_KEY = "petLevels";
+    private static final String PET_INVENTORY_KEY = "petInventory";
+    private static final String EQUIPPED_PET_KEY = "equippedPet";
+    private static final String EQUIPPED_WEAPON_KEY = "equippedWeapon";
+    private static final String WEAPON_LEVELS_KEY = "weaponLevels";
+
+    private PlayerDataJson() {
+    }
+
+    /**
+     * 플레이어 데이터의 모든 필드를 담은 JSON 객체를 만듭니다.
+     * @param playerData 변환할 플레이어 데이터
+     * @return 새 JSON 객체. 호출하는 쪽에서 다른 필드를 더 넣어도 됩니다.
+     */
+    public static JSONObject toJson(PlayerData playerData) {
+        return new JSONObject()
+                .put(USERNAME_KEY, playerData.getUsername())
+                .put(HIGH_SCORE_KEY, playerData.getHighScore())
+                .put(CREDIT_KEY, playerData.getCredit())
+                .put(UPGRADE_LEVELS_KEY, playerData.getUpgradeLevels())
+                .put(PET_LEVELS_KEY, playerData.getPetLevels())
+                .put(PET_INVENTORY_KEY, playerData.getPetInventory())
+                .put(EQUIPPED_PET_KEY, playerData.getEquippedPet())
+                .put(EQUIPPED_WEAPON_KEY, playerData.getEquippedWeapon())
+                .put(WEAPON_LEVELS_KEY, playerData.getWeaponLevels());
+    }
+
+    /**
+     * JSON 객체에서 플레이어 데이터를 읽습니다. 없는 필드는 기본값으로 둡니다.
+     * @param json {@link #toJson(PlayerData)}로 만든 JSON 객체
+     * @return 바뀐 필드 기록이 없는 플레이어 데이터
+     */
+    public static PlayerData fromJson(JSONObject json) {
+        PlayerData playerData = new PlayerData();
+        playerData.setUsername(json.optString(USERNAME_KEY, null));
+        playerData.setHighScore(json.optInt(HIGH_SCORE_KEY));
+        playerData.setCredit(json.optInt(CREDIT_KEY));
+        playerData.setUpgradeLevels(readLevels(json, UPGRADE_LEVELS_KEY));
+        playerData.setPetLevels(readLevels(json, PET_LEVELS_KEY));
+        playerData.setPetInventory(readLevels(json, PET_INVENTORY_KEY));
+        playerData.setEquippedPet(json.optString(EQUIPPED_PET_KEY, null));
+        playerData.setEquippedWeapon(json.optString(EQUIPPED_WEAPON_KEY, null));
+        playerData.setWeaponLevels(readLevels(json, WEAPON_LEVELS_KEY));
+        playerData.clearChanges();
+        return playerData;
+    }
+
+    private static Map<String, Integer> readLevels(JSONObject json, String key) {
+        Map<String, Integer> levels = new HashMap<>();
+        JSONObject object = json.optJSONObject(key);
+        if (object != null) {
+            for (String name : object.keySet()) {
+                levels.put(name, object.getInt(name));
+            }
+        }
+        return levels;
+    }
+}
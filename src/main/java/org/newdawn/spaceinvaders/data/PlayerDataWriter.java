@@ -0,0 +1,135 @@
+package org.newdawn.spaceinvaders.data;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 플레이어 데이터 저장을 게임 스레드에서 떼어내 백그라운드 스레드에서 수행하는 write-behind 큐.
+ * {@link #submit(String, PlayerData)}은 데이터의 사본을 큐에 넣고 바로 반환하므로, 게임 오버나 상점 구매 때
+ * 게임 루프가 Firestore 왕복을 기다리지 않습니다.
+ * <p>
+ * 제출할 때 원본의 바뀐 필드 기록({@link PlayerData#takeChanges()})을 사본으로 옮기므로, 저장소는 바뀐 부분만 보낼 수 있습니다.
+ * 같은 사용자의 데이터가 아직 저장되지 않은 상태에서 다시 제출되면 마지막 데이터만 남기고 바뀐 필드 기록은 합칩니다.
+ * 저장에 실패하면 지수적으로 늘어나는 간격({@link #INITIAL_BACKOFF_MILLIS} ~ {@link #MAX_BACKOFF_MILLIS})으로 다시 시도하며,
+ * 그 사이 더 새로운 데이터가 제출되었다면 실패한 데이터 대신 새 데이터를 저장합니다.
+ * 종료 시에는 {@link #shutdown(long)}으로 남은 데이터를 저장할 때까지 기다립니다.
+ */
+public class PlayerDataWriter {
+
+    /** 첫 재시도까지의 대기 시간 (밀리초). */
+    public static final long INITIAL_BACKOFF_MILLIS = 500;
+    /** 재시도 대기 시간의 상한 (밀리초). */
+    public static final long MAX_BACKOFF_MILLIS = 30_000;
+
+    /** 실제 저장을 수행하는 데이터베이스 관리자. */
+    private final DatabaseManager databaseManager;
+    /** 저장을 수행하는 단일 백그라운드 스레드. */
+    private final ScheduledExecutorService executor;
+    /** 저장을 기다리는 사용자별 최신 데이터. 이 객체로 동기화됩니다. */
+    private final Map<String, PlayerData> pending = new LinkedHashMap<>();
+    /** 저장 작업이 예약되었거나 실행 중인지 여부. */
+    private boolean flushScheduled;
+    /** 다음 재시도까지의 대기 시간 (밀리초). 저장 스레드에서만 사용합니다. */
+    private long backoffMillis = INITIAL_BACKOFF_MILLIS;
+
+    /**
+     * PlayerDataWriter 생성자.
+     * @param databaseManager 실제 저장을 수행하는 데이터베이스 관리자
+     */
+    public PlayerDataWriter(DatabaseManager databaseManager) {
+        this.databaseManager = databaseManager;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "PlayerDataWriter");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 플레이어 데이터의 저장을 예약합니다. 데이터는 호출 시점의 사본으로 저장되므로 호출 후 원본을 계속 수정해도 됩니다.
+     * 원본의 바뀐 필드 기록은 사본으로 옮겨지고 지워집니다. 바뀐 필드가 없으면 아무것도 하지 않습니다.
+     * @param uid 저장할 사용자의 고유 ID (UID)
+     * @param playerData 저장할 플레이어 데이터
+     */
+    public void submit(String uid, PlayerData playerData) {
+        if (uid == null || uid.trim().isEmpty()) return;
+        PlayerData snapshot = playerData.takeChanges();
+        if (snapshot.changedPaths().isEmpty()) return;
+        synchronized (this) {
+            pending.merge(uid, snapshot, (older, newer) -> {
+                newer.mergeChanges(older);
+                return newer;
+            });
+            if (!flushScheduled) {
+                flushScheduled = true;
+                executor.execute(this::flush);
+            }
+        }
+    }
+
+    /**
+     * 큐에 남은 데이터를 모두 저장할 때까지 기다린 뒤 백그라운드 스레드를 종료합니다.
+     * @param timeoutMillis 최대 대기 시간 (밀리초)
+     * @return 남은 데이터를 모두 저장했으면 true, 시간 안에 끝나지 않았으면 false
+     */
+    public boolean shutdown(long timeoutMillis) {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        boolean drained;
+        synchronized (this) {
+            try {
+                long remaining;
+                while ((!pending.isEmpty() || flushScheduled) && (remaining = deadline - System.currentTimeMillis()) > 0) {
+                    wait(remaining);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            drained = pending.isEmpty() && !flushScheduled;
+        }
+        executor.shutdownNow();
+        if (!drained) {
+            System.err.println("저장되지 않은 플레이어 데이터가 남은 채로 종료합니다.");
+        }
+        return drained;
+    }
+
+    /**
+     * 큐에 있는 데이터를 하나씩 꺼내 저장합니다. 실패하면 대기 후 다시 시도하도록 예약합니다.
+     */
+    private void flush() {
+        while (true) {
+            String uid;
+            PlayerData playerData;
+            synchronized (this) {
+                Iterator<Map.Entry<String, PlayerData>> iterator = pending.entrySet().iterator();
+                if (!iterator.hasNext()) {
+                    flushScheduled = false;
+                    notifyAll();
+                    return;
+                }
+                Map.Entry<String, PlayerData> entry = iterator.next();
+                uid = entry.getKey();
+                playerData = entry.getValue();
+                iterator.remove();
+            }
+
+            if (!databaseManager.updatePlayerData(uid, playerData)) {
+                synchronized (this) {
+                    // 그 사이 더 새로운 데이터가 제출되었다면 그 데이터에 실패한 변경 기록을 합쳐 저장합니다.
+                    pending.merge(uid, playerData, (newer, failed) -> {
+                        newer.mergeChanges(failed);
+                        return newer;
+                    });
+                }
+                executor.schedule(this::flush, backoffMillis, TimeUnit.MILLISECONDS);
+                backoffMillis = Math.min(backoffMillis * 2, MAX_BACKOFF_MILLIS);
+                return;
+            }
+            backoffMillis = INITIAL_BACKOFF_MILLIS;
+        }
+    }
+}
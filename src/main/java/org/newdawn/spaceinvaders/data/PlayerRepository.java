@@ -0,0 +1,41 @@
+package org.newdawn.spaceinvaders.data;
+
+import org.newdawn.spaceinvaders.ranking.Ranking;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 플레이어 데이터를 영구 저장소에 읽고 쓰는 저장소 인터페이스.
+ * {@link DatabaseManager}는 이 인터페이스만 사용하므로, Firestore({@link FirestorePlayerRepository})와
+ * 로컬 파일({@link LocalDataStore}) 중 어느 쪽을 쓰든 게임 코드는 바뀌지 않습니다.
+ * <p>
+ * 구현은 저장소 오류를 {@link IOException}으로 알리며, 로그 출력과 기본값 처리는 호출하는 쪽에서 합니다.
+ * 저장은 {@link PlayerDataWriter}의 백그라운드 스레드에서, 불러오기는 게임 스레드에서 호출될 수 있으므로 구현은 스레드에 안전해야 합니다.
+ */
+public interface PlayerRepository {
+
+    /**
+     * 사용자의 플레이어 데이터를 불러옵니다.
+     * @param uid 사용자의 고유 ID (UID)
+     * @return 저장된 플레이어 데이터, 저장된 적이 없으면 null
+     * @throws IOException 저장소에 접근할 수 없는 경우
+     */
+    PlayerData load(String uid) throws IOException;
+
+    /**
+     * 사용자의 플레이어 데이터를 저장합니다.
+     * @param uid 사용자의 고유 ID (UID)
+     * @param playerData 저장할 플레이어 데이터
+     * @throws IOException 저장에 실패한 경우
+     */
+    void save(String uid, PlayerData playerData) throws IOException;
+
+    /**
+     * 최고 점수가 높은 순서로 랭킹을 가져옵니다.
+     * @param limit 가져올 최대 항목 수
+     * @return 점수 내림차순의 랭킹 목록
+     * @throws IOException 저장소에 접근할 수 없는 경우
+     */
+    List<Ranking> findTopScores(int limit) throws IOException;
+}
@@ -11,6 +11,7 @@ import org.newdawn.spaceinvaders.entity.Projectile.LaserEntity;
 import org.newdawn.spaceinvaders.entity.Projectile.ProjectileEntity;
 import org.newdawn.spaceinvaders.entity.Projectile.ProjectileType;
 import org.newdawn.spaceinvaders.graphics.HpRender;
+import org.newdawn.spaceinvaders.graphics.RenderSnapshot;
 
 /**
  * 게임에 등장하는 보스 엔티티를 위한 추상 기본 클래스입니다.
@@ -46,7 +47,7 @@ public abstract class BossEntity extends Entity implements Enemy {
     private long lastFeatherShotTime = 0;
     /** 보스가 순간이동 중인지 여부. */
     private boolean isTeleporting = false;
-    /** 순간이동 시작 시간 (타임스탬프). */
+    /** 순간이동 시작 시간 (게임 시간, 밀리초). */
     private final long teleportStartTime = 0;
     /** 순간이동 시 보스가 보이지 않는 시간 (밀리초). */
     private final long teleportDisappearTime = 500;
@@ -65,6 +66,7 @@ public abstract class BossEntity extends Entity implements Enemy {
      */
     public BossEntity(GameContext context, String sprite, int x, int y, int health) {
         super(sprite, x, y);
+        setCollisionLayer(CollisionLayer.ENEMY);
         final double moveSpeed = 50;
         this.context = context;
         this.health = new HealthComponent(this,health);
@@ -74,7 +76,7 @@ public abstract class BossEntity extends Entity implements Enemy {
         dy = 0;
 
         setScale(2.5);
-        this.random = new java.util.Random(); // 무작위 인스턴스 초기화
+        this.random = context.getRandom(); // 게임 공용 난수 생성기 사용
 
         setupPatterns();
     }
@@ -86,13 +88,13 @@ public abstract class BossEntity extends Entity implements Enemy {
     protected abstract void setupPatterns();
 
     @Override
-    public void draw(java.awt.Graphics g) {
-        if (isTeleporting && System.currentTimeMillis() - teleportStartTime < teleportDisappearTime) {
+    public void captureRenderState(RenderSnapshot.Builder snapshot) {
+        if (isTeleporting && context.getClock().getTime() - teleportStartTime < teleportDisappearTime) {
             // 보이지 않는 동안 그리지 않음
             return;
         }
-        super.draw(g);
-        hpRender.hpRender((java.awt.Graphics2D) g, this);
+        super.captureRenderState(snapshot);
+        hpRender.captureRenderState(snapshot, this);
     }
 
     @Override
@@ -117,7 +119,7 @@ public abstract class BossEntity extends Entity implements Enemy {
         }
 
         // 레이저 기믹 타이머 처리
-        if (laserGimmickStartTime != 0 && System.currentTimeMillis() - laserGimmickStartTime > 3000) {
+        if (laserGimmickStartTime != 0 && context.getClock().getTime() - laserGimmickStartTime > 3000) {
             context.addEntity(new LaserEntity(context, 0, Game.GAME_WIDTH));
             laserGimmickStartTime = 0;
         }
@@ -129,7 +131,7 @@ public abstract class BossEntity extends Entity implements Enemy {
     /** 순간이동 로직을 처리합니다. */
     private void handleTeleportation() {
         final long teleportTotalTime = 1000; // 보스가 다시 나타나 발사할 때까지의 시간(ms)
-        if (System.currentTimeMillis() - teleportStartTime >= teleportTotalTime) {
+        if (context.getClock().getTime() - teleportStartTime >= teleportTotalTime) {
             isTeleporting = false;
             int newX = random.nextInt(Game.GAME_WIDTH - getWidth());
             setX(newX);
@@ -142,13 +144,13 @@ public abstract class BossEntity extends Entity implements Enemy {
         final long featherShotDelay = 100;
         final int featherStreamSize = 5;
 
-        if (System.currentTimeMillis() - lastFeatherShotTime > featherShotDelay) {
+        if (context.getClock().getTime() - lastFeatherShotTime > featherShotDelay) {
             if (featherStreamCount < featherStreamSize) {
                 ProjectileType type = ProjectileType.FEATHER_SHOT;
                 int damage = 1;
                 double shotMoveSpeed = type.moveSpeed;
-                context.addEntity(new ProjectileEntity(context, type, damage, getX() + (width / 2), getY() + (height / 2), 0, shotMoveSpeed));
-                lastFeatherShotTime = System.currentTimeMillis();
+                context.addEntity(context.getEntityPool().acquireProjectile(type, damage, getX() + (width / 2), getY() + (height / 2), 0, shotMoveSpeed));
+                lastFeatherShotTime = context.getClock().getTime();
                 featherStreamCount++;
             } else {
                 isFiringFeatherStream = false;
@@ -161,10 +163,10 @@ public abstract class BossEntity extends Entity implements Enemy {
      * 사용 가능한 패턴 중에서 무작위로 선택하여 실행하며, 마지막에 사용한 패턴은 가급적 피합니다.
      */
     private void tryToFire() {
-        if (System.currentTimeMillis() - lastFire < firingInterval) {
+        if (context.getClock().getTime() - lastFire < firingInterval) {
             return;
         }
-        lastFire = System.currentTimeMillis();
+        lastFire = context.getClock().getTime();
 
         java.util.List<BossPattern> patternsToUse = availablePatterns;
 
@@ -197,7 +199,7 @@ public abstract class BossEntity extends Entity implements Enemy {
             if (x > gapPosition && x < gapPosition + gapWidth) {
                 continue; // 간격에 발사체 생성을 건너뜀
             }
-            context.addEntity(new ProjectileEntity(context, type, damage, x, 0, 0, shotMoveSpeed));
+            context.addEntity(context.getEntityPool().acquireProjectile(type, damage, x, 0, 0, shotMoveSpeed));
         }
     }
 
@@ -209,17 +211,17 @@ public abstract class BossEntity extends Entity implements Enemy {
         double angle = Math.toRadians(30);
 
         // 중앙 발사 (0도)
-        context.addEntity(new ProjectileEntity(context, type, damage, getX() + (width/2), getY() + height, 0, shotMoveSpeed));
+        context.addEntity(context.getEntityPool().acquireProjectile(type, damage, getX() + (width/2), getY() + height, 0, shotMoveSpeed));
 
         // 왼쪽 발사 (-30도)
         double dxLeft = -Math.sin(angle) * shotMoveSpeed;
         double dyLeft = Math.cos(angle) * shotMoveSpeed;
-        context.addEntity(new ProjectileEntity(context, type, damage, getX() + (width/2), getY() + height, dxLeft, dyLeft));
+        context.addEntity(context.getEntityPool().acquireProjectile(type, damage, getX() + (width/2), getY() + height, dxLeft, dyLeft));
 
         // 오른쪽 발사 (+30도)
         double dxRight = Math.sin(angle) * shotMoveSpeed;
         double dyRight = Math.cos(angle) * shotMoveSpeed;
-        context.addEntity(new ProjectileEntity(context, type, damage, getX() + (width/2), getY() + height, dxRight, dyRight));
+        context.addEntity(context.getEntityPool().acquireProjectile(type, damage, getX() + (width/2), getY() + height, dxRight, dyRight));
     }
 
     /** 원형으로 발사체를 퍼뜨리는 패턴. */
@@ -233,7 +235,7 @@ public abstract class BossEntity extends Entity implements Enemy {
             double angle = Math.toRadians(360.0 / numShots * i);
             double dx = Math.sin(angle) * shotMoveSpeed;
             double dy = Math.cos(angle) * shotMoveSpeed;
-            context.addEntity(new ProjectileEntity(context, type, damage, getX() + (width / 2), getY() + (height / 2), dx, dy));
+            context.addEntity(context.getEntityPool().acquireProjectile(type, damage, getX() + (width / 2), getY() + (height / 2), dx, dy));
         }
     }
 
@@ -243,15 +245,15 @@ public abstract class BossEntity extends Entity implements Enemy {
         int damage = 2;
 
         // 3발의 확산탄 발사
-        context.addEntity(new ProjectileEntity(context, type, damage, getX() + 20, getY() + 50));
-        context.addEntity(new ProjectileEntity(context, type, damage, getX() + 50, getY() + 50));
-        context.addEntity(new ProjectileEntity(context, type, damage, getX() + 80, getY() + 50));
+        context.addEntity(context.getEntityPool().acquireProjectile(type, damage, getX() + 20, getY() + 50));
+        context.addEntity(context.getEntityPool().acquireProjectile(type, damage, getX() + 50, getY() + 50));
+        context.addEntity(context.getEntityPool().acquireProjectile(type, damage, getX() + 80, getY() + 50));
     }
 
     /** 화면 전체에 걸쳐 레이저를 발사하는 기믹을 시작하고, 아이템을 스폰합니다. */
     protected void fireGlobalLaserPattern() {
         context.resetItemCollection();
-        laserGimmickStartTime = System.currentTimeMillis();
+        laserGimmickStartTime = context.getClock().getTime();
 
         // 무작위 x 위치에 2개의 아이템 엔티티 생성
         context.addEntity(new ItemEntity(context, random.nextInt(Game.GAME_WIDTH), 50));
@@ -273,7 +275,7 @@ public abstract class BossEntity extends Entity implements Enemy {
             double angle = startAngle + i * angleStep;
             double dx = Math.sin(angle) * shotMoveSpeed;
             double dy = Math.cos(angle) * shotMoveSpeed;
-            context.addEntity(new ProjectileEntity(context, type, damage, getX() + (width / 2), getY() + (height / 2), dx, dy));
+            context.addEntity(context.getEntityPool().acquireProjectile(type, damage, getX() + (width / 2), getY() + (height / 2), dx, dy));
         }
     }
 
@@ -291,7 +293,7 @@ public abstract class BossEntity extends Entity implements Enemy {
             // 화면의 무작위 위치에 생성합니다.
             // 영역은 게임 영역으로 제한되어야 합니다.
             int randomX = (int) (random.nextDouble() * (Game.GAME_WIDTH - 100)) + 50; // 가장자리 피하기
-            int randomY = (int) (Math.random() * (Game.GAME_HEIGHT - 200)) + 100; // 위/아래 가장자리 피하기
+            int randomY = (int) (context.getRandom().nextDouble() * (Game.GAME_HEIGHT - 200)) + 100; // 위/아래 가장자리 피하기
             context.addEntity(new TentacleAttackEntity(context, randomX, randomY));
         }
     }
@@ -322,7 +324,8 @@ public abstract class BossEntity extends Entity implements Enemy {
         if (health.isAlive()) {
             if (!health.decreaseHealth(laser.getDamage())) {
                 this.destroy();
-                laser.destroy();
+                // 레이저 빔은 파괴 상태를 처리하는 색인에 없으므로 직접 제거를 예약합니다.
+                context.removeEntity(laser);
             }
         }
     }
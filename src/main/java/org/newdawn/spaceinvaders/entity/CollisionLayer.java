@@ -0,0 +1,55 @@
+package org.newdawn.spaceinvaders.entity;
+
+/**
+ * 엔티티가 속하는 충돌 레이어를 정의하는 열거형.
+ * 각 레이어는 하나의 비트를 가지며, 레이어 간 충돌 행렬을 통해
+ * 어떤 레이어 쌍이 충돌 검사를 받아야 하는지 결정합니다.
+ * {@link org.newdawn.spaceinvaders.core.CollisionDetector}는 경계 검사 전에 이 마스크를 먼저 확인합니다.
+ */
+public enum CollisionLayer {
+    /** 플레이어 함선. */
+    PLAYER,
+    /** 플레이어(및 펫)가 발사한 발사체와 레이저 빔. */
+    PLAYER_SHOT,
+    /** 적, 보스, 운석. */
+    ENEMY,
+    /** 적이 발사한 발사체와 보스의 공격 판정. */
+    ENEMY_SHOT,
+    /** 플레이어가 획득하는 아이템과 치유 영역. */
+    PICKUP,
+    /** 폭발, 펫, 전역 레이저처럼 다른 엔티티와 충돌하지 않는 연출용 엔티티. */
+    EFFECT;
+
+    /** 이 레이어를 나타내는 비트. */
+    public final int bit = 1 << ordinal();
+
+    /** 이 레이어와 충돌 검사를 받아야 하는 레이어들의 비트 마스크. */
+    private int mask;
+
+    static {
+        // 속도 버프를 받은 함선은 자신의 발사체를 따라잡을 수 있고, ShipEntity는 모든 발사체에 반응하므로 검사 대상에 포함합니다.
+        allow(PLAYER, PLAYER_SHOT);
+        allow(PLAYER, ENEMY);
+        allow(PLAYER, ENEMY_SHOT);
+        allow(PLAYER, PICKUP);
+        allow(PLAYER_SHOT, ENEMY);
+    }
+
+    /**
+     * 두 레이어가 서로 충돌 검사를 받도록 행렬에 대칭으로 등록합니다.
+     * @param a 첫 번째 레이어
+     * @param b 두 번째 레이어
+     */
+    private static void allow(CollisionLayer a, CollisionLayer b) {
+        a.mask |= b.bit;
+        b.mask |= a.bit;
+    }
+
+    /**
+     * 이 레이어와 충돌 검사를 받아야 하는 레이어들의 기본 마스크를 반환합니다.
+     * @return 충돌 행렬의 해당 행 비트 마스크
+     */
+    public int getMask() {
+        return mask;
+    }
+}
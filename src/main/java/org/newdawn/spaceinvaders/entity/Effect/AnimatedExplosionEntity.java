@@ -12,9 +12,9 @@ import org.newdawn.spaceinvaders.graphics.SpriteStore;
 public class AnimatedExplosionEntity extends Entity {
 
     /** 총 프레임 수. */
-    private final int totalFrames = 15;
-    /** 각 프레임의 스프라이트를 저장하는 배열. */
-    private final Sprite[] frames = new Sprite[totalFrames];
+    private static final int TOTAL_FRAMES = 15;
+    /** 각 프레임의 스프라이트를 저장하는 배열. 모든 폭발 인스턴스가 공유하며 처음 생성될 때 한 번만 로드됩니다. */
+    private static Sprite[] frames;
     /** 각 프레임이 지속되는 시간 (밀리초). */
     private final long frameDuration = 40;
 
@@ -33,12 +33,38 @@ public class AnimatedExplosionEntity extends Entity {
         // 첫 번째 프레임으로 시작
         super(String.format("sprites/explosion/k2_%04d.png", 1), x, y);
         this.context = context;
+        loadFrames();
+    }
 
-        // 모든 프레임을 미리 로드합니다.
-        for (int i = 0; i < totalFrames; i++) {
+    /**
+     * 모든 프레임을 미리 로드합니다. 이미 로드되었다면 아무것도 하지 않습니다.
+     */
+    private static void loadFrames() {
+        if (frames != null) {
+            return;
+        }
+        Sprite[] loaded = new Sprite[TOTAL_FRAMES];
+        for (int i = 0; i < TOTAL_FRAMES; i++) {
             String frameRef = String.format("sprites/explosion/k2_%04d.png", i + 1);
-            frames[i] = SpriteStore.get().getSprite(frameRef);
+            loaded[i] = SpriteStore.get().getSprite(frameRef);
         }
+        frames = loaded;
+    }
+
+    /**
+     * {@link org.newdawn.spaceinvaders.entity.EntityPool}에서 재사용될 때 폭발을 첫 프레임부터 다시 재생하도록 초기화합니다.
+     * @param x 폭발의 x 좌표
+     * @param y 폭발의 y 좌표
+     */
+    public void init(int x, int y) {
+        setX(x);
+        setY(y);
+        frameNumber = 0;
+        lastFrameChange = 0;
+        sprite = frames[0];
+        setScale(1.0);
+        reset();
+        setPooled(false);
     }
 
     /**
@@ -55,7 +81,7 @@ public class AnimatedExplosionEntity extends Entity {
             frameNumber++;
 
             // 애니메이션이 완료되면 엔티티를 제거합니다.
-            if (frameNumber >= totalFrames) {
+            if (frameNumber >= TOTAL_FRAMES) {
                 context.removeEntity(this);
                 return;
             }
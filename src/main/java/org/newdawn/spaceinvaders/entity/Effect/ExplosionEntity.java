@@ -2,8 +2,8 @@ package org.newdawn.spaceinvaders.entity.Effect;
 
 import org.newdawn.spaceinvaders.core.GameContext;
 import org.newdawn.spaceinvaders.entity.Entity;
-
-import java.awt.Graphics;
+import org.newdawn.spaceinvaders.graphics.RenderSnapshot;
+import org.newdawn.spaceinvaders.graphics.SpriteRenderState;
 
 /**
  * 게임 내에서 짧은 시간 동안 표시되는 비애니메이션 폭발 효과 엔티티.
@@ -12,7 +12,7 @@ import java.awt.Graphics;
 public class ExplosionEntity extends Entity {
     /** 폭발 효과의 지속 시간 (밀리초). */
     private final long lifeTime = 500; // 0.5초
-    /** 엔티티가 생성된 시간 (타임스탬프). */
+    /** 엔티티가 생성된 시간 (게임 시간, 밀리초). */
     private final long createdAt;
 
     /**
@@ -25,18 +25,18 @@ public class ExplosionEntity extends Entity {
     public ExplosionEntity(GameContext context, String sprite, int x, int y) {
         super(sprite, x, y);
         this.context = context;
-        this.createdAt = System.currentTimeMillis();
+        this.createdAt = context.getClock().getTime();
     }
 
     /**
      * 폭발 스프라이트를 기존 크기보다 약간 크게 그립니다.
-     * @param g 그래픽 컨텍스트
+     * @param snapshot 그리기 명령을 추가할 렌더 스냅샷 빌더
      */
     @Override
-    public void draw(Graphics g) {
+    public void captureRenderState(RenderSnapshot.Builder snapshot) {
         int newWidth = (int) (sprite.getWidth() * 1.5);
         int newHeight = (int) (sprite.getHeight() * 1.5);
-        g.drawImage(sprite.getImage(), (int) x, (int) y, newWidth, newHeight, null);
+        snapshot.add(SpriteRenderState.at(sprite, (int) x, (int) y, newWidth, newHeight));
     }
 
     /**
@@ -46,7 +46,7 @@ public class ExplosionEntity extends Entity {
     @Override
     public void move(long delta) {
         super.move(delta); // Entity의 기본 이동 로직 (현재는 사용되지 않음)
-        if (System.currentTimeMillis() - createdAt > lifeTime) {
+        if (context.getClock().getTime() - createdAt > lifeTime) {
             context.removeEntity(this);
         }
     }
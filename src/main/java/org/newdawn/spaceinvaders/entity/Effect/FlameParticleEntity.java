@@ -2,9 +2,12 @@ package org.newdawn.spaceinvaders.entity.Effect;
 
 import org.newdawn.spaceinvaders.core.GameContext;
 import org.newdawn.spaceinvaders.entity.Enemy.AlienEntity;
+import org.newdawn.spaceinvaders.entity.CollisionLayer;
 import org.newdawn.spaceinvaders.entity.Entity;
 import org.newdawn.spaceinvaders.graphics.Sprite;
 import org.newdawn.spaceinvaders.graphics.SpriteStore;
+import org.newdawn.spaceinvaders.graphics.RenderSnapshot;
+import org.newdawn.spaceinvaders.graphics.SpriteRenderState;
 
 import java.awt.*;
 
@@ -41,6 +44,8 @@ public class FlameParticleEntity extends Entity {
         this.context = context;
         this.dx = dx;
         this.dy = dy;
+        // 불꽃 입자는 외계인과 닿으면 사라지므로, 연출 레이어이지만 적 레이어와는 검사를 받습니다.
+        setCollisionMask(CollisionLayer.ENEMY.bit);
 
         // 모든 애니메이션 프레임을 로드합니다.
         frames[0] = this.sprite;
@@ -75,12 +80,12 @@ public class FlameParticleEntity extends Entity {
 
     /**
      * 현재 애니메이션 프레임을 화면에 그립니다.
-     * @param g 그래픽 컨텍스트
+     * @param snapshot 그리기 명령을 추가할 렌더 스냅샷 빌더
      */
     @Override
-    public void draw(Graphics g) {
+    public void captureRenderState(RenderSnapshot.Builder snapshot) {
         if (frames[currentFrame] != null) {
-            g.drawImage(frames[currentFrame].getImage(), getX(), getY(), getWidth(), getHeight(), null);
+            snapshot.add(SpriteRenderState.at(frames[currentFrame], getX(), getY(), getWidth(), getHeight()));
         }
     }
 
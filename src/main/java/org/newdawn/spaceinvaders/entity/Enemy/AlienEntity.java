@@ -10,8 +10,8 @@ import org.newdawn.spaceinvaders.entity.Projectile.ProjectileEntity;
 import org.newdawn.spaceinvaders.entity.Projectile.ProjectileType;
 import org.newdawn.spaceinvaders.graphics.Sprite;
 import org.newdawn.spaceinvaders.graphics.SpriteStore;
-
-import java.awt.Graphics;
+import org.newdawn.spaceinvaders.graphics.RenderSnapshot;
+import org.newdawn.spaceinvaders.graphics.SpriteRenderState;
 
 /**
  * 게임의 가장 기본적인 외계인 적을 나타내는 엔티티입니다.
@@ -59,6 +59,7 @@ public class AlienEntity extends Entity implements Enemy {
 	 */
 	public AlienEntity(GameContext context, int x, int y, int health, MovementPattern movementPattern) {
 		super("sprites/enemy/alien.gif", x, y);
+		setCollisionLayer(CollisionLayer.ENEMY);
 		this.health = new HealthComponent(this, health);
 		this.context = context;
 		this.movementPattern = movementPattern;
@@ -85,11 +86,11 @@ public class AlienEntity extends Entity implements Enemy {
      * 업그레이드된 외계인은 다른 발사체를 발사합니다.
      */
 	private void tryToFire() {
-		if (System.currentTimeMillis() - lastFire < FIRING_INTERVAL) {
+		if (context.getClock().getTime() - lastFire < FIRING_INTERVAL) {
 			return;
 		}
 
-		lastFire = System.currentTimeMillis();
+		lastFire = context.getClock().getTime();
         
         ProjectileType type;
         int damage = 1;
@@ -97,7 +98,7 @@ public class AlienEntity extends Entity implements Enemy {
         if (isUpgraded) {
             type = ProjectileType.FOLLOWING_SHOT; // 업그레이드된 발사체
             damage = 1;
-            ProjectileEntity shot = new ProjectileEntity(context, type, damage, getX() + (width/2), getY() + height);
+            ProjectileEntity shot = context.getEntityPool().acquireProjectile(type, damage, getX() + (width/2), getY() + height);
             context.addEntity(shot);
         }
         // 기본 발사체 로직은 여기에 추가될 수 있음 (현재는 비어있음)
@@ -109,7 +110,7 @@ public class AlienEntity extends Entity implements Enemy {
      */
     @Override
 	public void move(long delta) {
-		if (Math.random() < 0.002) { // 낮은 확률로 발사 시도
+		if (context.getRandom().nextDouble() < 0.002) { // 낮은 확률로 발사 시도
 			tryToFire();
 		}
 
@@ -155,20 +156,20 @@ public class AlienEntity extends Entity implements Enemy {
 
     /**
      * 외계인 엔티티와 함께 화염 효과를 그립니다.
-     * @param g 그래픽 컨텍스트
+     * @param snapshot 그리기 명령을 추가할 렌더 스냅샷 빌더
      */
     @Override
-    public void draw(Graphics g) {
+    public void captureRenderState(RenderSnapshot.Builder snapshot) {
         // 화염 효과를 먼저 그려서 외계인 뒤에 있도록 합니다.
         Sprite fireSprite = fireFrames[fireFrameNumber];
         int fireWidth = (int) (fireSprite.getWidth() * FIRE_SPRITE_SCALE);
         int fireHeight = (int) (fireSprite.getHeight() * FIRE_SPRITE_SCALE);
         double fireX = this.x + (this.width / 2.0) - (fireWidth / 2.0);
         double fireY = this.y - fireHeight + 20; // 위쪽 후방에 위치시킵니다.
-        g.drawImage(fireSprite.getImage(), (int) fireX, (int) fireY, fireWidth, fireHeight-30, null);
+        snapshot.add(SpriteRenderState.at(fireSprite, (int) fireX, (int) fireY, fireWidth, fireHeight-30));
 
         // 이제 외계인 자체를 그립니다.
-        super.draw(g);
+        super.captureRenderState(snapshot);
     }
 
     /**
@@ -227,7 +228,7 @@ public class AlienEntity extends Entity implements Enemy {
 
     /** 외계인이 파괴될 때 애니메이션 폭발 효과를 생성합니다. */
     private void createExplosion() {
-        AnimatedExplosionEntity explosion = new AnimatedExplosionEntity(context, 0, 0);
+        AnimatedExplosionEntity explosion = context.getEntityPool().acquireExplosion(0, 0);
         explosion.setScale(0.1);
         int centeredX = this.getX() + (this.getWidth() / 2) - (explosion.getWidth() / 2);
         int centeredY = (this.getY() + this.getHeight()) - (explosion.getHeight() / 2);
@@ -3,14 +3,14 @@ package org.newdawn.spaceinvaders.entity.Enemy;
 import org.newdawn.spaceinvaders.core.Game;
 import org.newdawn.spaceinvaders.core.GameContext;
 
-import org.newdawn.spaceinvaders.entity.Effect.AnimatedExplosionEntity;
+import org.newdawn.spaceinvaders.entity.CollisionLayer;
 import org.newdawn.spaceinvaders.entity.Entity;
 import org.newdawn.spaceinvaders.entity.Projectile.ProjectileEntity;
 import org.newdawn.spaceinvaders.entity.ShipEntity;
 import org.newdawn.spaceinvaders.graphics.Sprite;
 import org.newdawn.spaceinvaders.graphics.SpriteStore;
-
-import java.awt.Graphics;
+import org.newdawn.spaceinvaders.graphics.RenderSnapshot;
+import org.newdawn.spaceinvaders.graphics.SpriteRenderState;
 
 /**
  * 플레이어에게 접근하여 경고 후 폭발하는 특수한 적 엔티티.
@@ -46,6 +46,7 @@ public class BombEntity extends Entity implements Enemy {
      */
     public BombEntity(GameContext context, int x, int y) {
         super("sprites/enemy/bomb.gif", x, y);
+        setCollisionLayer(CollisionLayer.ENEMY);
         this.context = context;
         this.dy = moveSpeed;
 
@@ -96,7 +97,7 @@ public class BombEntity extends Entity implements Enemy {
                     }
                 }
                 // 시각적 폭발 생성
-                context.addEntity(new AnimatedExplosionEntity(context, (int)x, (int)y));
+                context.addEntity(context.getEntityPool().acquireExplosion((int)x, (int)y));
                 this.destroy(); // 자신 파괴
                 break;
         }
@@ -104,16 +105,16 @@ public class BombEntity extends Entity implements Enemy {
 
     /**
      * 폭탄과 경고 애니메이션을 그립니다.
-     * @param g 그래픽 컨텍스트
+     * @param snapshot 그리기 명령을 추가할 렌더 스냅샷 빌더
      */
     @Override
-    public void draw(Graphics g) {
-        super.draw(g);
+    public void captureRenderState(RenderSnapshot.Builder snapshot) {
+        super.captureRenderState(snapshot);
         if (currentState == State.WARNING) {
             Sprite frame = warningFrames[currentWarningFrame];
             int diameter = EXPLOSION_RADIUS * 2;
             // 폭발 직경에 맞게 조정된 경고 스프라이트 그리기
-            g.drawImage(frame.getImage(), (int) (x + (width/2) - (diameter/2)), (int) (y + (height/2) - (diameter/2)), diameter, diameter, null);
+            snapshot.add(SpriteRenderState.at(frame, (int) (x + (width/2) - (diameter/2)), (int) (y + (height/2) - (diameter/2)), diameter, diameter));
         }
     }
 
@@ -1,5 +1,6 @@
 package org.newdawn.spaceinvaders.entity.Enemy;
 
+import org.newdawn.spaceinvaders.entity.CollisionLayer;
 import org.newdawn.spaceinvaders.core.GameContext;
 import org.newdawn.spaceinvaders.core.events.AlienKilledEvent;
 import org.newdawn.spaceinvaders.entity.*;
@@ -48,6 +49,7 @@ public class BurstShooterEntity extends Entity implements Enemy {
      */
     public BurstShooterEntity(GameContext context, int x, int y) {
         super("sprites/enemy/Razer_A.gif", x, y);
+        setCollisionLayer(CollisionLayer.ENEMY);
         this.context = context;
         this.health = new HealthComponent(this, 8); // 초기 체력
         dy = moveSpeed;
@@ -75,7 +77,7 @@ public class BurstShooterEntity extends Entity implements Enemy {
                 if (health.isAlive()) {
                     if (!health.decreaseHealth(shot.getDamage())) {
                         // 파괴 시 폭발 애니메이션 생성
-                        AnimatedExplosionEntity explosion = new AnimatedExplosionEntity(context, 0, 0);
+                        AnimatedExplosionEntity explosion = context.getEntityPool().acquireExplosion(0, 0);
                         explosion.setScale(0.1);
                         int centeredX = this.getX() + (this.getWidth() / 2) - (explosion.getWidth() / 2);
                         int centeredY = (this.getY() + this.getHeight()) - (explosion.getHeight() / 2);
@@ -83,7 +85,7 @@ public class BurstShooterEntity extends Entity implements Enemy {
                         explosion.setY(centeredY);
                         context.addEntity(explosion);
                         this.destroy(); // 자신을 파괴
-                        context.getEventBus().publish(new AlienKilledEvent()); // 외계인 처치 이벤트 발행
+                        context.getEventBus().publish(AlienKilledEvent.INSTANCE); // 외계인 처치 이벤트 발행
                     }
                 }
             }
@@ -96,9 +98,9 @@ public class BurstShooterEntity extends Entity implements Enemy {
      */
     private void tryToStartBurst() {
         if (firingState != FiringState.IDLE) return; // 이미 발사 중이면 시작하지 않음
-        if (System.currentTimeMillis() - lastBurstTime < burstInterval) return; // 간격이 아직 안 지났으면 시작하지 않음
+        if (context.getClock().getTime() - lastBurstTime < burstInterval) return; // 간격이 아직 안 지났으면 시작하지 않음
 
-        lastBurstTime = System.currentTimeMillis();
+        lastBurstTime = context.getClock().getTime();
         shotsFiredInBurst = 0;
         firingState = isUpgraded ? FiringState.UPGRADED_BURST : FiringState.NORMAL_BURST;
     }
@@ -112,7 +114,7 @@ public class BurstShooterEntity extends Entity implements Enemy {
         super.move(delta);
         tryToStartBurst();
 
-        long currentTime = System.currentTimeMillis();
+        long currentTime = context.getClock().getTime();
 
         if (firingState == FiringState.NORMAL_BURST) {
             if (currentTime > lastShotInBurstTime + NORMAL_BURST_INTERVAL) {
@@ -120,7 +122,7 @@ public class BurstShooterEntity extends Entity implements Enemy {
                 shotsFiredInBurst++;
 
                 ProjectileType type = ProjectileType.FAST_NORMAL_SHOT;
-                ProjectileEntity shot = new ProjectileEntity(context, type, 1, getX() + (width / 2), getY() + height, 0, type.moveSpeed);
+                ProjectileEntity shot = context.getEntityPool().acquireProjectile(type, 1, getX() + (width / 2), getY() + height, 0, type.moveSpeed);
                 context.addEntity(shot);
 
                 if (shotsFiredInBurst >= NORMAL_BURST_COUNT) {
@@ -139,11 +141,11 @@ public class BurstShooterEntity extends Entity implements Enemy {
                 double angle = Math.toRadians(30);
 
                 // 중앙 발사 (직진)
-                context.addEntity(new ProjectileEntity(context, type, damage, getX() + (width/2), getY() + height, 0, shotMoveSpeed));
+                context.addEntity(context.getEntityPool().acquireProjectile(type, damage, getX() + (width/2), getY() + height, 0, shotMoveSpeed));
                 // 왼쪽 발사 (각도)
-                context.addEntity(new ProjectileEntity(context, type, damage, getX() + (width/2), getY() + height, -Math.sin(angle) * shotMoveSpeed, Math.cos(angle) * shotMoveSpeed));
+                context.addEntity(context.getEntityPool().acquireProjectile(type, damage, getX() + (width/2), getY() + height, -Math.sin(angle) * shotMoveSpeed, Math.cos(angle) * shotMoveSpeed));
                 // 오른쪽 발사 (각도)
-                context.addEntity(new ProjectileEntity(context, type, damage, getX() + (width/2), getY() + height, Math.sin(angle) * shotMoveSpeed, Math.cos(angle) * shotMoveSpeed));
+                context.addEntity(context.getEntityPool().acquireProjectile(type, damage, getX() + (width/2), getY() + height, Math.sin(angle) * shotMoveSpeed, Math.cos(angle) * shotMoveSpeed));
 
                 if (shotsFiredInBurst >= UPGRADED_BURST_COUNT) {
                     firingState = FiringState.IDLE; // 버스트 완료
@@ -1,5 +1,6 @@
 package org.newdawn.spaceinvaders.entity.Enemy;
 
+import org.newdawn.spaceinvaders.entity.CollisionLayer;
 import org.newdawn.spaceinvaders.core.GameContext;
 
 import org.newdawn.spaceinvaders.entity.*;
@@ -52,10 +53,11 @@ public class MeteorEntity extends Entity {
      */
     public MeteorEntity(GameContext context, MeteorType type, int x, int y) {
         super(type.spritePath, x, y);
+        setCollisionLayer(CollisionLayer.ENEMY);
         this.context = context;
         this.health = new HealthComponent(this, type.maxHealth);
         this.scoreValue = type.maxHealth * 5; // 점수는 체력에 비례합니다.
-        this.dy = (Math.random() * 50) + 50; // 50에서 100 사이의 무작위 하강 속도
+        this.dy = (context.getRandom().nextDouble() * 50) + 50; // 50에서 100 사이의 무작위 하강 속도
     }
 
     /**
@@ -100,7 +102,7 @@ public class MeteorEntity extends Entity {
      * 운석 파괴 시 애니메이션 폭발 효과를 생성합니다.
      */
     private void createExplosion() {
-        AnimatedExplosionEntity explosion = new AnimatedExplosionEntity(context, 0, 0);
+        AnimatedExplosionEntity explosion = context.getEntityPool().acquireExplosion(0, 0);
         explosion.setScale(0.1);
         int centeredX = this.getX() + (this.getWidth() / 2) - (explosion.getWidth() / 2);
         int centeredY = this.getY() + (this.getHeight() / 2) - (explosion.getHeight() / 2);
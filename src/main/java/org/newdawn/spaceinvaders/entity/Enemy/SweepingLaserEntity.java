@@ -2,6 +2,7 @@ package org.newdawn.spaceinvaders.entity.Enemy;
 
 import org.newdawn.spaceinvaders.core.Game;
 import org.newdawn.spaceinvaders.core.GameContext;
+import org.newdawn.spaceinvaders.entity.CollisionLayer;
 import org.newdawn.spaceinvaders.entity.Entity;
 import org.newdawn.spaceinvaders.entity.ShipEntity;
 
@@ -23,6 +24,7 @@ public class SweepingLaserEntity extends Entity {
      */
     public SweepingLaserEntity(GameContext context, int x, int y, double dx, double dy) {
         super("sprites/texture_laser.PNG", x, y);
+        setCollisionLayer(CollisionLayer.ENEMY_SHOT);
         this.context = context;
         this.dx = dx;
         this.dy = dy;
@@ -1,6 +1,7 @@
 package org.newdawn.spaceinvaders.entity.Enemy;
 
 import org.newdawn.spaceinvaders.core.GameContext;
+import org.newdawn.spaceinvaders.entity.CollisionLayer;
 import org.newdawn.spaceinvaders.entity.Entity;
 import org.newdawn.spaceinvaders.entity.ShipEntity;
 import org.newdawn.spaceinvaders.graphics.Sprite;
@@ -21,7 +22,7 @@ public class TentacleAttackEntity extends Entity {
     }
 
     private State state = State.WARNING;
-    /** 이 엔티티가 생성된 시간 (타임스탬프). */
+    /** 이 엔티티가 생성된 시간 (게임 시간, 밀리초). */
     private final long startTime;
     /** 경고 단계의 지속 시간 (밀리초). */
     private final long warningDuration = 1000; // 1초 경고
@@ -43,8 +44,9 @@ public class TentacleAttackEntity extends Entity {
      */
     public TentacleAttackEntity(GameContext context, int x, int y) {
         super("sprites/bosses/fireheart_target.png", x, y); // 초기 스프라이트는 경고 이미지입니다.
+        setCollisionLayer(CollisionLayer.ENEMY_SHOT);
         this.context = context;
-        this.startTime = System.currentTimeMillis();
+        this.startTime = context.getClock().getTime();
 
         // 스프라이트 미리 로드
         this.warningSprite = this.sprite; // 슈퍼 생성자에서 설정된 초기 스프라이트
@@ -57,7 +59,7 @@ public class TentacleAttackEntity extends Entity {
      */
     @Override
     public void move(long delta) {
-        long now = System.currentTimeMillis();
+        long now = context.getClock().getTime();
         long timeSinceStart = now - startTime;
 
         if (state == State.WARNING && timeSinceStart > warningDuration) {
@@ -10,8 +10,8 @@ import org.newdawn.spaceinvaders.entity.Projectile.ProjectileEntity;
 import org.newdawn.spaceinvaders.entity.Projectile.ProjectileType;
 import org.newdawn.spaceinvaders.graphics.Sprite;
 import org.newdawn.spaceinvaders.graphics.SpriteStore;
-
-import java.awt.Graphics;
+import org.newdawn.spaceinvaders.graphics.RenderSnapshot;
+import org.newdawn.spaceinvaders.graphics.SpriteRenderState;
 
 /**
  * 세 방향으로 발사체를 발사하는 적 엔티티.
@@ -58,6 +58,7 @@ public class ThreeWayShooter extends Entity implements Enemy {
      */
     public ThreeWayShooter(GameContext context, int x, int y, MovementPattern pattern) {
         super("sprites/enemy/ThreeWayShooter.gif", x, y);
+        setCollisionLayer(CollisionLayer.ENEMY);
         this.context = context;
         this.health = new HealthComponent(this, 5); // 예시 체력
         this.movementPattern = pattern;
@@ -106,10 +107,10 @@ public class ThreeWayShooter extends Entity implements Enemy {
      * 업그레이드된 슈터는 일반 발사 후 지연된 특수 발사를 예약합니다.
      */
     private void tryToFire() {
-        if (System.currentTimeMillis() - lastFire < firingInterval) {
+        if (context.getClock().getTime() - lastFire < firingInterval) {
             return;
         }
-        lastFire = System.currentTimeMillis();
+        lastFire = context.getClock().getTime();
 
         ProjectileType type = ProjectileType.NORMAL_SHOT;
         int damage = 1;
@@ -117,21 +118,21 @@ public class ThreeWayShooter extends Entity implements Enemy {
         double angle = Math.toRadians(30);
 
         // 중앙 발사 (0도)
-        context.addEntity(new ProjectileEntity(context, type, damage, getX() + (width/2), getY() + height, 0, shotMoveSpeed));
+        context.addEntity(context.getEntityPool().acquireProjectile(type, damage, getX() + (width/2), getY() + height, 0, shotMoveSpeed));
 
         // 왼쪽 발사 (-30도)
         double dxLeft = -Math.sin(angle) * shotMoveSpeed;
         double dyLeft = Math.cos(angle) * shotMoveSpeed;
-        context.addEntity(new ProjectileEntity(context, type, damage, getX() + (width/2), getY() + height, dxLeft, dyLeft));
+        context.addEntity(context.getEntityPool().acquireProjectile(type, damage, getX() + (width/2), getY() + height, dxLeft, dyLeft));
 
         // 오른쪽 발사 (+30도)
         double dxRight = Math.sin(angle) * shotMoveSpeed;
         double dyRight = Math.cos(angle) * shotMoveSpeed;
-        context.addEntity(new ProjectileEntity(context, type, damage, getX() + (width/2), getY() + height, dxRight, dyRight));
+        context.addEntity(context.getEntityPool().acquireProjectile(type, damage, getX() + (width/2), getY() + height, dxRight, dyRight));
 
         if (isUpgraded) {
             specialShotPending = true;
-            normalShotTime = System.currentTimeMillis();
+            normalShotTime = context.getClock().getTime();
         }
     }
 
@@ -170,10 +171,10 @@ public class ThreeWayShooter extends Entity implements Enemy {
         tryToFire();
 
         // 대기 중인 지연된 특수 발사 처리
-        if (specialShotPending && System.currentTimeMillis() > normalShotTime + SPECIAL_SHOT_DELAY) {
+        if (specialShotPending && context.getClock().getTime() > normalShotTime + SPECIAL_SHOT_DELAY) {
             ProjectileType specialType = ProjectileType.FAST_FOLLOWING_SHOT;
             int specialDamage = 2; // 또는 적절한 피해량
-            context.addEntity(new ProjectileEntity(context, specialType, specialDamage, getX() + (width/2), getY() + height));
+            context.addEntity(context.getEntityPool().acquireProjectile(specialType, specialDamage, getX() + (width/2), getY() + height));
             specialShotPending = false; // 플래그 재설정
         }
 
@@ -185,20 +186,20 @@ public class ThreeWayShooter extends Entity implements Enemy {
 
     /**
      * 슈터 엔티티와 함께 화염 효과를 그립니다.
-     * @param g 그래픽 컨텍스트
+     * @param snapshot 그리기 명령을 추가할 렌더 스냅샷 빌더
      */
     @Override
-    public void draw(Graphics g) {
+    public void captureRenderState(RenderSnapshot.Builder snapshot) {
         // 화염 효과를 먼저 그려서 엔티티 뒤에 있도록 함
         Sprite fireSprite = fireFrames[fireFrameNumber];
         int fireWidth = (int) (fireSprite.getWidth() * fireSpriteScale);
         int fireHeight = (int) (fireSprite.getHeight() * fireSpriteScale);
         double fireX = this.x + (this.width / 2.0) - (fireWidth / 2.0);
         double fireY = this.y - fireHeight + 20; // 위쪽 후방에 위치시킴
-        g.drawImage(fireSprite.getImage(), (int) fireX, (int) fireY, fireWidth, fireHeight, null);
+        snapshot.add(SpriteRenderState.at(fireSprite, (int) fireX, (int) fireY, fireWidth, fireHeight));
 
         // 이제 부모 클래스의 회전 로직을 사용하여 엔티티 자체를 그림
-        super.draw(g);
+        super.captureRenderState(snapshot);
     }
 
     /**
@@ -236,7 +237,7 @@ public class ThreeWayShooter extends Entity implements Enemy {
         if (health.isAlive()) {
             if (!health.decreaseHealth(damage)) {
                 // 폭발을 생성하고, 크기를 조절하며, 발사체의 중앙에 위치시킴
-                AnimatedExplosionEntity explosion = new AnimatedExplosionEntity(context, 0, 0);
+                AnimatedExplosionEntity explosion = context.getEntityPool().acquireExplosion(0, 0);
                 explosion.setScale(0.1);
                 int centeredX = this.getX() + (this.getWidth() / 2) - (explosion.getWidth() / 2);
                 int centeredY = (this.getY() + this.getHeight()) - (explosion.getHeight() / 2);
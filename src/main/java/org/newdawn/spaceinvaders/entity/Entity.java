@@ -1,11 +1,12 @@
 package org.newdawn.spaceinvaders.entity;
 
 import org.newdawn.spaceinvaders.core.GameContext;
+import org.newdawn.spaceinvaders.graphics.RenderSnapshot;
 import org.newdawn.spaceinvaders.graphics.Sprite;
+import org.newdawn.spaceinvaders.graphics.SpriteRenderState;
 import org.newdawn.spaceinvaders.graphics.SpriteStore;
 
 import java.awt.*;
-import java.awt.geom.AffineTransform;
 
 /**
  * 게임에 나타나는 모든 요소(플레이어, 적, 발사체 등)를 나타내는 추상 기본 클래스.
@@ -24,6 +25,10 @@ public abstract class Entity {
 	protected double x;
 	/** 이 엔티티의 현재 y 위치. */
 	protected double y;
+	/** 직전 시뮬레이션 틱의 x 위치. 렌더링 보간에 사용됩니다. */
+	private double prevX;
+	/** 직전 시뮬레이션 틱의 y 위치. 렌더링 보간에 사용됩니다. */
+	private double prevY;
 	/** 이 엔티티를 나타내는 스프라이트. */
 	protected Sprite sprite;
 	/** 이 엔티티의 현재 수평 속도 (픽셀/초). */
@@ -46,6 +51,23 @@ public abstract class Entity {
 
 	/** 엔티티가 파괴되었는지 여부. */
 	private boolean destroyed = false;
+	/** 엔티티가 {@link EntityPool}에 반환되어 재사용을 기다리는지 여부. */
+	private boolean pooled = false;
+	/** {@link EntityManager}의 활성 엔티티 목록에서 이 엔티티가 있는 위치. 목록에 없으면 -1. */
+	private int slot = -1;
+	/** 활성 목록에 들어갈 때 분류된 유형. 목록에 없으면 null. */
+	private EntityKind indexedType = null;
+	/** {@link EntityManager}의 유형별 색인에서 이 엔티티가 있는 위치. 색인에 없으면 -1. */
+	private int typeSlot = -1;
+	/** 다음 정리 때 제거되도록 예약되었는지 여부. */
+	private boolean pendingRemoval = false;
+	/** 다음 정리 때 추가되도록 예약되었는지 여부. */
+	private boolean pendingAdd = false;
+
+	/** 이 엔티티가 속한 충돌 레이어. */
+	private CollisionLayer collisionLayer = CollisionLayer.EFFECT;
+	/** 이 엔티티와 충돌 검사를 받아야 하는 레이어들의 비트 마스크. */
+	private int collisionMask = CollisionLayer.EFFECT.getMask();
 
 	/**
 	 * 스프라이트 이미지와 위치를 기반으로 엔티티를 생성합니다.
@@ -58,6 +80,8 @@ public abstract class Entity {
 		this.sprite = SpriteStore.get().getSprite(ref);
 		this.x = x;
 		this.y = y;
+		this.prevX = x;
+		this.prevY = y;
 		this.width = sprite.getWidth();
 		this.height = sprite.getHeight();
 	}
@@ -130,33 +154,54 @@ public abstract class Entity {
 	}
 
 	/**
-	 * 제공된 그래픽 컨텍스트에 이 엔티티를 그립니다.
-	 * 이동 방향에 따라 스프라이트를 회전시키는 로직을 포함합니다.
+	 * 이 엔티티를 그리기 위한 불변 렌더 상태를 스냅샷에 추가합니다.
+	 * 이동 중이면 이동 방향에 맞게 {@link SpriteStore}가 미리 회전시켜 둔 이미지를 변환 없이 그립니다.
+	 * 시뮬레이션 스레드에서 호출되며, 실제 그리기는 렌더링 스레드가 스냅샷을 통해 수행합니다.
 	 *
-	 * @param g 그리기를 수행할 그래픽 컨텍스트
+	 * @param snapshot 그리기 명령을 추가할 렌더 스냅샷 빌더
 	 */
-	public void draw(Graphics g) {
-		Graphics2D g2d = (Graphics2D) g;
-		AffineTransform oldTransform = g2d.getTransform();
+	public void captureRenderState(RenderSnapshot.Builder snapshot) {
+		int step = 0;
+		// 이동 중인 경우에만 이동 방향으로 회전 (보스 제외)
+		if ((dx != 0 || dy != 0) && !(this instanceof BossEntity)) {
+			// 스프라이트가 기본적으로 위쪽(음수 Y)을 향하므로 PI/2를 더함
+			step = SpriteStore.rotationStep(Math.atan2(dy, dx) + Math.PI / 2);
+		}
+		if (step == 0) {
+			snapshot.add(SpriteRenderState.at(sprite, (int) x, (int) y, width, height));
+			return;
+		}
 
-		try {
-			// 그래픽 컨텍스트를 엔티티의 중심으로 이동
-			g2d.translate(x + width / 2.0, y + height / 2.0);
+		// 미리 회전시킨 이미지를 같은 중심에 배율만 맞춰 그리므로 그래픽 변환이 필요 없습니다.
+		int size = SpriteStore.rotatedSize(sprite.getWidth(), sprite.getHeight());
+		int drawWidth = size * width / sprite.getWidth();
+		int drawHeight = size * height / sprite.getHeight();
+		snapshot.add(SpriteRenderState.at(SpriteStore.get().getRotatedImage(sprite, step),
+				(int) (x + (width - drawWidth) / 2.0), (int) (y + (height - drawHeight) / 2.0), drawWidth, drawHeight));
+	}
 
-			// 이동 중인 경우에만 이동 방향으로 회전 (보스 제외)
-			if ((dx != 0 || dy != 0) && !(this instanceof BossEntity)) {
-				// 스프라이트가 기본적으로 위쪽(음수 Y)을 향하므로 PI/2를 더함
-				double angle = Math.atan2(dy, dx) + Math.PI / 2;
-				g2d.rotate(angle);
-			}
+	/**
+	 * 현재 위치에서 직전 틱 위치까지의 x 오프셋을 반환합니다. 렌더링 보간에 사용됩니다.
+	 * @return 직전 x 위치 - 현재 x 위치
+	 */
+	public double getInterpolationOffsetX() {
+		return prevX - x;
+	}
 
-			// 새로운 원점을 중심으로 스프라이트를 그림
-			g2d.drawImage(sprite.getImage(), -width / 2, -height / 2, width, height, null);
+	/**
+	 * 현재 위치에서 직전 틱 위치까지의 y 오프셋을 반환합니다. 렌더링 보간에 사용됩니다.
+	 * @return 직전 y 위치 - 현재 y 위치
+	 */
+	public double getInterpolationOffsetY() {
+		return prevY - y;
+	}
 
-		} finally {
-			// 다음 렌더링을 위해 그래픽 컨텍스트의 변환을 원래대로 복원
-			g2d.setTransform(oldTransform);
-		}
+	/**
+	 * 현재 위치를 직전 틱 위치로 저장합니다. 매 시뮬레이션 틱의 이동 직전에 호출됩니다.
+	 */
+	public void savePreviousPosition() {
+		prevX = x;
+		prevY = y;
 	}
 
 	/**
@@ -183,19 +228,21 @@ public abstract class Entity {
 	}
 
 	/**
-	 * 이 엔티티의 x 위치를 설정합니다.
+	 * 이 엔티티의 x 위치를 설정합니다. 순간이동으로 취급하여 보간하지 않습니다.
 	 * @param x 새로운 x 좌표
 	 */
 	public void setX(double x) {
 		this.x = x;
+		this.prevX = x;
 	}
 
 	/**
-	 * 이 엔티티의 y 위치를 설정합니다.
+	 * 이 엔티티의 y 위치를 설정합니다. 순간이동으로 취급하여 보간하지 않습니다.
 	 * @param y 새로운 y 좌표
 	 */
 	public void setY(double y) {
 		this.y = y;
+		this.prevY = y;
 	}
 
 	/**
@@ -214,6 +261,39 @@ public abstract class Entity {
 		return height;
 	}
 
+	/**
+	 * 이 엔티티의 충돌 레이어를 설정하고, 충돌 마스크를 해당 레이어의 기본값으로 초기화합니다.
+	 * @param collisionLayer 설정할 충돌 레이어
+	 */
+	protected void setCollisionLayer(CollisionLayer collisionLayer) {
+		this.collisionLayer = collisionLayer;
+		this.collisionMask = collisionLayer.getMask();
+	}
+
+	/**
+	 * 충돌 행렬의 기본값 대신 사용할 충돌 마스크를 설정합니다.
+	 * @param collisionMask {@link CollisionLayer#bit}들을 조합한 비트 마스크
+	 */
+	protected void setCollisionMask(int collisionMask) {
+		this.collisionMask = collisionMask;
+	}
+
+	/**
+	 * 이 엔티티의 충돌 레이어를 가져옵니다.
+	 * @return 충돌 레이어
+	 */
+	public CollisionLayer getCollisionLayer() {
+		return collisionLayer;
+	}
+
+	/**
+	 * 이 엔티티와 충돌 검사를 받아야 하는 레이어들의 비트 마스크를 가져옵니다.
+	 * @return 충돌 마스크
+	 */
+	public int getCollisionMask() {
+		return collisionMask;
+	}
+
 	/**
 	 * 이 엔티티가 다른 엔티티와 충돌했는지 확인합니다.
 	 *
@@ -256,4 +336,94 @@ public abstract class Entity {
 	public boolean isDestroyed() {
 		return destroyed;
 	}
+
+	/**
+	 * 이 엔티티가 {@link EntityPool}에 반환된 상태인지 확인합니다.
+	 * @return 풀에 반환되어 있으면 true
+	 */
+	public boolean isPooled() {
+		return pooled;
+	}
+
+	/**
+	 * 이 엔티티의 풀 반환 상태를 설정합니다. {@link EntityPool}에서만 사용합니다.
+	 * @param pooled 풀에 반환되었으면 true, 다시 꺼내졌으면 false
+	 */
+	public void setPooled(boolean pooled) {
+		this.pooled = pooled;
+	}
+
+	/**
+	 * 활성 엔티티 목록에서 이 엔티티의 위치를 반환합니다. {@link EntityManager}에서만 사용합니다.
+	 * @return 목록 인덱스, 목록에 없으면 -1
+	 */
+	int getSlot() {
+		return slot;
+	}
+
+	/**
+	 * 활성 엔티티 목록에서 이 엔티티의 위치를 설정합니다. {@link EntityManager}에서만 사용합니다.
+	 * @param slot 목록 인덱스, 목록에서 빠지면 -1
+	 */
+	void setSlot(int slot) {
+		this.slot = slot;
+	}
+
+	/**
+	 * 유형별 색인에 등록된 유형을 반환합니다. {@link EntityManager}에서만 사용합니다.
+	 * @return 등록된 유형, 색인에 없으면 null
+	 */
+	EntityKind getIndexedType() {
+		return indexedType;
+	}
+
+	/**
+	 * 유형별 색인에서 이 엔티티의 위치를 반환합니다. {@link EntityManager}에서만 사용합니다.
+	 * @return 색인 목록의 인덱스, 색인에 없으면 -1
+	 */
+	int getTypeSlot() {
+		return typeSlot;
+	}
+
+	/**
+	 * 유형별 색인에서 이 엔티티의 유형과 위치를 설정합니다. {@link EntityManager}에서만 사용합니다.
+	 * @param indexedType 등록된 유형, 색인에서 빠지면 null
+	 * @param typeSlot 색인 목록의 인덱스, 색인에서 빠지면 -1
+	 */
+	void setTypeIndex(EntityKind indexedType, int typeSlot) {
+		this.indexedType = indexedType;
+		this.typeSlot = typeSlot;
+	}
+
+	/**
+	 * 다음 정리 때 제거되도록 예약되었는지 확인합니다.
+	 * @return 제거 예약되었으면 true
+	 */
+	boolean isPendingRemoval() {
+		return pendingRemoval;
+	}
+
+	/**
+	 * 제거 예약 상태를 설정합니다. {@link EntityManager}에서만 사용합니다.
+	 * @param pendingRemoval 제거 예약 여부
+	 */
+	void setPendingRemoval(boolean pendingRemoval) {
+		this.pendingRemoval = pendingRemoval;
+	}
+
+	/**
+	 * 다음 정리 때 추가되도록 예약되었는지 확인합니다.
+	 * @return 추가 예약되었으면 true
+	 */
+	boolean isPendingAdd() {
+		return pendingAdd;
+	}
+
+	/**
+	 * 추가 예약 상태를 설정합니다. {@link EntityManager}에서만 사용합니다.
+	 * @param pendingAdd 추가 예약 여부
+	 */
+	void setPendingAdd(boolean pendingAdd) {
+		this.pendingAdd = pendingAdd;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+package org.newdawn.spaceinvaders.entity;
+
+import org.newdawn.spaceinvaders.entity.Projectile.LaserEntity;
+
+/**
+ * {@link EntityManager}가 유형별 색인을 유지할 때 사용하는 엔티티 분류.
+ * 대부분의 엔티티는 충돌 레이어로 분류되며, 충돌 레이어가 {@link CollisionLayer#EFFECT}인 전역 레이저는 별도로 분류합니다.
+ * 충돌 레이어는 생성자에서 정해지므로 활성 목록에 들어갈 때 한 번만 분류합니다.
+ */
+public enum EntityKind {
+    /** 플레이어 함선. */
+    PLAYER,
+    /** 적, 보스, 운석. */
+    ENEMY,
+    /** 플레이어(및 펫)가 발사한 발사체와 레이저 빔. */
+    PLAYER_SHOT,
+    /** 적이 발사한 발사체와 보스의 공격 판정. */
+    ENEMY_SHOT,
+    /** 아이템과 치유 영역. */
+    PICKUP,
+    /** 폭발, 펫 등 연출용 엔티티. */
+    EFFECT,
+    /** 보스가 발사하는 전역 레이저 ({@link LaserEntity}). */
+    GLOBAL_LASER;
+
+    /**
+     * 엔티티의 유형을 결정합니다.
+     * @param entity 분류할 엔티티
+     * @return 엔티티의 분류
+     */
+    public static EntityKind of(Entity entity) {
+        if (entity instanceof LaserEntity) {
+            return GLOBAL_LASER;
+        }
+        switch (entity.getCollisionLayer()) {
+            case PLAYER:
+                return PLAYER;
+            case ENEMY:
+                return ENEMY;
+            case PLAYER_SHOT:
+                return PLAYER_SHOT;
+            case ENEMY_SHOT:
+                return ENEMY_SHOT;
+            case PICKUP:
+                return PICKUP;
+            default:
+                return EFFECT;
+        }
+    }
+}
@@ -1,19 +1,29 @@
 package org.newdawn.spaceinvaders.entity;
 
+import org.newdawn.spaceinvaders.core.EventBus;
 import org.newdawn.spaceinvaders.core.Game;
 import org.newdawn.spaceinvaders.core.GameContext;
-import org.newdawn.spaceinvaders.core.events.AlienEscapedEvent;
 import org.newdawn.spaceinvaders.entity.Enemy.*;
 import org.newdawn.spaceinvaders.entity.weapon.Weapon;
 import org.newdawn.spaceinvaders.player.PlayerStats;
 import org.newdawn.spaceinvaders.wave.Formation;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 게임에 존재하는 모든 엔티티(적, 플레이어, 발사체 등)를 생성, 저장, 관리하는 클래스.
  * 엔티티의 생명주기(추가, 제거, 업데이트)를 담당합니다.
+ * <p>
+ * 각 엔티티는 활성 목록에서 자신의 위치(slot)를 알고 있으며, 제거 시에는 마지막 엔티티를 그 자리로 옮기는 방식으로
+ * 목록을 압축하므로 제거 비용은 제거되는 엔티티 수에만 비례합니다. 이 때문에 제거가 일어나면 목록의 순서가 바뀔 수 있습니다.
+ * 추가와 제거 예약은 엔티티의 플래그로 표시하여 중복 예약을 막고, 정리 과정에서 임시 목록을 새로 할당하지 않습니다.
+ * <p>
+ * 활성 목록과 함께 {@link EntityKind}별 색인도 같은 방식으로 유지하므로, 특정 유형의 엔티티만 필요한 곳은
+ * 전체 목록을 훑지 않고 {@link #getEntities(EntityKind)}로 해당 유형만 순회할 수 있습니다.
  */
 public class EntityManager {
 
@@ -21,12 +31,18 @@ public class EntityManager {
     private final GameContext context;
     /** 현재 활성화된 모든 엔티티 목록. */
     private final List<Entity> entities = new ArrayList<>();
+    /** 유형별 활성 엔티티 색인. */
+    private final Map<EntityKind, List<Entity>> typeIndex = new EnumMap<>(EntityKind.class);
+    /** 외부에 제공하는 유형별 색인의 읽기 전용 뷰. */
+    private final Map<EntityKind, List<Entity>> typeViews = new EnumMap<>(EntityKind.class);
     /** 다음 프레임에 제거될 엔티티 목록. */
     private final List<Entity> removeList = new ArrayList<>();
     /** 다음 프레임에 추가될 엔티티 목록. */
     private final List<Entity> addList = new ArrayList<>();
     /** 적 생성을 담당하는 팩토리. */
     private final EnemyFactory enemyFactory;
+    /** 발사체와 폭발 효과를 재사용하는 객체 풀. */
+    private final EntityPool entityPool;
     /** 플레이어의 함선 엔티티. */
     private ShipEntity ship;
     /** 현재 살아있는 외계인 수. */
@@ -40,6 +56,12 @@ public class EntityManager {
     public EntityManager(GameContext context) {
         this.context = context;
         this.enemyFactory = new EnemyFactory(context);
+        this.entityPool = new EntityPool(context);
+        for (EntityKind type : EntityKind.values()) {
+            List<Entity> list = new ArrayList<>();
+            typeIndex.put(type, list);
+            typeViews.put(type, Collections.unmodifiableList(list));
+        }
     }
 
     /**
@@ -52,24 +74,56 @@ public class EntityManager {
     public void initShip(PlayerStats stats, Weapon weapon) {
         if (ship == null) {
             ship = new ShipEntity(context, "sprites/ship.gif", Game.GAME_WIDTH / 2, 550, stats.getMaxHealth());
-            entities.add(ship);
         } else {
             ship.setMaxHealth(stats.getMaxHealth());
-            if (!entities.contains(ship)) {
-                entities.add(ship);
-            }
         }
         ship.setWeapon(weapon);
         ship.reset();
 
         // 함선을 제외한 모든 엔티티 제거
-        entities.removeIf(entity -> !(entity instanceof ShipEntity));
+        removeAllExceptShip();
+        if (ship.getSlot() < 0) {
+            insert(ship);
+        }
+        for (Entity entity : addList) {
+            entity.setPendingAdd(false);
+            entityPool.release(entity);
+        }
+        for (Entity entity : removeList) {
+            entity.setPendingRemoval(false);
+            entityPool.release(entity);
+        }
 
         addList.clear();
         removeList.clear();
         alienCount = 0;
     }
 
+    /**
+     * 플레이어 함선을 제외한 모든 활성 엔티티를 즉시 제거합니다. 제거된 발사체와 폭발 효과는 풀로 반환됩니다.
+     * 추가나 제거 예약은 그대로 두고 다음 정리 때 처리합니다.
+     */
+    public void removeAllExceptShip() {
+        boolean hasShip = false;
+        for (Entity entity : entities) {
+            entity.setSlot(-1);
+            entity.setTypeIndex(null, -1);
+            if (entity == ship) {
+                hasShip = true;
+            } else if (!entity.isPendingRemoval()) {
+                // 제거가 예약된 엔티티는 다음 정리 때 onDestroy 호출 후 반환됩니다.
+                entityPool.release(entity);
+            }
+        }
+        entities.clear();
+        for (List<Entity> list : typeIndex.values()) {
+            list.clear();
+        }
+        if (hasShip) {
+            insert(ship);
+        }
+    }
+
     /**
      * 지정된 포메이션에 따라 적들을 스폰합니다.
      *
@@ -87,7 +141,7 @@ public class EntityManager {
             if (newEntity != null) {
                 if (newEntity instanceof Enemy) {
                     // 게임 관리자, 스폰 정보 또는 무작위 확률에 의해 강제로 업그레이드
-                    if (forceUpgrade || info.forceUpgrade || (info.upgradeChance > 0 && Math.random() < info.upgradeChance)) {
+                    if (forceUpgrade || info.forceUpgrade || (info.upgradeChance > 0 && context.getRandom().nextDouble() < info.upgradeChance)) {
                         ((Enemy) newEntity).upgrade();
                     }
                 }
@@ -106,6 +160,11 @@ public class EntityManager {
      * @param entity 추가할 엔티티
      */
     public void addEntity(Entity entity) {
+        if (entity.isPendingAdd() || (entity.getSlot() >= 0 && !entity.isPendingRemoval())) {
+            // 이미 추가가 예약되었거나 활성 목록에 있는 엔티티
+            return;
+        }
+        entity.setPendingAdd(true);
         addList.add(entity);
     }
 
@@ -115,6 +174,10 @@ public class EntityManager {
      * @param entity 제거할 엔티티
      */
     public void removeEntity(Entity entity) {
+        if (entity.isPendingRemoval()) {
+            return;
+        }
+        entity.setPendingRemoval(true);
         removeList.add(entity);
     }
 
@@ -123,35 +186,84 @@ public class EntityManager {
      * 화면을 벗어난 엔티티를 처리하고, 제거 목록에 있는 엔티티를 실제로 제거하며, 추가 목록에 있는 엔티티를 활성 목록에 추가합니다.
      */
     public void cleanup() {
-        // 탈출한 것으로 보고해야 하는 화면 밖 엔티티 찾기
-        List<Entity> escapedEnemies = new ArrayList<>();
-        for (Entity entity : entities) {
+        // 화면 밖으로 나간 적을 게임 관리자에게 알립니다.
+        // 이벤트는 틱 끝에 처리되어 다음 정리 때 제거되므로, 이미 제거가 예약된 적은 다시 알리지 않습니다.
+        for (int i = 0, count = entities.size(); i < count; i++) {
+            Entity entity = entities.get(i);
+            if (entity.isPendingRemoval()) {
+                continue;
+            }
             if (entity.getX() < -50 || entity.getX() > 550 || entity.getY() < -300 || entity.getY() > 650) {
                 if (entity instanceof Enemy) {
-                    escapedEnemies.add(entity);
+                    EventBus eventBus = context.getEventBus();
+                    eventBus.publish(eventBus.obtainAlienEscaped(entity));
                 }
             }
         }
 
-        // 게임 관리자에게 탈출한 적에 대해 알림
-        for (Entity entity : escapedEnemies) {
-            // 이 호출은 엔티티 관리자를 통해 엔티티를 removeList에 추가합니다.
-            context.getEventBus().publish(new AlienEscapedEvent(entity));
+        // onDestroy가 예약한 자식(예: 화염 효과)은 호출 대상에서 제외하고, 제거는 함께 처리합니다.
+        int destroyCount = removeList.size();
+        for (int i = 0; i < destroyCount; i++) {
+            removeList.get(i).onDestroy();
         }
 
-        // ConcurrentModificationException을 피하기 위해 복사본을 순회합니다.
-        List<Entity> toDestroy = new ArrayList<>(removeList);
-        for (Entity entity : toDestroy) {
-            entity.onDestroy();
+        for (int i = 0; i < removeList.size(); i++) {
+            Entity entity = removeList.get(i);
+            entity.setPendingRemoval(false);
+            if (entity.getSlot() >= 0) {
+                swapRemove(entity);
+            }
+            // 제거된 발사체와 폭발 효과를 풀로 반환합니다. 같은 프레임에 다시 추가될 엔티티는 반환하지 않습니다.
+            if (!entity.isPendingAdd()) {
+                entityPool.release(entity);
+            }
         }
 
-        // 이제 removeList에 자식(예: 화염 효과)이 포함될 수 있으므로 모두 제거합니다.
-        entities.removeAll(removeList);
-        entities.addAll(addList);
+        for (int i = 0; i < addList.size(); i++) {
+            Entity entity = addList.get(i);
+            entity.setPendingAdd(false);
+            insert(entity);
+        }
         removeList.clear();
         addList.clear();
     }
 
+    /**
+     * 엔티티를 활성 목록 끝에 넣고 위치를 기록합니다.
+     * @param entity 추가할 엔티티
+     */
+    private void insert(Entity entity) {
+        entity.setSlot(entities.size());
+        entities.add(entity);
+
+        EntityKind type = EntityKind.of(entity);
+        List<Entity> list = typeIndex.get(type);
+        entity.setTypeIndex(type, list.size());
+        list.add(entity);
+    }
+
+    /**
+     * 목록의 마지막 엔티티를 제거할 엔티티의 자리로 옮겨 O(1)에 제거합니다.
+     * @param entity 제거할 엔티티
+     */
+    private void swapRemove(Entity entity) {
+        int slot = entity.getSlot();
+        int last = entities.size() - 1;
+        Entity moved = entities.get(last);
+        entities.set(slot, moved);
+        moved.setSlot(slot);
+        entities.remove(last);
+        entity.setSlot(-1);
+
+        List<Entity> list = typeIndex.get(entity.getIndexedType());
+        int typeSlot = entity.getTypeSlot();
+        Entity movedInType = list.get(list.size() - 1);
+        list.set(typeSlot, movedInType);
+        movedInType.setTypeIndex(movedInType.getIndexedType(), typeSlot);
+        list.remove(list.size() - 1);
+        entity.setTypeIndex(null, -1);
+    }
+
     /**
      * 현재 활성화된 모든 엔티티 목록을 반환합니다.
      *
@@ -161,6 +273,34 @@ public class EntityManager {
         return entities;
     }
 
+    /**
+     * 지정된 유형의 활성 엔티티 목록을 반환합니다. 목록은 정리 때마다 갱신되며, 순서는 보장되지 않습니다.
+     *
+     * @param type 엔티티 유형
+     * @return 해당 유형의 활성 엔티티 목록 (읽기 전용)
+     */
+    public List<Entity> getEntities(EntityKind type) {
+        return typeViews.get(type);
+    }
+
+    /**
+     * 전역 레이저가 활성화되어 있는지 확인합니다.
+     *
+     * @return 활성 목록에 {@link org.newdawn.spaceinvaders.entity.Projectile.LaserEntity}가 있으면 true
+     */
+    public boolean isGlobalLaserActive() {
+        return !typeIndex.get(EntityKind.GLOBAL_LASER).isEmpty();
+    }
+
+    /**
+     * 발사체와 폭발 효과를 재사용하는 객체 풀을 반환합니다.
+     *
+     * @return 엔티티 풀
+     */
+    public EntityPool getEntityPool() {
+        return entityPool;
+    }
+
     /**
      * 플레이어 함선 엔티티를 반환합니다.
      *
@@ -197,11 +337,14 @@ public class EntityManager {
 
     /**
      * 모든 활성 엔티티를 지정된 시간만큼 움직입니다.
+     * 이동 전 위치는 렌더링 보간을 위해 각 엔티티에 저장됩니다.
      *
      * @param delta 프레임 간 시간 간격 (밀리초)
      */
     public void moveAll(long delta) {
-        for (Entity entity : entities) {
+        for (int i = 0, count = entities.size(); i < count; i++) {
+            Entity entity = entities.get(i);
+            entity.savePreviousPosition();
             entity.move(delta);
         }
     }
@@ -0,0 +1,126 @@
+package org.newdawn.spaceinvaders.entity;
+
+import org.newdawn.spaceinvaders.core.GameContext;
+import org.newdawn.spaceinvaders.entity.Effect.AnimatedExplosionEntity;
+import org.newdawn.spaceinvaders.entity.Projectile.ProjectileEntity;
+import org.newdawn.spaceinvaders.entity.Projectile.ProjectileType;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 자주 생성되고 제거되는 발사체와 폭발 효과 엔티티를 재사용하는 객체 풀.
+ * 발사체는 {@link ProjectileType}별로 따로 보관되며, {@link EntityManager#cleanup()}에서
+ * 게임 월드에서 제거된 엔티티가 풀로 반환됩니다. 풀이 충분히 채워진 뒤에는 전투 중 새 엔티티를 할당하지 않습니다.
+ */
+public class EntityPool {
+
+    /** 풀에서 꺼낸 엔티티에 주입할 게임 컨텍스트. */
+    private final GameContext context;
+    /** 발사체 타입별로 반환된 발사체 목록. */
+    private final Map<ProjectileType, ArrayDeque<ProjectileEntity>> projectiles = new EnumMap<>(ProjectileType.class);
+    /** 반환된 폭발 효과 목록. */
+    private final ArrayDeque<AnimatedExplosionEntity> explosions = new ArrayDeque<>();
+
+    /** 풀에 있는 엔티티를 재사용한 횟수. */
+    private long hits;
+    /** 풀이 비어 있어 새 엔티티를 생성한 횟수. */
+    private long misses;
+
+    /**
+     * EntityPool 생성자.
+     * @param context 게임 컨텍스트
+     */
+    public EntityPool(GameContext context) {
+        this.context = context;
+        for (ProjectileType type : ProjectileType.values()) {
+            projectiles.put(type, new ArrayDeque<>());
+        }
+    }
+
+    /**
+     * 지정된 타입의 발사체를 풀에서 꺼내거나, 풀이 비어 있으면 새로 생성합니다.
+     * @param type 발사체 타입
+     * @param damage 발사체가 주는 피해량
+     * @param x 초기 x 좌표
+     * @param y 초기 y 좌표
+     * @param dx 초기 수평 속도
+     * @param dy 초기 수직 속도
+     * @return 초기화된 발사체
+     */
+    public ProjectileEntity acquireProjectile(ProjectileType type, int damage, int x, int y, double dx, double dy) {
+        ProjectileEntity projectile = projectiles.get(type).poll();
+        if (projectile == null) {
+            misses++;
+            return new ProjectileEntity(context, type, damage, x, y, dx, dy);
+        }
+        hits++;
+        projectile.init(damage, x, y, dx, dy);
+        return projectile;
+    }
+
+    /**
+     * 초기 속도가 필요 없는 발사체(예: 추적 발사체)를 풀에서 꺼냅니다.
+     * @param type 발사체 타입
+     * @param damage 발사체가 주는 피해량
+     * @param x 초기 x 좌표
+     * @param y 초기 y 좌표
+     * @return 초기화된 발사체
+     */
+    public ProjectileEntity acquireProjectile(ProjectileType type, int damage, int x, int y) {
+        return acquireProjectile(type, damage, x, y, 0, 0);
+    }
+
+    /**
+     * 폭발 효과를 풀에서 꺼내거나, 풀이 비어 있으면 새로 생성합니다.
+     * @param x 폭발의 x 좌표
+     * @param y 폭발의 y 좌표
+     * @return 첫 프레임으로 초기화된 폭발 효과
+     */
+    public AnimatedExplosionEntity acquireExplosion(int x, int y) {
+        AnimatedExplosionEntity explosion = explosions.poll();
+        if (explosion == null) {
+            misses++;
+            return new AnimatedExplosionEntity(context, x, y);
+        }
+        hits++;
+        explosion.init(x, y);
+        return explosion;
+    }
+
+    /**
+     * 게임 월드에서 제거된 엔티티를 풀로 반환합니다.
+     * 풀링 대상이 아니거나 이미 반환된 엔티티는 무시합니다.
+     * @param entity 반환할 엔티티
+     */
+    public void release(Entity entity) {
+        if (entity.isPooled()) {
+            return;
+        }
+        if (entity instanceof ProjectileEntity) {
+            ProjectileEntity projectile = (ProjectileEntity) entity;
+            projectile.setPooled(true);
+            projectiles.get(projectile.getType()).push(projectile);
+        } else if (entity instanceof AnimatedExplosionEntity) {
+            entity.setPooled(true);
+            explosions.push((AnimatedExplosionEntity) entity);
+        }
+    }
+
+    /**
+     * 풀에 있는 엔티티를 재사용한 횟수를 반환합니다.
+     * @return 풀 적중 횟수
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * 풀이 비어 있어 새 엔티티를 생성한 횟수를 반환합니다.
+     * @return 풀 실패 횟수
+     */
+    public long getMisses() {
+        return misses;
+    }
+}
@@ -16,6 +16,7 @@ public class HealingAreaEntity extends Entity {
      */
     public HealingAreaEntity(GameContext context, int x, int y) {
         super("sprites/HealingArea.png", x, y);
+        setCollisionLayer(CollisionLayer.PICKUP);
         this.context = context;
         this.dy = 100; // 아래로 이동
     }
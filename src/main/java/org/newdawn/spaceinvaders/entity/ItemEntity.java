@@ -16,6 +16,7 @@ public class ItemEntity extends Entity {
      */
     public ItemEntity(GameContext context, int x, int y) {
         super("sprites/spr_shield.png", x, y); // 현재는 쉴드 스프라이트를 사용
+        setCollisionLayer(CollisionLayer.PICKUP);
         setScale(0.1);
         this.context = context;
         this.dy = 100; // 아래로 이동
@@ -64,7 +64,7 @@ public class AttackPetEntity extends PetEntity {
 
         for (int i = 0; i < this.projectileCount; i++) {
             int xOffset = (i - this.projectileCount / 2) * 15; // 다중 발사 시 중앙 기준 분산
-            ProjectileEntity shot = new ProjectileEntity(game, type, damage, getX() + (getWidth() / 2) + xOffset, getY() - 30, 0, -moveSpeed);
+            ProjectileEntity shot = game.getEntityPool().acquireProjectile(type, damage, getX() + (getWidth() / 2) + xOffset, getY() - 30, 0, -moveSpeed);
             shot.setScale(0.8);
             game.addEntity(shot);
         }
@@ -69,7 +69,7 @@ public abstract class PetEntity extends Entity {
      */
     protected void handleAbilityActivation(long delta) {
         // 재사용 대기시간이 지나면 펫의 능력을 활성화
-        long currentTime = System.currentTimeMillis();
+        long currentTime = game.getClock().getTime();
         if (currentTime - lastAbilityTime > getAbilityCooldown()) {
             lastAbilityTime = currentTime;
             activateAbility();
@@ -104,7 +104,7 @@ public abstract class PetEntity extends Entity {
      * 펫 능력의 재사용 대기시간 타이머를 리셋합니다.
      */
     public void resetAbilityCooldown() {
-        this.lastAbilityTime = System.currentTimeMillis();
+        this.lastAbilityTime = game.getClock().getTime();
     }
 
     /**
@@ -1,9 +1,10 @@
 package org.newdawn.spaceinvaders.entity.Projectile;
 
 import org.newdawn.spaceinvaders.core.GameContext;
+import org.newdawn.spaceinvaders.entity.CollisionLayer;
 import org.newdawn.spaceinvaders.entity.Entity;
-
-import java.awt.Graphics2D;
+import org.newdawn.spaceinvaders.graphics.RenderSnapshot;
+import org.newdawn.spaceinvaders.graphics.SpriteRenderState;
 
 /**
  * 플레이어 함선에서 발사되는 레이저 빔 엔티티.
@@ -14,7 +15,7 @@ public class LaserBeamEntity extends Entity {
     private final int duration;
     /** 레이저 빔이 주는 데미지. */
     private final int damage;
-    /** 레이저 빔이 생성된 시간 (타임스탬프). */
+    /** 레이저 빔이 생성된 시간 (게임 시간, 밀리초). */
     private final long startTime;
     /** 이 레이저 빔을 발사한 엔티티 (주로 플레이어 함선). */
     private final Entity owner;
@@ -28,11 +29,12 @@ public class LaserBeamEntity extends Entity {
      */
     public LaserBeamEntity(GameContext context, Entity owner, int duration, int damage) {
         super("sprites/texture_laser.PNG", owner.getX(), owner.getY()); // 초기 위치는 발사자의 위치
+        setCollisionLayer(CollisionLayer.PLAYER_SHOT);
         this.context = context;
         this.owner = owner;
         this.duration = duration;
         this.damage = damage;
-        this.startTime = System.currentTimeMillis();
+        this.startTime = context.getClock().getTime();
         this.width = 20; // 레이저 빔의 너비
         this.height = 400; // 레이저 빔의 높이
     }
@@ -44,7 +46,7 @@ public class LaserBeamEntity extends Entity {
     @Override
     public void move(long delta) {
         // 지속 시간이 지나면 자신을 제거합니다.
-        if (System.currentTimeMillis() - startTime > duration) {
+        if (context.getClock().getTime() - startTime > duration) {
             context.removeEntity(this);
             return;
         }
@@ -56,13 +58,12 @@ public class LaserBeamEntity extends Entity {
 
     /**
      * 레이저 빔을 화면에 그립니다.
-     * @param g 그래픽 컨텍스트
+     * @param snapshot 그리기 명령을 추가할 렌더 스냅샷 빌더
      */
     @Override
-    public void draw(java.awt.Graphics g) {
-        Graphics2D g2d = (Graphics2D) g;
+    public void captureRenderState(RenderSnapshot.Builder snapshot) {
         // 지정된 크기로 레이저 빔 이미지를 그림
-        g2d.drawImage(sprite.getImage(), (int)x, (int)y, 20, 400, null);
+        snapshot.add(SpriteRenderState.at(sprite, (int) x, (int) y, 20, 400));
     }
 
     /**
@@ -3,8 +3,8 @@ package org.newdawn.spaceinvaders.entity.Projectile;
 import org.newdawn.spaceinvaders.core.Game;
 import org.newdawn.spaceinvaders.core.GameContext;
 import org.newdawn.spaceinvaders.entity.Entity;
-
-import java.awt.Graphics;
+import org.newdawn.spaceinvaders.graphics.RenderSnapshot;
+import org.newdawn.spaceinvaders.graphics.SpriteRenderState;
 
 /**
  * 화면 전체를 가로지르며 일정 시간 동안 지속되는 글로벌 레이저 엔티티.
@@ -44,16 +44,16 @@ public class LaserEntity extends Entity {
 
     /**
      * 레이저를 화면에 그립니다. 레이저 스프라이트를 타일처럼 반복하여 화면 너비를 채웁니다.
-     * @param g 그래픽 컨텍스트
+     * @param snapshot 그리기 명령을 추가할 렌더 스냅샷 빌더
      */
     @Override
-    public void draw(java.awt.Graphics g) {
+    public void captureRenderState(RenderSnapshot.Builder snapshot) {
         int tileWidth = 20; // 20px 너비의 타일로 레이저를 그립니다.
 
         int numTiles = (int) Math.ceil((double) Game.GAME_WIDTH / tileWidth);
 
         for (int i = 0; i < numTiles; i++) {
-            g.drawImage(sprite.getImage(), getX() + i * tileWidth, getY(), tileWidth, height, null);
+            snapshot.add(SpriteRenderState.at(sprite, getX() + i * tileWidth, getY(), tileWidth, height));
         }
     }
 
@@ -2,6 +2,7 @@ package org.newdawn.spaceinvaders.entity.Projectile;
 
 import org.newdawn.spaceinvaders.core.Game;
 import org.newdawn.spaceinvaders.core.GameContext;
+import org.newdawn.spaceinvaders.entity.CollisionLayer;
 import org.newdawn.spaceinvaders.entity.Entity;
 import org.newdawn.spaceinvaders.entity.ShipEntity;
 
@@ -13,7 +14,7 @@ public class ProjectileEntity extends Entity {
     /** 발사체의 타입 정의. */
     private final ProjectileType type;
     /** 발사체가 주는 피해량. */
-    private final int damage;
+    private int damage;
 
     /** 추적 미사일의 남은 추적 시간 (밀리초). */
     private long homingTimer;
@@ -34,15 +35,12 @@ public class ProjectileEntity extends Entity {
         super(type.spritePath, x, y);
         this.context = context;
         this.type = type;
+        setCollisionLayer(type.targetType == ProjectileType.TargetType.ENEMY ? CollisionLayer.PLAYER_SHOT : CollisionLayer.ENEMY_SHOT);
         this.damage = damage;
         this.dx = dx;
         this.dy = dy;
         this.homingTimer = type.homingDuration;
-        if (type == ProjectileType.FEATHER_SHOT) { // 특정 발사체는 크기 조절
-            setScale(1.0);
-        } else {
-            setScale(1.5);
-        }
+        applyDefaultScale();
     }
 
     /**
@@ -57,6 +55,39 @@ public class ProjectileEntity extends Entity {
         this(context, type, damage, x, y, 0, 0);
     }
 
+    /**
+     * {@link org.newdawn.spaceinvaders.entity.EntityPool}에서 재사용될 때 발사체를 새로 발사된 상태로 초기화합니다.
+     * 타입은 풀의 구분 기준이므로 바뀌지 않습니다.
+     * @param damage 발사체가 주는 피해량
+     * @param x 초기 x 좌표
+     * @param y 초기 y 좌표
+     * @param dx 초기 수평 속도
+     * @param dy 초기 수직 속도
+     */
+    public void init(int damage, int x, int y, double dx, double dy) {
+        this.damage = damage;
+        setX(x);
+        setY(y);
+        this.dx = dx;
+        this.dy = dy;
+        this.homingTimer = type.homingDuration;
+        this.used = false;
+        applyDefaultScale();
+        reset();
+        setPooled(false);
+    }
+
+    /**
+     * 발사체 타입에 맞는 기본 크기 배율을 적용합니다.
+     */
+    private void applyDefaultScale() {
+        if (type == ProjectileType.FEATHER_SHOT) { // 특정 발사체는 크기 조절
+            setScale(1.0);
+        } else {
+            setScale(1.5);
+        }
+    }
+
     /**
      * 발사체를 이동시키고, 추적 기능이 있다면 플레이어를 향해 방향을 조절합니다.
      * 화면 밖으로 나가면 자신을 제거합니다.
@@ -10,6 +10,8 @@ import org.newdawn.spaceinvaders.entity.weapon.Weapon;
 import org.newdawn.spaceinvaders.graphics.HpRender;
 import org.newdawn.spaceinvaders.player.BuffManager;
 import org.newdawn.spaceinvaders.player.BuffType;
+import org.newdawn.spaceinvaders.graphics.RenderSnapshot;
+import org.newdawn.spaceinvaders.graphics.ShapeRenderState;
 
 import java.awt.*;
 import java.util.HashMap;
@@ -24,6 +26,10 @@ public class ShipEntity extends Entity {
     private HpRender hpRender;
     /** 다른 엔티티와 충돌 시 받는 기본 데미지. */
     private static final int COLLISION_DAMAGE = 1;
+    /** 쉴드 효과 색상 (반투명 파란색). */
+    private static final Color SHIELD_EFFECT_COLOR = new Color(100, 100, 255, 70);
+    /** 버프 효과 색상 (반투명 빨간색). */
+    private static final Color BUFF_EFFECT_COLOR = new Color(255, 100, 100, 70);
 
     /** 단시간의 기본 무적 상태 여부. */
     private boolean invincible = false;
@@ -68,10 +74,11 @@ public class ShipEntity extends Entity {
      */
 	public ShipEntity(GameContext context,String ref,int x,int y, int maxHealth) {
 		super(ref,x,y);
+		setCollisionLayer(CollisionLayer.PLAYER);
 		this.health = new HealthComponent(this, maxHealth);
 		this.context = context;
 		this.hpRender = new HpRender(health.getHp());
-        this.buffManager = new BuffManager(this);
+        this.buffManager = new BuffManager(this, context.getClock());
     }
 
     /**
@@ -148,34 +155,32 @@ public class ShipEntity extends Entity {
     /**
      * 함선을 화면에 그립니다.
      * 쉴드, 버프, 무적 상태에 따라 시각적 효과(원, 깜빡임)를 추가로 표시합니다.
-     * @param g 그래픽 컨텍스트
+     * @param snapshot 그리기 명령을 추가할 렌더 스냅샷 빌더
      */
     @Override
-    public void draw(Graphics g) {
+    public void captureRenderState(RenderSnapshot.Builder snapshot) {
         int effectSize = Math.max(width, height) + 10;
 
         if (hasShield) {
-            g.setColor(new Color(100, 100, 255, 70)); // 반투명 파란색
-            g.fillOval((int) x - (effectSize - width) / 2, (int) y - (effectSize - height) / 2, effectSize, effectSize);
+            snapshot.add(new ShapeRenderState(ShapeRenderState.Kind.FILL_OVAL, SHIELD_EFFECT_COLOR, (int) x - (effectSize - width) / 2, (int) y - (effectSize - height) / 2, effectSize, effectSize));
         }
         if (isBuffActive) {
-            g.setColor(new Color(255, 100, 100, 70)); // 반투명 빨간색
-            g.fillOval((int) x - (effectSize - width) / 2, (int) y - (effectSize - height) / 2, effectSize, effectSize);
+            snapshot.add(new ShapeRenderState(ShapeRenderState.Kind.FILL_OVAL, BUFF_EFFECT_COLOR, (int) x - (effectSize - width) / 2, (int) y - (effectSize - height) / 2, effectSize, effectSize));
         }
 
 	    boolean shouldDraw = true;
         // 무적 상태일 때 깜빡이는 효과
         if (isInvincible()) {
-            if ((System.currentTimeMillis() / 100) % 2 == 0) {
+            if ((context.getClock().getTime() / 100) % 2 == 0) {
                 shouldDraw = false;
             }
         }
 
         if (shouldDraw) {
-            super.draw(g);
+            super.captureRenderState(snapshot);
         }
 
-        hpRender.hpRender((Graphics2D) g, this);
+        hpRender.captureRenderState(snapshot, this);
     }
 
     /**
@@ -226,7 +231,7 @@ public class ShipEntity extends Entity {
         invincible = false;
         invincibilityTimer = 0;
         setShield(false, null);
-        buffManager = new BuffManager(this);
+        buffManager = new BuffManager(this, context.getClock());
         x = Game.GAME_WIDTH / 2.0;
         y = 550;
     }
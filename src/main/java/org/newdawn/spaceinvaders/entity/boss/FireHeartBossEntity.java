@@ -52,8 +52,8 @@ public class FireHeartBossEntity extends BossEntity {
     protected void fireTentacleAttackPattern() {
         int numberOfAttacks = isMiniBoss ? 12 : 6;
         for (int i = 0; i < numberOfAttacks; i++) {
-            int randomX = (int) (Math.random() * (Game.GAME_WIDTH - 100)) + 50;
-            int randomY = (int) (Math.random() * (Game.GAME_HEIGHT - 200)) + 100;
+            int randomX = (int) (context.getRandom().nextDouble() * (Game.GAME_WIDTH - 100)) + 50;
+            int randomY = (int) (context.getRandom().nextDouble() * (Game.GAME_HEIGHT - 200)) + 100;
             context.addEntity(new TentacleAttackEntity(context, randomX, randomY));
         }
     }
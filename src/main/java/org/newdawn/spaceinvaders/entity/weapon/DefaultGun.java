@@ -41,18 +41,18 @@ public class DefaultGun implements Weapon {
         }
 
         // 발사 간격이 지났는지 확인
-        if (System.currentTimeMillis() - lastFire < firingInterval) {
+        if (context.getClock().getTime() - lastFire < firingInterval) {
             return;
         }
 
-        lastFire = System.currentTimeMillis();
+        lastFire = context.getClock().getTime();
         ProjectileType type = ProjectileType.PLAYER_SHOT;
         double moveSpeed = type.moveSpeed;
 
         // 플레이어 스탯에 따른 발사체 수만큼 발사
         for (int i = 0; i < projectileCount; i++) {
             int xOffset = (i - projectileCount / 2) * 15; // 다중 발사 시 중앙 기준 분산
-            ProjectileEntity shot = new ProjectileEntity(context, type, bulletDamage, ship.getX() + 10 + xOffset, ship.getY() - 30, 0, -moveSpeed);
+            ProjectileEntity shot = context.getEntityPool().acquireProjectile(type, bulletDamage, ship.getX() + 10 + xOffset, ship.getY() - 30, 0, -moveSpeed);
             shot.setScale(1);
             context.addEntity(shot);
         }
@@ -78,6 +78,14 @@ public class DefaultGun implements Weapon {
         // 이 무기의 스탯은 PlayerStats에서 파생되므로, 내부 레벨은 필요 없습니다.
     }
 
+    /**
+     * 마지막 발사 시간을 초기화하여 새 게임의 시계에서 바로 발사할 수 있게 합니다.
+     */
+    @Override
+    public void reset() {
+        lastFire = 0;
+    }
+
     /**
      * 이 무기를 발사할 때 재생될 사운드 이름을 반환합니다.
      * @return 사운드 이름 ("gunshot")
@@ -29,10 +29,10 @@ public class Laser implements Weapon {
     public void fire(GameContext context, ShipEntity owner) {
         if (level == 0) return; // 잠금 해제되지 않은 무기는 발사 불가
 
-        if (System.currentTimeMillis() - lastFire < firingInterval) {
+        if (context.getClock().getTime() - lastFire < firingInterval) {
             return;
         }
-        lastFire = System.currentTimeMillis();
+        lastFire = context.getClock().getTime();
 
         int duration = 500; // 500ms 지속 시간
         LaserBeamEntity laserBeam = new LaserBeamEntity(context, owner, duration, damage);
@@ -60,6 +60,14 @@ public class Laser implements Weapon {
         this.firingInterval = 1500 - ((level - 1) * 250L); // 레벨 1당 발사 간격 0.25초 감소
     }
 
+    /**
+     * 마지막 발사 시간을 초기화하여 새 게임의 시계에서 바로 발사할 수 있게 합니다.
+     */
+    @Override
+    public void reset() {
+        lastFire = 0;
+    }
+
     /**
      * 이 무기를 발사할 때 재생될 사운드 이름을 반환합니다.
      * @return 사운드 이름 ("lasershot")
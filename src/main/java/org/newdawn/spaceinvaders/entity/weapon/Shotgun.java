@@ -36,11 +36,11 @@ public class Shotgun implements Weapon {
      */
     @Override
     public void fire(GameContext context, ShipEntity owner) {
-        if (System.currentTimeMillis() - lastFire < firingInterval) {
+        if (context.getClock().getTime() - lastFire < firingInterval) {
             return;
         }
 
-        lastFire = System.currentTimeMillis();
+        lastFire = context.getClock().getTime();
         ProjectileType type = ProjectileType.PLAYER_SHOT;
         double moveSpeed = type.moveSpeed;
 
@@ -52,7 +52,7 @@ public class Shotgun implements Weapon {
             double angle = Math.toRadians(i * (currentSpreadAngle / (currentNumProjectiles - 1)) - currentSpreadAngle / 2);
             double dx = Math.sin(angle);
             double dy = -Math.cos(angle);
-            ProjectileEntity shot = new ProjectileEntity(context, type, bulletDamage, owner.getX() + 10, owner.getY() - 30, dx * moveSpeed, dy * moveSpeed);
+            ProjectileEntity shot = context.getEntityPool().acquireProjectile(type, bulletDamage, owner.getX() + 10, owner.getY() - 30, dx * moveSpeed, dy * moveSpeed);
             shot.setScale(1);
             context.addEntity(shot);
         }
@@ -82,6 +82,14 @@ public class Shotgun implements Weapon {
         }
     }
 
+    /**
+     * 마지막 발사 시간을 초기화하여 새 게임의 시계에서 바로 발사할 수 있게 합니다.
+     */
+    @Override
+    public void reset() {
+        lastFire = 0;
+    }
+
     /**
      * 이 무기를 발사할 때 재생될 사운드 이름을 반환합니다.
      * @return 사운드 이름 ("shotgun")
@@ -31,6 +31,12 @@ public interface Weapon {
      */
     void setLevel(int level);
 
+    /**
+     * 게임 시간을 기준으로 한 발사 간격 등의 타이머를 초기화합니다.
+     * 새 게임이 시작되어 게임 시계가 0으로 돌아갈 때 호출됩니다.
+     */
+    void reset();
+
     /**
      * 이 무기를 발사할 때 재생될 사운드의 이름을 반환합니다.
      * @return 사운드 이름
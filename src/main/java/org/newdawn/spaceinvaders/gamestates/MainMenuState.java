@@ -4,6 +4,7 @@ import org.newdawn.spaceinvaders.core.Game;
 import org.newdawn.spaceinvaders.core.GameContext;
 import org.newdawn.spaceinvaders.core.GameState;
 import org.newdawn.spaceinvaders.core.InputHandler;
+import org.newdawn.spaceinvaders.graphics.SpritePreloader;
 import org.newdawn.spaceinvaders.userinput.MainMenuInputHandler;
 import org.newdawn.spaceinvaders.view.MainMenu;
 
@@ -63,7 +64,7 @@ public class MainMenuState implements GameState {
     @Override
     public void render(Graphics2D g) {
         // 정적 배경 이미지 그리기
-        g.drawImage(gameContext.getStaticBackgroundSprite().getImage(), 0, 0, Game.SCREEN_WIDTH, Game.SCREEN_HEIGHT, null);
+        gameContext.getStaticBackgroundSprite().draw(g, 0, 0, Game.SCREEN_WIDTH, Game.SCREEN_HEIGHT);
 
         // 메뉴 항목 그리기
         g.setFont(new Font("Dialog", Font.BOLD, 24));
@@ -86,6 +87,32 @@ public class MainMenuState implements GameState {
             g.drawString(mainMenu.getItem(i), currentX, 500);
             currentX += g.getFontMetrics().stringWidth(mainMenu.getItem(i)) + spacing;
         }
+
+        renderLoadingProgress(g);
+    }
+
+    /**
+     * 스프라이트를 아직 불러오는 중이면 메뉴 아래에 진행 막대를 그립니다.
+     * @param g 그리기를 수행할 그래픽 컨텍스트
+     */
+    private void renderLoadingProgress(Graphics2D g) {
+        SpritePreloader preloader = gameContext.getSpritePreloader();
+        if (preloader == null || preloader.isDone()) {
+            return;
+        }
+        int barWidth = 300;
+        int barHeight = 8;
+        int barX = (Game.SCREEN_WIDTH - barWidth) / 2;
+        int barY = 540;
+        int filled = barWidth * preloader.getLoadedCount() / Math.max(1, preloader.getTotalCount());
+
+        g.setColor(Color.DARK_GRAY);
+        g.fillRect(barX, barY, barWidth, barHeight);
+        g.setColor(Color.GREEN);
+        g.fillRect(barX, barY, filled, barHeight);
+        g.setColor(Color.WHITE);
+        g.setFont(new Font("Dialog", Font.PLAIN, 12));
+        g.drawString(String.format("리소스 불러오는 중 %d/%d", preloader.getLoadedCount(), preloader.getTotalCount()), barX, barY - 6);
     }
 
     /**
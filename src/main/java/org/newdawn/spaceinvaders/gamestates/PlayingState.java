@@ -12,6 +12,7 @@ import org.newdawn.spaceinvaders.entity.weapon.DefaultGun;
 import org.newdawn.spaceinvaders.entity.weapon.Laser;
 import org.newdawn.spaceinvaders.entity.weapon.Shotgun;
 import org.newdawn.spaceinvaders.entity.weapon.Weapon;
+import org.newdawn.spaceinvaders.graphics.RenderSnapshot;
 import org.newdawn.spaceinvaders.userinput.PlayingInputHandler;
 import org.newdawn.spaceinvaders.view.PlayingStateRenderer;
 
@@ -74,6 +75,16 @@ public class PlayingState implements GameState {
         renderer.render(g);
     }
 
+    /**
+     * 게임 플레이 화면의 렌더 스냅샷을 만듭니다.
+     * @param alpha 스냅샷 생성 시점의 보간 비율
+     * @return 렌더 스냅샷
+     */
+    @Override
+    public RenderSnapshot captureRenderSnapshot(double alpha) {
+        return renderer.capture(alpha);
+    }
+
     /**
      * 이 상태에 진입할 때 호출됩니다.
      * 현재 게임 세션에 대한 플레이어 함선, 무기, 펫을 설정하고 웨이브 매니저를 초기화합니다.
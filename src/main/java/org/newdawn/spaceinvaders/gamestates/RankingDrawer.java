@@ -17,6 +17,8 @@ public class RankingDrawer {
     private static final Font RANKING_TITLE_FONT = new Font(FONT_NAME, Font.BOLD, 24);
     /** 랭킹 목록에 사용될 폰트. */
     private static final Font RANKING_LIST_FONT = new Font(FONT_NAME, Font.BOLD, 18);
+    /** 조회 중 표시에 사용될 폰트. */
+    private static final Font REFRESHING_FONT = new Font(FONT_NAME, Font.PLAIN, 14);
     /** 복귀 안내 메시지에 사용될 폰트. */
     private static final Font RETURN_PROMPT_FONT = new Font(FONT_NAME, Font.BOLD, 14);
 
@@ -24,9 +26,13 @@ public class RankingDrawer {
     private static final Color BACKGROUND_COLOR = Color.black;
     /** 폰트 색상. */
     private static final Color FONT_COLOR = Color.white;
+    /** 조회 중 표시의 색상. */
+    private static final Color REFRESHING_COLOR = Color.gray;
 
     /** 제목의 Y축 위치. */
     private static final int TITLE_Y = 100;
+    /** 조회 중 표시의 Y축 위치. */
+    private static final int REFRESHING_Y = 125;
     /** 랭킹 목록 시작 Y축 위치. */
     private static final int LIST_START_Y = 150;
     /** 랭킹 목록 항목 간의 간격. */
@@ -39,10 +45,14 @@ public class RankingDrawer {
      *
      * @param g 화면에 그릴 Graphics2D 객체
      * @param highScores 표시할 랭킹 목록
+     * @param refreshing 랭킹을 새로 조회하는 중이면 true
      */
-    public void draw(Graphics2D g, List<Ranking> highScores) {
+    public void draw(Graphics2D g, List<Ranking> highScores, boolean refreshing) {
         drawBackground(g);
         drawTitle(g);
+        if (refreshing) {
+            drawRefreshing(g);
+        }
         drawHighScores(g, highScores);
         drawReturnPrompt(g);
     }
@@ -70,6 +80,19 @@ public class RankingDrawer {
         g.drawString(title, x, TITLE_Y);
     }
 
+    /**
+     * 랭킹을 새로 조회하는 중임을 알리는 표시를 그립니다.
+     *
+     * @param g 화면에 그릴 Graphics2D 객체
+     */
+    private void drawRefreshing(Graphics2D g) {
+        g.setColor(REFRESHING_COLOR);
+        g.setFont(REFRESHING_FONT);
+        String text = "Refreshing...";
+        int x = (Game.SCREEN_WIDTH - g.getFontMetrics().stringWidth(text)) / 2;
+        g.drawString(text, x, REFRESHING_Y);
+    }
+
     /**
      * 랭킹 목록을 그립니다.
      *
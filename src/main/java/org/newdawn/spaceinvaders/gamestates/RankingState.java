@@ -3,21 +3,19 @@ package org.newdawn.spaceinvaders.gamestates;
 import org.newdawn.spaceinvaders.core.GameContext;
 import org.newdawn.spaceinvaders.core.GameState;
 import org.newdawn.spaceinvaders.core.InputHandler;
-import org.newdawn.spaceinvaders.ranking.Ranking;
+import org.newdawn.spaceinvaders.ranking.Leaderboard;
 import org.newdawn.spaceinvaders.userinput.RankingInputHandler;
 
 import java.awt.*;
-import java.util.List;
 
 /**
  * 게임의 랭킹 화면 상태를 관리하는 클래스.
- * 랭킹 데이터를 로드하고, 사용자 입력을 처리하며, RankingDrawer를 이용해 화면에 랭킹을 그립니다.
+ * 캐시된 랭킹을 {@link Leaderboard}에서 읽어 바로 그리며, 캐시가 오래되었으면 백그라운드에서 새로 조회합니다.
+ * 사용자 입력을 처리하고, RankingDrawer를 이용해 화면에 랭킹을 그립니다.
  */
 public class RankingState implements GameState {
     /** 게임의 컨텍스트. */
     private final GameContext gameContext;
-    /** 로드된 상위 점수 목록. */
-    private List<Ranking> highScores;
     /** 랭킹 화면의 사용자 입력을 처리하는 핸들러. */
     private final RankingInputHandler inputHandler;
     /** 랭킹 화면의 UI 요소를 그리는 객체. */
@@ -64,22 +62,23 @@ public class RankingState implements GameState {
 
     /**
      * 랭킹 화면을 그립니다.
-     * RankingDrawer를 사용하여 highScores 목록을 화면에 렌더링합니다.
+     * RankingDrawer를 사용하여 캐시된 랭킹 목록과 조회 중 표시를 화면에 렌더링합니다.
      *
      * @param g 그래픽 컨텍스트
      */
     @Override
     public void render(Graphics2D g) {
-        rankingDrawer.draw(g, highScores);
+        Leaderboard leaderboard = gameContext.getGameContainer().getDatabaseManager().getLeaderboard();
+        rankingDrawer.draw(g, leaderboard.getRankings(), leaderboard.isRefreshing());
     }
 
     /**
      * 랭킹 상태로 진입할 때 호출됩니다.
-     * 데이터베이스에서 최신 상위 점수 목록을 로드합니다.
+     * 캐시가 만료되었으면 백그라운드에서 최신 상위 점수 목록을 조회합니다. 조회를 기다리지 않습니다.
      */
     @Override
     public void onEnter() {
-        highScores = gameContext.getGameContainer().getDatabaseManager().getHighScores();
+        gameContext.getGameContainer().getDatabaseManager().getLeaderboard().refreshIfStale();
     }
 
     /**
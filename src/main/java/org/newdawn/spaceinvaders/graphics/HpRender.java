@@ -3,8 +3,7 @@ package org.newdawn.spaceinvaders.graphics;
 import org.newdawn.spaceinvaders.entity.Entity;
 import org.newdawn.spaceinvaders.entity.HP;
 
-import java.awt.*;
-import java.awt.geom.Rectangle2D;
+import java.awt.Color;
 
 /**
  * 엔티티(플레이어, 보스 등)의 체력(HP) 바를 화면에 그리는 역할을 하는 클래스.
@@ -14,6 +13,11 @@ public class HpRender {
     /** 체력 정보를 가지고 있는 HP 객체. */
     private final HP hp;
 
+    /** HP 바 배경 색상. */
+    private static final Color BACKGROUND_COLOR = new Color(70, 70, 70);
+    /** 현재 HP 색상. */
+    private static final Color HP_COLOR = new Color(253, 91, 91);
+
     /** 화면에 그려질 HP 바의 너비. */
     private final int Hprendersize = 30;
 
@@ -26,22 +30,20 @@ public class HpRender {
     }
 
     /**
-     * 대상 엔티티의 위치를 기준으로 HP 바를 그립니다.
-     * @param g 그래픽 컨텍스트
+     * 대상 엔티티의 위치를 기준으로 HP 바를 그리는 명령을 스냅샷에 추가합니다.
+     * @param snapshot 그리기 명령을 추가할 렌더 스냅샷 빌더
      * @param entity HP 바를 표시할 대상 엔티티
      */
-    public void hpRender(Graphics2D g, Entity entity) {
+    public void captureRenderState(RenderSnapshot.Builder snapshot, Entity entity) {
         // HP 바를 엔티티의 상단 중앙에 위치시킴
         double hpY = entity.getY() - 10;
         double hpX = entity.getX() + (entity.getWidth() / 2) - (Hprendersize / 2); // 2.0을 2로 되돌림
 
         // HP 바 배경 그리기
-        g.setColor(new Color(70, 70, 70));
-        g.fill(new Rectangle2D.Double(hpX, hpY, Hprendersize, 4));
+        snapshot.add(new ShapeRenderState(ShapeRenderState.Kind.FILL_RECT, BACKGROUND_COLOR, hpX, hpY, Hprendersize, 4));
 
         // 현재 HP 그리기
-        g.setColor(new Color(253, 91, 91));
         double hpsize = (hp.getCurrentHp() / hp.getMAX_HP()) * Hprendersize;
-        g.fill(new Rectangle2D.Double(hpX, hpY, hpsize, 4));
+        snapshot.add(new ShapeRenderState(ShapeRenderState.Kind.FILL_RECT, HP_COLOR, hpX, hpY, hpsize, 4));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,39 @@
+package org.newdawn.spaceinvaders.graphics;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Iterator;
+
+/**
+ * 이미지를 디코딩하지 않고 너비와 높이만 읽어 크기 정보만 가진 {@link Sprite}를 만드는 로더.
+ * {@code GraphicsEnvironment}에 접근하지 않으므로 화면이 없는 환경(CI, 밸런싱 시뮬레이션)에서도 동작합니다.
+ */
+public class MetadataSpriteLoader implements SpriteLoader {
+
+	/**
+	 * 이미지 헤더에서 크기만 읽어 스프라이트를 생성합니다.
+	 * @param url 스프라이트 이미지 리소스의 URL
+	 * @return 이미지 없이 크기 정보만 가진 스프라이트
+	 * @throws IOException 이미지 형식을 알 수 없거나 읽지 못한 경우
+	 */
+	@Override
+	public Sprite load(URL url) throws IOException {
+		try (InputStream in = url.openStream(); ImageInputStream stream = ImageIO.createImageInputStream(in)) {
+			Iterator<ImageReader> readers = ImageIO.getImageReaders(stream);
+			if (!readers.hasNext()) {
+				throw new IOException("지원하지 않는 이미지 형식: " + url);
+			}
+			ImageReader reader = readers.next();
+			try {
+				reader.setInput(stream, true, true);
+				return new Sprite(reader.getWidth(0), reader.getHeight(0));
+			} finally {
+				reader.dispose();
+			}
+		}
+	}
+}
@@ -0,0 +1,16 @@
+package org.newdawn.spaceinvaders.graphics;
+
+import java.awt.Graphics2D;
+
+/**
+ * 렌더 스냅샷에 담기는 하나의 불변 그리기 명령.
+ * 시뮬레이션 스레드에서 필요한 값을 모두 복사해 생성되므로, 렌더링 스레드에서 게임 상태에 접근하지 않고 그릴 수 있습니다.
+ */
+public interface RenderCommand {
+
+    /**
+     * 이 명령을 그래픽 컨텍스트에 그립니다.
+     * @param g 그리기를 수행할 그래픽 컨텍스트
+     */
+    void draw(Graphics2D g);
+}
@@ -0,0 +1,189 @@
+package org.newdawn.spaceinvaders.graphics;
+
+import org.newdawn.spaceinvaders.core.SystemTimer;
+
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.Shape;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 한 시점의 게임 화면을 나타내는 불변 렌더 스냅샷.
+ * 시뮬레이션 스레드가 {@link Builder}로 생성하고, 렌더링 스레드는 게임 상태에 접근하지 않고 이 스냅샷만으로 화면을 그립니다.
+ * <p>
+ * 명령은 세 구역으로 나뉩니다: 배경, 플레이 영역(클리핑 및 위치 보간 적용), 그리고 그 위의 UI 오버레이.
+ */
+public final class RenderSnapshot {
+
+    /** 배경 그리기 명령. */
+    private final List<RenderCommand> background;
+    /** 플레이 영역 그리기 명령. */
+    private final RenderCommand[] field;
+    /** 플레이 영역 명령별 직전 틱 위치까지의 x 오프셋. */
+    private final double[] fieldOffsetX;
+    /** 플레이 영역 명령별 직전 틱 위치까지의 y 오프셋. */
+    private final double[] fieldOffsetY;
+    /** 플레이 영역 클리핑 사각형. */
+    private final Rectangle fieldClip;
+    /** UI 오버레이 그리기 명령. */
+    private final List<RenderCommand> overlay;
+    /** 스냅샷이 생성된 시각 ({@link SystemTimer#getTime()} 기준, 밀리초). */
+    private final long capturedAt;
+    /** 스냅샷 생성 시점의 보간 비율. */
+    private final double alpha;
+
+    private RenderSnapshot(Builder builder) {
+        this.background = Collections.unmodifiableList(new ArrayList<>(builder.background));
+        this.field = builder.field.toArray(new RenderCommand[0]);
+        this.fieldOffsetX = Arrays.copyOf(builder.fieldOffsetX, field.length);
+        this.fieldOffsetY = Arrays.copyOf(builder.fieldOffsetY, field.length);
+        this.fieldClip = new Rectangle(builder.fieldClip);
+        this.overlay = Collections.unmodifiableList(new ArrayList<>(builder.overlay));
+        this.capturedAt = builder.capturedAt;
+        this.alpha = builder.alpha;
+    }
+
+    /**
+     * 스냅샷을 그립니다. 플레이 영역 명령은 직전 틱과 현재 틱 사이를 보간한 위치에 그려집니다.
+     * @param g 그리기를 수행할 그래픽 컨텍스트
+     * @param alpha 직전 틱(0.0)에서 현재 틱(1.0)까지의 보간 비율
+     */
+    public void render(Graphics2D g, double alpha) {
+        for (RenderCommand command : background) {
+            command.draw(g);
+        }
+
+        Shape originalClip = g.getClip();
+        try {
+            g.setClip(fieldClip.x, fieldClip.y, fieldClip.width, fieldClip.height);
+            double remaining = 1.0 - alpha;
+            for (int i = 0; i < field.length; i++) {
+                double offsetX = fieldOffsetX[i] * remaining;
+                double offsetY = fieldOffsetY[i] * remaining;
+                if (offsetX == 0 && offsetY == 0) {
+                    field[i].draw(g);
+                    continue;
+                }
+                g.translate(offsetX, offsetY);
+                try {
+                    field[i].draw(g);
+                } finally {
+                    g.translate(-offsetX, -offsetY);
+                }
+            }
+        } finally {
+            g.setClip(originalClip);
+        }
+
+        for (RenderCommand command : overlay) {
+            command.draw(g);
+        }
+    }
+
+    /**
+     * 스냅샷이 생성된 시각을 반환합니다.
+     * @return {@link SystemTimer#getTime()} 기준 생성 시각 (밀리초)
+     */
+    public long getCapturedAt() {
+        return capturedAt;
+    }
+
+    /**
+     * 스냅샷 생성 시점의 보간 비율을 반환합니다.
+     * @return 직전 틱(0.0)과 현재 틱(1.0) 사이의 보간 비율
+     */
+    public double getAlpha() {
+        return alpha;
+    }
+
+    /**
+     * 시뮬레이션 스레드에서 {@link RenderSnapshot}을 구성하는 빌더.
+     * 엔티티는 {@link #beginEntity(double, double)} 이후 {@link #add(RenderCommand)}로 자신의 그리기 명령을 추가합니다.
+     */
+    public static final class Builder {
+        private final List<RenderCommand> background = new ArrayList<>();
+        private final List<RenderCommand> field = new ArrayList<>();
+        private double[] fieldOffsetX = new double[64];
+        private double[] fieldOffsetY = new double[64];
+        private final Rectangle fieldClip;
+        private final List<RenderCommand> overlay = new ArrayList<>();
+        private final long capturedAt;
+        private final double alpha;
+
+        /** 현재 엔티티의 x 보간 오프셋. */
+        private double currentOffsetX;
+        /** 현재 엔티티의 y 보간 오프셋. */
+        private double currentOffsetY;
+
+        /**
+         * Builder 생성자.
+         * @param fieldClip 플레이 영역 클리핑 사각형
+         * @param alpha 스냅샷 생성 시점의 보간 비율
+         */
+        public Builder(Rectangle fieldClip, double alpha) {
+            this.fieldClip = new Rectangle(fieldClip);
+            this.alpha = alpha;
+            this.capturedAt = SystemTimer.getTime();
+        }
+
+        /**
+         * 배경 구역에 그리기 명령을 추가합니다.
+         * @param command 그리기 명령
+         * @return 이 빌더
+         */
+        public Builder addBackground(RenderCommand command) {
+            background.add(command);
+            return this;
+        }
+
+        /**
+         * 이후 {@link #add(RenderCommand)}로 추가되는 명령에 적용할 보간 오프셋을 설정합니다.
+         * @param offsetX 현재 위치에서 직전 틱 위치까지의 x 오프셋
+         * @param offsetY 현재 위치에서 직전 틱 위치까지의 y 오프셋
+         * @return 이 빌더
+         */
+        public Builder beginEntity(double offsetX, double offsetY) {
+            this.currentOffsetX = offsetX;
+            this.currentOffsetY = offsetY;
+            return this;
+        }
+
+        /**
+         * 플레이 영역에 그리기 명령을 추가합니다.
+         * @param command 그리기 명령
+         * @return 이 빌더
+         */
+        public Builder add(RenderCommand command) {
+            int index = field.size();
+            if (index == fieldOffsetX.length) {
+                fieldOffsetX = Arrays.copyOf(fieldOffsetX, index * 2);
+                fieldOffsetY = Arrays.copyOf(fieldOffsetY, index * 2);
+            }
+            field.add(command);
+            fieldOffsetX[index] = currentOffsetX;
+            fieldOffsetY[index] = currentOffsetY;
+            return this;
+        }
+
+        /**
+         * UI 오버레이 구역에 그리기 명령을 추가합니다.
+         * @param command 그리기 명령
+         * @return 이 빌더
+         */
+        public Builder addOverlay(RenderCommand command) {
+            overlay.add(command);
+            return this;
+        }
+
+        /**
+         * 지금까지 추가된 명령으로 불변 스냅샷을 생성합니다.
+         * @return 렌더 스냅샷
+         */
+        public RenderSnapshot build() {
+            return new RenderSnapshot(this);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package org.newdawn.spaceinvaders.graphics;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+
+/**
+ * 색이 지정된 사각형이나 원을 그리기 위한 불변 렌더 상태 (HP 바, 보호막 효과, 히트박스 등).
+ */
+public final class ShapeRenderState implements RenderCommand {
+
+    /**
+     * 도형을 그리는 방식.
+     */
+    public enum Kind {
+        /** 실수 좌표로 채운 사각형. */
+        FILL_RECT,
+        /** 정수 좌표로 채운 원. */
+        FILL_OVAL,
+        /** 정수 좌표로 그린 사각형 외곽선. */
+        DRAW_RECT
+    }
+
+    /** 도형 종류. */
+    private final Kind kind;
+    /** 도형 색상. */
+    private final Color color;
+    /** 좌상단 x 위치. */
+    private final double x;
+    /** 좌상단 y 위치. */
+    private final double y;
+    /** 너비. */
+    private final double width;
+    /** 높이. */
+    private final double height;
+
+    /**
+     * ShapeRenderState 생성자.
+     * @param kind 도형 종류
+     * @param color 도형 색상
+     * @param x 좌상단 x 위치
+     * @param y 좌상단 y 위치
+     * @param width 너비
+     * @param height 높이
+     */
+    public ShapeRenderState(Kind kind, Color color, double x, double y, double width, double height) {
+        this.kind = kind;
+        this.color = color;
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+    }
+
+    @Override
+    public void draw(Graphics2D g) {
+        g.setColor(color);
+        switch (kind) {
+            case FILL_RECT:
+                g.fill(new Rectangle2D.Double(x, y, width, height));
+                break;
+            case FILL_OVAL:
+                g.fillOval((int) x, (int) y, (int) width, (int) height);
+                break;
+            case DRAW_RECT:
+                g.drawRect((int) x, (int) y, (int) width, (int) height);
+                break;
+            default:
+                break;
+        }
+    }
+}
@@ -6,18 +6,61 @@ import java.awt.Image;
 /**
  * 게임 내에서 사용되는 이미지(스프라이트)를 나타내는 클래스.
  * AWT의 {@link Image} 객체를 감싸고, 너비, 높이 정보 및 그리기 기능을 제공합니다.
+ * <p>
+ * {@link TextureAtlas}에 포함된 스프라이트는 아틀라스 페이지 이미지의 일부 영역만을 가리키므로,
+ * 그릴 때는 {@link #getImage()} 전체가 아니라 원본 영역({@link #getSourceX()}, {@link #getSourceY()}, 너비, 높이)만 그려야 합니다.
  */
 public class Sprite {
 
-	/** 이 스프라이트가 나타내는 원본 이미지 객체. */
+	/** 이 스프라이트가 들어 있는 이미지 객체. 아틀라스에 포함된 경우 페이지 전체, 크기 정보만 가진 스프라이트는 null. */
 	private final Image image;
+	/** 이미지 안에서 스프라이트 영역의 x 위치. */
+	private final int sourceX;
+	/** 이미지 안에서 스프라이트 영역의 y 위치. */
+	private final int sourceY;
+	/** 이미지의 너비 (픽셀). */
+	private final int width;
+	/** 이미지의 높이 (픽셀). */
+	private final int height;
+	/** 회전 단계별로 미리 회전시킨 이미지. {@link SpriteStore#getRotatedImage(Sprite, int)}가 필요할 때 채웁니다. */
+	private Image[] rotatedImages;
 
 	/**
 	 * Sprite 생성자.
 	 * @param image 이 스프라이트가 사용할 Image 객체
 	 */
 	public Sprite(Image image) {
+		this(image, 0, 0, image.getWidth(null), image.getHeight(null));
+	}
+
+	/**
+	 * 이미지의 일부 영역을 가리키는 스프라이트를 생성합니다. {@link TextureAtlas}에서 사용합니다.
+	 * @param image 스프라이트가 들어 있는 이미지
+	 * @param sourceX 이미지 안에서 영역의 x 위치
+	 * @param sourceY 이미지 안에서 영역의 y 위치
+	 * @param width 영역의 너비 (픽셀)
+	 * @param height 영역의 높이 (픽셀)
+	 */
+	public Sprite(Image image, int sourceX, int sourceY, int width, int height) {
 		this.image = image;
+		this.sourceX = sourceX;
+		this.sourceY = sourceY;
+		this.width = width;
+		this.height = height;
+	}
+
+	/**
+	 * 이미지 없이 크기 정보만 가진 스프라이트를 생성합니다.
+	 * 화면 없이 실행되는 시뮬레이션에서 충돌 판정에 필요한 크기만 제공할 때 사용합니다.
+	 * @param width 이미지의 너비 (픽셀)
+	 * @param height 이미지의 높이 (픽셀)
+	 */
+	public Sprite(int width, int height) {
+		this.image = null;
+		this.sourceX = 0;
+		this.sourceY = 0;
+		this.width = width;
+		this.height = height;
 	}
 
 	/**
@@ -25,7 +68,7 @@ public class Sprite {
 	 * @return 이미지의 너비 (픽셀)
 	 */
 	public int getWidth() {
-		return image.getWidth(null);
+		return width;
 	}
 
 	/**
@@ -33,7 +76,7 @@ public class Sprite {
 	 * @return 이미지의 높이 (픽셀)
 	 */
 	public int getHeight() {
-		return image.getHeight(null);
+		return height;
 	}
 
 	/**
@@ -43,7 +86,7 @@ public class Sprite {
 	 * @param y 스프라이트를 그릴 y 좌표
 	 */
 	public void draw(Graphics g,int x,int y) {
-		g.drawImage(image,x,y,null);
+		draw(g, x, y, width, height);
 	}
 
 	/**
@@ -55,14 +98,53 @@ public class Sprite {
 	 * @param height 그릴 높이
 	 */
 	public void draw(Graphics g, int x, int y, int width, int height) {
-		g.drawImage(image, x, y, width, height, null);
+		g.drawImage(image, x, y, x + width, y + height,
+				sourceX, sourceY, sourceX + this.width, sourceY + this.height, null);
+	}
+
+	/**
+	 * 이미지 안에서 스프라이트 영역의 x 위치를 반환합니다.
+	 * @return 영역의 x 위치, 아틀라스에 포함되지 않았으면 0
+	 */
+	public int getSourceX() {
+		return sourceX;
 	}
 
 	/**
-	 * 이 스프라이트의 원본 Image 객체를 반환합니다.
-	 * @return Image 객체
+	 * 이미지 안에서 스프라이트 영역의 y 위치를 반환합니다.
+	 * @return 영역의 y 위치, 아틀라스에 포함되지 않았으면 0
+	 */
+	public int getSourceY() {
+		return sourceY;
+	}
+
+	/**
+	 * 이 스프라이트가 들어 있는 Image 객체를 반환합니다.
+	 * 아틀라스에 포함된 스프라이트는 페이지 전체 이미지가 반환되므로, 직접 그릴 때는 {@link #draw(Graphics, int, int, int, int)}를 사용해야 합니다.
+	 * @return Image 객체, 크기 정보만 가진 스프라이트라면 null
 	 */
 	public Image getImage() {
 		return image;
 	}
+
+	/**
+	 * 미리 회전시킨 이미지를 반환합니다. {@link SpriteStore}에서만 사용합니다.
+	 * @param step 회전 단계
+	 * @return 회전된 이미지, 아직 만들지 않았으면 null
+	 */
+	Image getRotatedImage(int step) {
+		return rotatedImages == null ? null : rotatedImages[step];
+	}
+
+	/**
+	 * 미리 회전시킨 이미지를 저장합니다. {@link SpriteStore}에서만 사용합니다.
+	 * @param step 회전 단계
+	 * @param rotated 회전된 이미지
+	 */
+	void setRotatedImage(int step, Image rotated) {
+		if (rotatedImages == null) {
+			rotatedImages = new Image[SpriteStore.ROTATION_STEPS];
+		}
+		rotatedImages[step] = rotated;
+	}
 }
\ No newline at end of file
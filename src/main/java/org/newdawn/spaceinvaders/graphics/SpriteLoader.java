@@ -0,0 +1,19 @@
+package org.newdawn.spaceinvaders.graphics;
+
+import java.io.IOException;
+import java.net.URL;
+
+/**
+ * {@link SpriteStore}가 리소스로부터 {@link Sprite}를 만드는 방법을 정의하는 인터페이스.
+ * 기본 구현은 화면에 맞는 호환 이미지를 만들며, 화면 없이 실행할 때는 {@link MetadataSpriteLoader}로 교체할 수 있습니다.
+ */
+public interface SpriteLoader {
+
+	/**
+	 * 지정된 리소스로부터 스프라이트를 생성합니다.
+	 * @param url 스프라이트 이미지 리소스의 URL
+	 * @return 생성된 스프라이트
+	 * @throws IOException 이미지를 읽지 못한 경우
+	 */
+	Sprite load(URL url) throws IOException;
+}
@@ -0,0 +1,141 @@
+package org.newdawn.spaceinvaders.graphics;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 매니페스트에 나열된 모든 스프라이트를 작업 스레드 풀에서 병렬로 미리 불러오는 클래스.
+ * 게임 시작 시(로그인 창이 떠 있는 동안) {@link #start()}를 호출하면, 첫 폭발이나 첫 보스가 등장할 때
+ * 게임 스레드에서 이미지를 디코딩하느라 프레임이 멈추는 일이 없습니다.
+ * 메인 메뉴는 {@link #getLoadedCount()}와 {@link #getTotalCount()}로 진행 상황을 표시하고,
+ * 게임 플레이는 {@link #awaitCompletion()}으로 불러오기가 끝난 뒤에 시작합니다.
+ */
+public class SpritePreloader {
+
+	/** 미리 불러올 스프라이트 목록이 담긴 리소스 경로. */
+	public static final String MANIFEST = "sprites/manifest.txt";
+
+	/** 스프라이트를 불러와 보관할 저장소. */
+	private final SpriteStore store;
+	/** 불러오기를 마친 스프라이트 수. */
+	private final AtomicInteger loaded = new AtomicInteger();
+	/** 디코딩을 수행하는 작업 스레드 풀. 시작 전에는 null. */
+	private ExecutorService workers;
+	/** 불러올 스프라이트 수. */
+	private volatile int total;
+
+	/**
+	 * SpritePreloader 생성자.
+	 * @param store 스프라이트를 불러와 보관할 저장소
+	 */
+	public SpritePreloader(SpriteStore store) {
+		this.store = store;
+	}
+
+	/**
+	 * 매니페스트를 읽고 모든 스프라이트의 불러오기를 작업 스레드에 맡깁니다. 즉시 반환합니다.
+	 */
+	public synchronized void start() {
+		if (workers != null) {
+			return;
+		}
+		List<String> refs = readManifest();
+		total = refs.size();
+
+		int threads = Math.max(1, Math.min(refs.size(), Runtime.getRuntime().availableProcessors()));
+		workers = Executors.newFixedThreadPool(threads, runnable -> {
+			Thread thread = new Thread(runnable, "SpritePreloader");
+			thread.setDaemon(true);
+			return thread;
+		});
+		for (String ref : refs) {
+			workers.execute(() -> {
+				store.getSprite(ref);
+				if (loaded.incrementAndGet() == total) {
+					store.markPreloaded();
+				}
+			});
+		}
+		workers.shutdown();
+		if (refs.isEmpty()) {
+			store.markPreloaded();
+		}
+	}
+
+	/**
+	 * 모든 스프라이트를 불러올 때까지 기다립니다. 시작하지 않았다면 바로 반환합니다.
+	 */
+	public void awaitCompletion() {
+		ExecutorService pool;
+		synchronized (this) {
+			pool = workers;
+		}
+		if (pool == null) {
+			return;
+		}
+		try {
+			pool.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * 모든 스프라이트를 불러왔는지 확인합니다.
+	 * @return 불러오기가 끝났으면 true
+	 */
+	public boolean isDone() {
+		return loaded.get() >= total;
+	}
+
+	/**
+	 * 불러오기를 마친 스프라이트 수를 반환합니다.
+	 * @return 불러온 스프라이트 수
+	 */
+	public int getLoadedCount() {
+		return loaded.get();
+	}
+
+	/**
+	 * 불러올 전체 스프라이트 수를 반환합니다.
+	 * @return 매니페스트에 나열된 스프라이트 수
+	 */
+	public int getTotalCount() {
+		return total;
+	}
+
+	/**
+	 * 매니페스트에서 스프라이트 리소스 경로 목록을 읽습니다. 빈 줄과 '#'으로 시작하는 줄은 무시합니다.
+	 * @return 스프라이트 리소스 경로 목록, 매니페스트가 없으면 빈 목록
+	 */
+	private List<String> readManifest() {
+		List<String> refs = new ArrayList<>();
+		InputStream in = getClass().getClassLoader().getResourceAsStream(MANIFEST);
+		if (in == null) {
+			System.err.println("스프라이트 매니페스트를 찾을 수 없습니다: " + MANIFEST);
+			return refs;
+		}
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				line = line.trim();
+				if (!line.isEmpty() && !line.startsWith("#")) {
+					refs.add(line);
+				}
+			}
+		} catch (IOException e) {
+			System.err.println("스프라이트 매니페스트를 읽지 못했습니다: " + MANIFEST);
+			e.printStackTrace();
+		}
+		return refs;
+	}
+}
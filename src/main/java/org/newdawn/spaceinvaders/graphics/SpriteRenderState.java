@@ -0,0 +1,81 @@
+package org.newdawn.spaceinvaders.graphics;
+
+import java.awt.Graphics2D;
+import java.awt.Image;
+
+/**
+ * 스프라이트 하나를 그리기 위한 불변 렌더 상태 (위치, 이미지, 크기).
+ * {@link TextureAtlas}에 포함된 스프라이트는 아틀라스 페이지에서 해당 영역만 잘라 그립니다.
+ */
+public final class SpriteRenderState implements RenderCommand {
+
+    /** 그릴 이미지. */
+    private final Image image;
+    /** 그릴 x 위치. */
+    private final int x;
+    /** 그릴 y 위치. */
+    private final int y;
+    /** 배율이 적용된 너비. */
+    private final int width;
+    /** 배율이 적용된 높이. */
+    private final int height;
+    /** 이미지 안에서 그릴 영역의 x 위치. */
+    private final int sourceX;
+    /** 이미지 안에서 그릴 영역의 y 위치. */
+    private final int sourceY;
+    /** 이미지 안에서 그릴 영역의 너비. 0이면 이미지 전체를 그립니다. */
+    private final int sourceWidth;
+    /** 이미지 안에서 그릴 영역의 높이. */
+    private final int sourceHeight;
+
+    private SpriteRenderState(Image image, int x, int y, int width, int height,
+                              int sourceX, int sourceY, int sourceWidth, int sourceHeight) {
+        this.image = image;
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+        this.sourceX = sourceX;
+        this.sourceY = sourceY;
+        this.sourceWidth = sourceWidth;
+        this.sourceHeight = sourceHeight;
+    }
+
+    /**
+     * 정수 좌표에 변환 없이 그리는 렌더 상태를 생성합니다.
+     * @param image 그릴 이미지
+     * @param x 좌상단 x 위치
+     * @param y 좌상단 y 위치
+     * @param width 너비
+     * @param height 높이
+     * @return 렌더 상태
+     */
+    public static SpriteRenderState at(Image image, int x, int y, int width, int height) {
+        return new SpriteRenderState(image, x, y, width, height, 0, 0, 0, 0);
+    }
+
+    /**
+     * 스프라이트 영역을 정수 좌표에 변환 없이 그리는 렌더 상태를 생성합니다.
+     * 아틀라스에 포함된 스프라이트도 자신의 영역만 그려집니다.
+     * @param sprite 그릴 스프라이트
+     * @param x 좌상단 x 위치
+     * @param y 좌상단 y 위치
+     * @param width 너비
+     * @param height 높이
+     * @return 렌더 상태
+     */
+    public static SpriteRenderState at(Sprite sprite, int x, int y, int width, int height) {
+        return new SpriteRenderState(sprite.getImage(), x, y, width, height,
+                sprite.getSourceX(), sprite.getSourceY(), sprite.getWidth(), sprite.getHeight());
+    }
+
+    @Override
+    public void draw(Graphics2D g) {
+        if (sourceWidth == 0) {
+            g.drawImage(image, x, y, width, height, null);
+        } else {
+            g.drawImage(image, x, y, x + width, y + height,
+                    sourceX, sourceY, sourceX + sourceWidth, sourceY + sourceHeight, null);
+        }
+    }
+}
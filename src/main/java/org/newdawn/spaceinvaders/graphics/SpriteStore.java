@@ -1,5 +1,6 @@
 package org.newdawn.spaceinvaders.graphics;
 
+import java.awt.Graphics2D;
 import java.awt.GraphicsConfiguration;
 import java.awt.GraphicsEnvironment;
 import java.awt.Image;
@@ -7,16 +8,23 @@ import java.awt.Transparency;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.net.URL;
-import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.imageio.ImageIO;
 
 /**
  * 스프라이트(이미지)를 로드하고 캐싱하는 싱글턴(Singleton) 클래스.
  * 한 번 로드된 스프라이트는 메모리에 저장하여 반복적인 파일 I/O를 방지합니다.
+ * <p>
+ * {@link SpritePreloader}가 여러 작업 스레드에서 동시에 스프라이트를 불러올 수 있도록 캐시는 동시성 맵을 사용하며,
+ * 이미지 디코딩은 병렬로, 공유 아틀라스에 담는 작업만 이 객체로 동기화하여 수행합니다.
  */
 public class SpriteStore {
 
+	/** 한 바퀴를 나누는 회전 단계의 수. 회전된 스프라이트는 가장 가까운 단계로 양자화됩니다. */
+	public static final int ROTATION_STEPS = 64;
+
 	/** 이 클래스의 유일한 인스턴스. */
 	private static final SpriteStore single = new SpriteStore();
 
@@ -29,7 +37,35 @@ public class SpriteStore {
 	}
 
 	/** 로드된 스프라이트를 캐싱하는 맵. (Key: 리소스 경로, Value: Sprite 객체) */
-	private final HashMap<String, Sprite> sprites = new HashMap<>();
+	private final Map<String, Sprite> sprites = new ConcurrentHashMap<>();
+
+	/** 작은 스프라이트를 모아 담는 텍스처 아틀라스. 기본 로더가 처음 사용될 때 만들어집니다. */
+	private TextureAtlas atlas;
+
+	/** 리소스로부터 스프라이트를 만드는 로더. 기본값은 화면 호환 이미지를 만드는 로더입니다. */
+	private volatile SpriteLoader loader = this::createCompatibleSprite;
+
+	/** 미리 불러오기가 끝났는지 여부. 이후의 캐시 미스는 게임 중 디스크 접근이므로 경고를 출력합니다. */
+	private volatile boolean preloaded;
+
+	/**
+	 * 스프라이트를 만드는 로더를 교체하고 캐시를 비웁니다.
+	 * 화면 없이 실행할 때는 엔티티가 생성되기 전에 {@link MetadataSpriteLoader}로 교체해야 합니다.
+	 * @param loader 사용할 스프라이트 로더
+	 */
+	public synchronized void setLoader(SpriteLoader loader) {
+		this.loader = loader;
+		sprites.clear();
+		atlas = null;
+		preloaded = false;
+	}
+
+	/**
+	 * 미리 불러오기가 끝났음을 표시합니다. {@link SpritePreloader}에서만 사용합니다.
+	 */
+	void markPreloaded() {
+		preloaded = true;
+	}
 
 	/**
 	 * 지정된 리소스 경로에서 스프라이트를 가져옵니다.
@@ -42,11 +78,13 @@ public class SpriteStore {
 	 */
 	public Sprite getSprite(String ref) {
 		// 캐시에 이미 존재하는지 확인
-		if (sprites.get(ref) != null) {
-			return sprites.get(ref);
+		Sprite sprite = sprites.get(ref);
+		if (sprite != null) {
+			return sprite;
+		}
+		if (preloaded) {
+			System.err.println("미리 불러오지 않은 스프라이트를 게임 중에 불러옵니다 (sprites/manifest.txt에 추가 필요): " + ref);
 		}
-
-		BufferedImage sourceImage = null;
 
 		try {
 			URL url = this.getClass().getClassLoader().getResource(ref);
@@ -62,24 +100,109 @@ public class SpriteStore {
 					fail("리소스를 찾을 수 없습니다: " + ref);
 				}
 			}
-			// URL에서 이미지 로드
-			sourceImage = ImageIO.read(url);
+			// URL에서 스프라이트 로드
+			sprite = loader.load(url);
 		} catch (IOException e) {
 			fail("리소스 로드 실패: "+ref);
 		}
 
+		// 캐시에 저장 (다른 스레드가 먼저 저장했다면 그 스프라이트를 사용)
+		Sprite existing = sprites.putIfAbsent(ref, sprite);
+		return existing != null ? existing : sprite;
+	}
+
+	/**
+	 * 회전 각도를 가장 가까운 회전 단계로 양자화합니다.
+	 * @param rotation 회전 각도 (라디안)
+	 * @return 0 이상 {@link #ROTATION_STEPS} 미만의 회전 단계
+	 */
+	public static int rotationStep(double rotation) {
+		int step = (int) Math.round(rotation * ROTATION_STEPS / (2 * Math.PI)) % ROTATION_STEPS;
+		return step < 0 ? step + ROTATION_STEPS : step;
+	}
+
+	/**
+	 * 스프라이트를 지정된 회전 단계만큼 미리 회전시킨 이미지를 반환합니다.
+	 * 회전된 이미지는 처음 요청될 때 한 번 만들어 스프라이트에 보관하므로, 이후에는 변환 없이 그대로 그릴 수 있습니다.
+	 * 회전된 이미지는 원본의 대각선 길이를 한 변으로 하는 정사각형이며, 원본과 같은 중심을 가집니다.
+	 *
+	 * @param sprite 회전시킬 스프라이트
+	 * @param step {@link #rotationStep(double)}으로 구한 회전 단계
+	 * @return 회전된 이미지, 0단계이면 원본 이미지, 이미지가 없는 스프라이트라면 null
+	 */
+	public Image getRotatedImage(Sprite sprite, int step) {
+		Image source = sprite.getImage();
+		if (step == 0 || source == null) {
+			return source;
+		}
+		Image rotated = sprite.getRotatedImage(step);
+		if (rotated == null) {
+			rotated = createRotatedImage(sprite, sprite.getWidth(), sprite.getHeight(), step * 2 * Math.PI / ROTATION_STEPS);
+			sprite.setRotatedImage(step, rotated);
+		}
+		return rotated;
+	}
+
+	/**
+	 * 회전된 스프라이트 이미지의 한 변 길이를 반환합니다.
+	 * @param width 원본 너비
+	 * @param height 원본 높이
+	 * @return 원본의 대각선 길이 (올림)
+	 */
+	public static int rotatedSize(int width, int height) {
+		return (int) Math.ceil(Math.sqrt((double) width * width + (double) height * height));
+	}
+
+	/**
+	 * 스프라이트를 중심 기준으로 회전시킨 호환 이미지를 만듭니다.
+	 * @param sprite 원본 스프라이트
+	 * @param width 원본 너비
+	 * @param height 원본 높이
+	 * @param angle 회전 각도 (라디안)
+	 * @return 회전된 이미지
+	 */
+	private Image createRotatedImage(Sprite sprite, int width, int height, double angle) {
+		int size = rotatedSize(width, height);
+		GraphicsConfiguration gc = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+		Image image = gc.createCompatibleImage(size, size, Transparency.BITMASK);
+
+		Graphics2D g = (Graphics2D) image.getGraphics();
+		try {
+			g.translate(size / 2.0, size / 2.0);
+			g.rotate(angle);
+			sprite.draw(g, -width / 2, -height / 2);
+		} finally {
+			g.dispose();
+		}
+		return image;
+	}
+
+	/**
+	 * 이미지를 읽어 현재 그래픽 환경에 맞는 호환 이미지로 변환한 스프라이트를 생성합니다. 기본 로더입니다.
+	 * 작은 이미지는 {@link TextureAtlas}에 모아 담고, 큰 이미지만 개별 호환 이미지로 만듭니다.
+	 * @param url 스프라이트 이미지 리소스의 URL
+	 * @return 호환 이미지를 가진 스프라이트
+	 * @throws IOException 이미지를 읽지 못한 경우
+	 */
+	private Sprite createCompatibleSprite(URL url) throws IOException {
+		BufferedImage sourceImage = ImageIO.read(url);
+
 		// 현재 그래픽 환경에 맞는 호환 이미지 생성 (성능 최적화)
 		GraphicsConfiguration gc = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+		if (TextureAtlas.fits(sourceImage.getWidth(), sourceImage.getHeight())) {
+			synchronized (this) {
+				if (atlas == null) {
+					atlas = new TextureAtlas(gc);
+				}
+				return atlas.pack(sourceImage);
+			}
+		}
 		Image image = gc.createCompatibleImage(sourceImage.getWidth(),sourceImage.getHeight(),Transparency.BITMASK);
 
 		// 호환 이미지에 원본 이미지 그리기
 		image.getGraphics().drawImage(sourceImage,0,0,null);
 
-		// 새로운 Sprite 객체 생성 및 캐시에 저장
-		Sprite sprite = new Sprite(image);
-		sprites.put(ref,sprite);
-
-		return sprite;
+		return new Sprite(image);
 	}
 
 	/**
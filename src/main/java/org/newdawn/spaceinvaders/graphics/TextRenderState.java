@@ -0,0 +1,54 @@
+package org.newdawn.spaceinvaders.graphics;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+
+/**
+ * 문자열 하나를 그리기 위한 불변 렌더 상태.
+ */
+public final class TextRenderState implements RenderCommand {
+
+    /** 글꼴. */
+    private final Font font;
+    /** 글자 색상. */
+    private final Color color;
+    /** 그릴 문자열. */
+    private final String text;
+    /** 기준선 왼쪽 x 위치. 가운데 정렬 시에는 정렬 영역의 왼쪽 끝. */
+    private final int x;
+    /** 기준선 y 위치. */
+    private final int y;
+    /** 가운데 정렬 영역의 너비. 0이면 정렬하지 않습니다. */
+    private final int centerWidth;
+
+    /**
+     * TextRenderState 생성자.
+     * @param font 글꼴
+     * @param color 글자 색상
+     * @param text 그릴 문자열
+     * @param x 기준선 왼쪽 x 위치 (가운데 정렬 시 정렬 영역의 왼쪽 끝)
+     * @param y 기준선 y 위치
+     * @param centerWidth 가운데 정렬 영역의 너비 (0이면 정렬하지 않음)
+     */
+    public TextRenderState(Font font, Color color, String text, int x, int y, int centerWidth) {
+        this.font = font;
+        this.color = color;
+        this.text = text;
+        this.x = x;
+        this.y = y;
+        this.centerWidth = centerWidth;
+    }
+
+    @Override
+    public void draw(Graphics2D g) {
+        g.setColor(color);
+        g.setFont(font);
+        int drawX = x;
+        if (centerWidth > 0) {
+            // 글꼴 크기는 렌더링하는 쪽의 그래픽 컨텍스트로 측정
+            drawX = x + (centerWidth - g.getFontMetrics().stringWidth(text)) / 2;
+        }
+        g.drawString(text, drawX, y);
+    }
+}
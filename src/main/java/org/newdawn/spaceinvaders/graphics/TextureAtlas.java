@@ -0,0 +1,114 @@
+package org.newdawn.spaceinvaders.graphics;
+
+import java.awt.Graphics;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 작은 스프라이트 이미지들을 몇 장의 큰 호환 이미지(페이지)에 모아 담는 텍스처 아틀라스.
+ * 한 줄(shelf)씩 왼쪽에서 오른쪽으로 채우고, 줄이 차면 아래에 새 줄을, 페이지가 차면 새 페이지를 만듭니다.
+ * 같은 페이지의 스프라이트는 하나의 이미지를 공유하므로 그리기 중 텍스처 전환이 줄고, 가속 이미지 캐시도 적은 수의 이미지만 관리하면 됩니다.
+ * <p>
+ * 한 변이 {@link #MAX_PACKED_SIZE}보다 큰 이미지(배경, 보스 등)는 공간을 낭비하지 않도록 아틀라스에 넣지 않습니다.
+ */
+public class TextureAtlas {
+
+	/** 아틀라스 페이지의 한 변 길이 (픽셀). */
+	public static final int PAGE_SIZE = 1024;
+	/** 아틀라스에 넣을 수 있는 이미지의 최대 변 길이 (픽셀). */
+	public static final int MAX_PACKED_SIZE = 256;
+	/** 이웃한 스프라이트가 배율 적용 시 번지지 않도록 띄우는 간격 (픽셀). */
+	private static final int PADDING = 1;
+
+	/** 페이지 이미지를 만들 그래픽 환경 설정. */
+	private final GraphicsConfiguration graphicsConfiguration;
+	/** 지금까지 만든 페이지 목록. */
+	private final List<Image> pages = new ArrayList<>();
+	/** 현재 채우고 있는 페이지. */
+	private Image currentPage;
+	/** 현재 줄에서 다음 이미지를 놓을 x 위치. */
+	private int cursorX;
+	/** 현재 줄의 y 위치. */
+	private int shelfY;
+	/** 현재 줄의 높이. */
+	private int shelfHeight;
+
+	/**
+	 * TextureAtlas 생성자.
+	 * @param graphicsConfiguration 페이지 이미지를 만들 그래픽 환경 설정
+	 */
+	public TextureAtlas(GraphicsConfiguration graphicsConfiguration) {
+		this.graphicsConfiguration = graphicsConfiguration;
+	}
+
+	/**
+	 * 이미지를 아틀라스에 넣을 수 있는 크기인지 확인합니다.
+	 * @param width 이미지 너비
+	 * @param height 이미지 높이
+	 * @return 아틀라스에 넣을 수 있으면 true
+	 */
+	public static boolean fits(int width, int height) {
+		return width <= MAX_PACKED_SIZE && height <= MAX_PACKED_SIZE;
+	}
+
+	/**
+	 * 이미지를 아틀라스에 복사하고, 아틀라스 페이지의 해당 영역을 가리키는 스프라이트를 반환합니다.
+	 * @param source 복사할 원본 이미지 ({@link #fits(int, int)}를 만족해야 함)
+	 * @return 아틀라스 영역을 가리키는 스프라이트
+	 */
+	public Sprite pack(BufferedImage source) {
+		int width = source.getWidth();
+		int height = source.getHeight();
+		if (!fits(width, height)) {
+			throw new IllegalArgumentException("아틀라스에 넣기에 너무 큰 이미지: " + width + "x" + height);
+		}
+
+		if (currentPage == null) {
+			newPage();
+		}
+		if (cursorX + width > PAGE_SIZE) {
+			// 현재 줄이 찼으므로 다음 줄로
+			shelfY += shelfHeight + PADDING;
+			cursorX = 0;
+			shelfHeight = 0;
+		}
+		if (shelfY + height > PAGE_SIZE) {
+			newPage();
+		}
+
+		int x = cursorX;
+		int y = shelfY;
+		Graphics g = currentPage.getGraphics();
+		try {
+			g.drawImage(source, x, y, null);
+		} finally {
+			g.dispose();
+		}
+		cursorX += width + PADDING;
+		shelfHeight = Math.max(shelfHeight, height);
+		return new Sprite(currentPage, x, y, width, height);
+	}
+
+	/**
+	 * 지금까지 만든 아틀라스 페이지 수를 반환합니다.
+	 * @return 페이지 수
+	 */
+	public int getPageCount() {
+		return pages.size();
+	}
+
+	/**
+	 * 새 페이지를 만들고 채우기 위치를 처음으로 되돌립니다.
+	 */
+	private void newPage() {
+		currentPage = graphicsConfiguration.createCompatibleImage(PAGE_SIZE, PAGE_SIZE, Transparency.BITMASK);
+		pages.add(currentPage);
+		cursorX = 0;
+		shelfY = 0;
+		shelfHeight = 0;
+	}
+}
@@ -1,6 +1,7 @@
 package org.newdawn.spaceinvaders.player;
 
 
+import org.newdawn.spaceinvaders.core.GameClock;
 import org.newdawn.spaceinvaders.entity.ShipEntity;
 
 import java.util.ArrayList;
@@ -19,7 +20,7 @@ public class BuffManager {
     private static class ActiveBuff {
         /** 버프의 종류. */
         BuffType type;
-        /** 버프가 시작된 시간 (타임스탬프). */
+        /** 버프가 시작된 시간 (게임 시간, 밀리초). */
         long startTime;
         /** 버프의 총 지속 시간 (밀리초). */
         long duration;
@@ -27,19 +28,21 @@ public class BuffManager {
         /**
          * ActiveBuff 생성자.
          * @param type 적용할 버프의 타입
+         * @param startTime 버프가 시작된 시간 (게임 시간, 밀리초)
          */
-        ActiveBuff(BuffType type) {
+        ActiveBuff(BuffType type, long startTime) {
             this.type = type;
             this.duration = type.getDuration();
-            this.startTime = System.currentTimeMillis();
+            this.startTime = startTime;
         }
 
         /**
          * 버프가 만료되었는지 확인합니다.
+         * @param now 현재 게임 시간 (밀리초)
          * @return 만료되었으면 true, 그렇지 않으면 false
          */
-        boolean isExpired() {
-            return System.currentTimeMillis() - startTime > duration;
+        boolean isExpired(long now) {
+            return now - startTime > duration;
         }
     }
 
@@ -47,13 +50,17 @@ public class BuffManager {
     private final ShipEntity player;
     /** 현재 활성화된 버프 목록. */
     private final List<ActiveBuff> activeBuffs = new ArrayList<>();
+    /** 버프 지속 시간 계산에 사용할 게임 시계. */
+    private final GameClock clock;
 
     /**
      * BuffManager 생성자.
      * @param player 버프를 관리할 플레이어 함선
+     * @param clock 버프 지속 시간 계산에 사용할 게임 시계
      */
-    public BuffManager(ShipEntity player) {
+    public BuffManager(ShipEntity player, GameClock clock) {
         this.player = player;
+        this.clock = clock;
     }
 
     /**
@@ -70,12 +77,12 @@ public class BuffManager {
 
         for (ActiveBuff buff : activeBuffs) {
             if (buff.type == type) {
-                buff.startTime = System.currentTimeMillis(); // 재적용, 지속시간 갱신
+                buff.startTime = clock.getTime(); // 재적용, 지속시간 갱신
                 return;
             }
         }
 
-        activeBuffs.add(new ActiveBuff(type));
+        activeBuffs.add(new ActiveBuff(type, clock.getTime()));
         type.apply(player);
     }
 
@@ -87,7 +94,7 @@ public class BuffManager {
         Iterator<ActiveBuff> iterator = activeBuffs.iterator();
         while (iterator.hasNext()) {
             ActiveBuff buff = iterator.next();
-            if (buff.isExpired()) {
+            if (buff.isExpired(clock.getTime())) {
                 buff.type.remove(player);
                 iterator.remove();
             }
@@ -1,6 +1,7 @@
 package org.newdawn.spaceinvaders.player;
 
 import org.newdawn.spaceinvaders.auth.AuthenticatedUser;
+import org.newdawn.spaceinvaders.core.GameClock;
 import org.newdawn.spaceinvaders.data.DatabaseManager;
 import org.newdawn.spaceinvaders.data.PlayerData;
 import org.newdawn.spaceinvaders.shop.ShopManager;
@@ -9,6 +10,9 @@ import org.newdawn.spaceinvaders.sound.SoundManager;
 import org.newdawn.spaceinvaders.view.ShopMenu;
 import org.newdawn.spaceinvaders.wave.WaveManager;
 
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReference;
+
 /**
  * 플레이어와 관련된 데이터와 상태를 총괄적으로 관리하는 클래스입니다.
  * 플레이어 데이터 로딩, 스탯 계산, 게임 결과 저장 등의 핵심 역할을 수행합니다.
@@ -32,10 +36,16 @@ public class PlayerManager {
     private PlayerStats playerStats;
     /** 현재 게임의 점수. */
     private int score = 0;
-    /** 게임 플레이 시작 시간. */
-    private long gameStartTime = 0;
+    /** 게임 플레이 시작 시간 (게임 시간, 밀리초). 아직 시작하지 않았으면 -1. */
+    private long gameStartTime = -1;
     /** 상점 메뉴 UI. */
     private ShopMenu shopMenu;
+    /** 시뮬레이션된 게임 시간을 제공하는 시계. */
+    private final GameClock clock;
+    /** 백그라운드에서 저장소로부터 받아 와 아직 반영하지 않은 플레이어 데이터. */
+    private final AtomicReference<PlayerData> reconciledPlayer = new AtomicReference<>();
+    /** 이번 실행에서 플레이어 데이터 저장을 요청한 적이 있는지 여부. */
+    private boolean savedThisSession;
 
     /**
      * PlayerManager 생성자.
@@ -45,9 +55,11 @@ public class PlayerManager {
      * @param shopManager 상점 매니저
      * @param soundManager 사운드 매니저
      * @param waveManager 웨이브 매니저
+     * @param clock 시뮬레이션된 게임 시간을 제공하는 시계
      */
-    public PlayerManager(AuthenticatedUser user, DatabaseManager databaseManager, ShopManager shopManager, SoundManager soundManager, WaveManager waveManager) {
+    public PlayerManager(AuthenticatedUser user, DatabaseManager databaseManager, ShopManager shopManager, SoundManager soundManager, WaveManager waveManager, GameClock clock) {
         this.user = user;
+        this.clock = clock;
         this.databaseManager = databaseManager;
         this.shopManager = shopManager;
         this.soundManager = soundManager;
@@ -59,10 +71,68 @@ public class PlayerManager {
      * 데이터베이스에서 플레이어 데이터를 로드하고, 이를 바탕으로 스탯을 계산하여 플레이어를 초기화합니다.
      */
     public void initializePlayer() {
-        this.currentPlayer = databaseManager.loadPlayerData(user.getLocalId(), user.getUsername());
+        initializePlayer(databaseManager.loadPlayerData(user.getLocalId(), user.getUsername()));
+    }
+
+    /**
+     * 데이터베이스를 거치지 않고 주어진 플레이어 데이터로 플레이어를 초기화합니다. (예: 헤드리스 시뮬레이션)
+     * @param playerData 사용할 플레이어 데이터
+     */
+    public void initializePlayer(PlayerData playerData) {
+        this.currentPlayer = playerData;
         calculatePlayerStats();
     }
 
+    /**
+     * 로컬 세션 캐시에 남아 있던 플레이어 데이터로 바로 초기화하고, 저장소의 최신 데이터는 백그라운드에서 불러옵니다.
+     * 불러온 데이터는 게임 스레드가 {@link #applyReconciledPlayer()}를 호출할 때 반영됩니다.
+     * 저장소에 접근할 수 없으면 캐시된 데이터로 계속 진행합니다.
+     * 지난 실행에서 저장소에 반영하지 못한 변경이 남아 있으면 저장소의 데이터가 더 오래된 것이므로,
+     * 불러오지 않고 캐시된 데이터 전체를 다시 저장합니다.
+     * @param cachedPlayer 세션 캐시의 플레이어 데이터
+     * @param unsynced 캐시된 데이터에 저장소에 반영되지 않은 변경이 남아 있으면 true
+     */
+    public void initializeFromCache(PlayerData cachedPlayer, boolean unsynced) {
+        initializePlayer(cachedPlayer);
+        if (unsynced) {
+            currentPlayer.markAllChanged();
+            savePlayerData();
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                PlayerData remote = databaseManager.fetchPlayerData(user.getLocalId());
+                if (remote != null) {
+                    reconciledPlayer.set(remote);
+                } else {
+                    System.err.println(user.getUsername() + " 사용자의 데이터가 저장소에 없어 캐시된 데이터를 사용합니다.");
+                }
+            } catch (IOException e) {
+                System.err.println("저장소에 연결할 수 없어 캐시된 플레이어 데이터를 사용합니다: " + e.getMessage());
+            }
+        }, "PlayerReconcile");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 백그라운드에서 불러온 저장소의 플레이어 데이터가 있으면 반영합니다. 게임 스레드에서 호출해야 합니다.
+     * 이번 실행에서 로컬 데이터가 바뀌지 않았으면 저장소의 데이터로 교체하고,
+     * 이미 바뀌었으면 로컬 데이터를 유지하며 전체를 다시 저장하여 저장소를 로컬에 맞춥니다.
+     */
+    public void applyReconciledPlayer() {
+        PlayerData remote = reconciledPlayer.getAndSet(null);
+        if (remote == null) {
+            return;
+        }
+        if (!savedThisSession && currentPlayer.changedPaths().isEmpty()) {
+            initializePlayer(remote);
+        } else {
+            currentPlayer.markAllChanged();
+            savePlayerData();
+        }
+    }
+
     /**
      * 플레이어의 영구 데이터(업그레이드 레벨 등)를 기반으로 현재 게임 세션에 적용될 스탯을 계산합니다.
      */
@@ -101,15 +171,18 @@ public class PlayerManager {
         if (user == null || currentPlayer == null) return;
         currentPlayer.setCredit(currentPlayer.getCredit() + score);
         currentPlayer.setHighScore(Math.max(currentPlayer.getHighScore(), score));
+        databaseManager.getLeaderboard().submitScore(user.getUsername(), currentPlayer.getHighScore());
         savePlayerData();
     }
 
     /**
      * 현재 플레이어 데이터를 데이터베이스에 저장합니다.
+     * 저장은 백그라운드에서 수행되므로 게임 루프는 기다리지 않습니다.
      */
     public void savePlayerData() {
         if (user == null || currentPlayer == null) return;
-        databaseManager.updatePlayerData(user.getLocalId(), currentPlayer);
+        savedThisSession = true;
+        databaseManager.queuePlayerData(user.getLocalId(), currentPlayer);
     }
 
     /**
@@ -158,7 +231,7 @@ public class PlayerManager {
     /**
      * 게임 플레이 시작 시간을 반환합니다.
      *
-     * @return 게임 시작 시간 (타임스탬프)
+     * @return 게임 시작 시간 (게임 시간, 밀리초), 아직 시작하지 않았으면 -1
      */
     public long getGameStartTime() {
         return gameStartTime;
@@ -167,7 +240,7 @@ public class PlayerManager {
     /**
      * 게임 플레이 시작 시간을 설정합니다.
      *
-     * @param gameStartTime 게임 시작 시간 (타임스탬프)
+     * @param gameStartTime 게임 시작 시간 (게임 시간, 밀리초)
      */
     public void setGameStartTime(long gameStartTime) {
         this.gameStartTime = gameStartTime;
@@ -179,7 +252,7 @@ public class PlayerManager {
      */
     public void startGameplay() {
         soundManager.stopSound("menubackground");
-        setGameStartTime(System.currentTimeMillis());
+        setGameStartTime(clock.getTime());
         calculatePlayerStats();
         resetScore();
         waveManager.startFirstWave();
@@ -0,0 +1,133 @@
+package org.newdawn.spaceinvaders.ranking;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 상위 랭킹 목록을 캐시하는 리더보드.
+ * 랭킹 화면은 {@link #getRankings()}로 캐시된 목록을 바로 그리고, 목록이 {@link #TTL_MILLIS}보다 오래되었으면
+ * {@link #refreshIfStale()}이 백그라운드 스레드에서 저장소 조회를 시작합니다. 게임 스레드는 조회를 기다리지 않습니다.
+ * <p>
+ * 이 게임에서 기록된 점수는 {@link #submitScore(String, int)}로 캐시에 바로 반영됩니다.
+ * 저장이 아직 끝나지 않아 저장소 조회 결과에 빠져 있더라도, 제출된 점수는 조회 결과에 다시 합쳐지므로 사라지지 않습니다.
+ */
+public class Leaderboard {
+
+    /** 캐시된 목록을 새로 조회하기 전까지 사용하는 시간 (밀리초). */
+    public static final long TTL_MILLIS = 60_000;
+    /** 조회에 실패한 뒤 다시 시도하기까지의 시간 (밀리초). */
+    public static final long RETRY_MILLIS = 5_000;
+
+    /** 저장소에서 상위 랭킹을 조회하는 작업. */
+    private final Callable<List<Ranking>> source;
+    /** 유지할 최대 항목 수. */
+    private final int size;
+    /** 이 게임에서 제출된 사용자별 최고 점수. 이 객체로 동기화됩니다. */
+    private final Map<String, Integer> submittedScores = new HashMap<>();
+
+    /** 캐시된 랭킹 목록 (읽기 전용, 점수 내림차순). */
+    private volatile List<Ranking> rankings = Collections.emptyList();
+    /** 다음 조회가 필요한 시각 (밀리초). */
+    private volatile long nextRefreshAt;
+    /** 조회가 진행 중인지 여부. */
+    private volatile boolean refreshing;
+    /** 조회를 수행하는 백그라운드 스레드. 처음 조회할 때 만들어집니다. */
+    private ExecutorService executor;
+
+    /**
+     * Leaderboard 생성자.
+     * @param source 저장소에서 상위 랭킹을 조회하는 작업. 실패하면 예외를 던져야 하며, 그 경우 캐시는 유지됩니다.
+     * @param size 유지할 최대 항목 수
+     */
+    public Leaderboard(Callable<List<Ranking>> source, int size) {
+        this.source = source;
+        this.size = size;
+    }
+
+    /**
+     * 캐시된 랭킹 목록을 반환합니다. 저장소를 조회하지 않으므로 바로 반환됩니다.
+     * @return 점수 내림차순의 읽기 전용 목록, 아직 조회하지 않았으면 제출된 점수만 담긴 목록
+     */
+    public List<Ranking> getRankings() {
+        return rankings;
+    }
+
+    /**
+     * 백그라운드 조회가 진행 중인지 확인합니다.
+     * @return 조회 중이면 true
+     */
+    public boolean isRefreshing() {
+        return refreshing;
+    }
+
+    /**
+     * 캐시가 만료되었으면 백그라운드 조회를 시작합니다. 이미 조회 중이면 아무것도 하지 않습니다.
+     */
+    public synchronized void refreshIfStale() {
+        if (refreshing || System.currentTimeMillis() < nextRefreshAt) {
+            return;
+        }
+        refreshing = true;
+        if (executor == null) {
+            executor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "LeaderboardRefresh");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        executor.execute(this::refresh);
+    }
+
+    /**
+     * 이 게임에서 기록된 점수를 캐시에 바로 반영합니다. 같은 사용자의 더 높은 점수가 이미 있으면 무시됩니다.
+     * @param username 점수를 기록한 사용자 이름
+     * @param score 기록한 최고 점수
+     */
+    public synchronized void submitScore(String username, int score) {
+        submittedScores.merge(username, score, Math::max);
+        rankings = merge(rankings);
+    }
+
+    /**
+     * 저장소에서 랭킹을 조회하여 캐시를 교체합니다. 백그라운드 스레드에서 실행됩니다.
+     */
+    private void refresh() {
+        List<Ranking> fetched = null;
+        try {
+            fetched = source.call();
+        } catch (Exception e) {
+            System.err.println("랭킹을 불러오는 중 오류 발생: " + e.getMessage());
+        }
+        synchronized (this) {
+            if (fetched != null) {
+                rankings = merge(fetched);
+                nextRefreshAt = System.currentTimeMillis() + TTL_MILLIS;
+            } else {
+                nextRefreshAt = System.currentTimeMillis() + RETRY_MILLIS;
+            }
+            refreshing = false;
+        }
+    }
+
+    /**
+     * 목록에 제출된 점수를 합쳐 사용자별 최고 점수만 남기고, 점수 내림차순으로 상위 항목만 잘라냅니다.
+     */
+    private List<Ranking> merge(List<Ranking> base) {
+        Map<String, Integer> best = new HashMap<>(submittedScores);
+        for (Ranking ranking : base) {
+            best.merge(ranking.getName(), ranking.getScore(), Math::max);
+        }
+        List<Ranking> merged = new ArrayList<>(best.size());
+        for (Map.Entry<String, Integer> entry : best.entrySet()) {
+            merged.add(new Ranking(entry.getKey(), entry.getValue()));
+        }
+        merged.sort((a, b) -> Integer.compare(b.getScore(), a.getScore()));
+        return Collections.unmodifiableList(merged.size() > size ? new ArrayList<>(merged.subList(0, size)) : merged);
+    }
+}
@@ -0,0 +1,146 @@
+package org.newdawn.spaceinvaders.replay;
+
+import org.newdawn.spaceinvaders.core.InputHandler;
+import org.newdawn.spaceinvaders.data.PlayerData;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * 게임 플레이 중 틱마다 반영된 키 이벤트를 기록하여 {@link Replay}를 만드는 클래스입니다.
+ * {@link org.newdawn.spaceinvaders.core.GameManager#startGameplay(long)}에서 기록을 시작하고,
+ * 게임 루프는 매 틱 {@link InputHandler#update()} 직후 {@link #recordTick(List)}를 호출하며,
+ * 게임 오버, 승리, 일시정지 등으로 플레이 상태를 벗어나면 {@link #finish(int, int)}로 기록을 마칩니다.
+ * <p>
+ * 기록을 시작한 틱은 메뉴가 입력을 처리한 틱이므로 0번 틱으로 두고, 그 다음 틱부터 1, 2, ... 번호를 매깁니다.
+ * {@link org.newdawn.spaceinvaders.core.HeadlessGameLoop}는 같은 번호로 이벤트를 다시 넣어 플레이를 재현합니다.
+ */
+public class InputRecorder {
+
+    /** 기록이 끝날 때마다 리플레이를 저장할 파일. null이면 메모리에만 보관합니다. */
+    private final Path output;
+
+    /** 현재 기록 중인지 여부. */
+    private boolean recording;
+    /** 기록 중인 플레이의 난수 시드. */
+    private long seed;
+    /** 기록 시작 시점의 플레이어 데이터 사본. */
+    private PlayerData playerData;
+    /** 기록 시작 시 눌려 있던 키. */
+    private int[] initialKeys;
+    /** 현재 틱 번호. */
+    private int tick;
+    /** 키 이벤트가 반영된 틱 목록. */
+    private IntArray eventTicks;
+    /** 인코딩된 키 이벤트 목록. */
+    private IntArray events;
+    /** 마지막으로 완성된 리플레이. */
+    private Replay lastReplay;
+
+    /**
+     * 리플레이를 메모리에만 보관하는 InputRecorder 생성자.
+     */
+    public InputRecorder() {
+        this(null);
+    }
+
+    /**
+     * InputRecorder 생성자.
+     * @param output 기록이 끝날 때마다 리플레이를 저장할 파일 (이전 기록은 덮어씀)
+     */
+    public InputRecorder(Path output) {
+        this.output = output;
+    }
+
+    /**
+     * 새 플레이의 기록을 시작합니다.
+     * @param seed 플레이에 사용되는 난수 시드
+     * @param currentPlayer 플레이어 데이터 (장비와 레벨을 복사해 둠)
+     * @param input 시작 시 눌려 있는 키를 읽을 입력 핸들러
+     */
+    public void start(long seed, PlayerData currentPlayer, InputHandler input) {
+        this.seed = seed;
+        this.playerData = copyLoadout(currentPlayer);
+
+        List<Integer> pressedKeys = input.getPressedKeys();
+        initialKeys = new int[pressedKeys.size()];
+        for (int i = 0; i < initialKeys.length; i++) {
+            int keyCode = pressedKeys.get(i);
+            initialKeys[i] = (keyCode << 1) | (input.isConsumed(keyCode) ? 1 : 0);
+        }
+
+        tick = 0;
+        eventTicks = new IntArray();
+        events = new IntArray();
+        recording = true;
+    }
+
+    /**
+     * 새 틱을 시작하고 이번 틱에 반영된 키 이벤트를 기록합니다. 기록 중이 아니면 아무것도 하지 않습니다.
+     * @param appliedEvents {@link InputHandler#getAppliedKeyEvents()}가 반환한 이벤트 목록
+     */
+    public void recordTick(List<Integer> appliedEvents) {
+        if (!recording) {
+            return;
+        }
+        tick++;
+        for (int event : appliedEvents) {
+            eventTicks.add(tick);
+            events.add(event);
+        }
+    }
+
+    /**
+     * 기록을 마치고 리플레이를 만듭니다. 저장 파일이 지정되어 있으면 파일로도 저장합니다.
+     * @param finalScore 최종 점수
+     * @param finalWave 최종 웨이브
+     * @return 완성된 리플레이
+     */
+    public Replay finish(int finalScore, int finalWave) {
+        recording = false;
+        lastReplay = new Replay(seed, playerData, initialKeys, eventTicks.toArray(), events.toArray(),
+                tick, finalScore, finalWave);
+        if (output != null) {
+            try {
+                lastReplay.save(output);
+            } catch (IOException e) {
+                System.err.println("리플레이 저장 실패: " + output);
+                e.printStackTrace();
+            }
+        }
+        return lastReplay;
+    }
+
+    /**
+     * 현재 기록 중인지 확인합니다.
+     * @return 기록 중이면 true
+     */
+    public boolean isRecording() {
+        return recording;
+    }
+
+    /**
+     * 마지막으로 완성된 리플레이를 반환합니다.
+     * @return 마지막 리플레이, 아직 없으면 null
+     */
+    public Replay getLastReplay() {
+        return lastReplay;
+    }
+
+    /**
+     * 플레이 재현에 필요한 장비와 레벨만 복사한 플레이어 데이터를 만듭니다.
+     * @param source 원본 플레이어 데이터
+     * @return 복사본
+     */
+    private static PlayerData copyLoadout(PlayerData source) {
+        PlayerData copy = new PlayerData();
+        copy.setEquippedWeapon(source.getEquippedWeapon());
+        copy.setEquippedPet(source.getEquippedPet());
+        copy.setUpgradeLevels(new HashMap<>(source.getUpgradeLevels()));
+        copy.setPetLevels(new HashMap<>(source.getPetLevels()));
+        copy.setWeaponLevels(new HashMap<>(source.getWeaponLevels()));
+        return copy;
+    }
+}
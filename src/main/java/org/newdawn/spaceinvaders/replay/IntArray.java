@@ -0,0 +1,34 @@
+package org.newdawn.spaceinvaders.replay;
+
+import java.util.Arrays;
+
+/**
+ * 박싱 없이 정수를 이어 붙이는 가변 길이 배열.
+ * 긴 플레이의 키 이벤트를 기록할 때 {@code List<Integer>}의 객체 할당을 피하기 위해 사용합니다.
+ */
+class IntArray {
+
+    /** 값을 저장하는 배열. */
+    private int[] values = new int[64];
+    /** 저장된 값의 개수. */
+    private int size;
+
+    /**
+     * 값을 끝에 추가합니다.
+     * @param value 추가할 값
+     */
+    void add(int value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = value;
+    }
+
+    /**
+     * 저장된 값들을 새 배열로 복사해 반환합니다.
+     * @return 저장된 값들의 배열
+     */
+    int[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+}
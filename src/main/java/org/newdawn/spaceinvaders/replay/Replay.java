@@ -0,0 +1,294 @@
+package org.newdawn.spaceinvaders.replay;
+
+import org.newdawn.spaceinvaders.data.PlayerData;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 한 번의 게임 플레이를 재현하는 데 필요한 모든 정보를 담은 불변 리플레이.
+ * 난수 시드, 플레이 시작 시점의 플레이어 장비와 레벨, 시작 시 눌려 있던 키, 그리고 틱별 키 이벤트로 구성되며,
+ * 검증을 위해 기록 당시의 최종 점수와 웨이브도 함께 저장합니다.
+ * <p>
+ * 파일 형식은 가변 길이 정수(varint)를 사용하는 이진 형식입니다. 키 이벤트는 이벤트가 있는 틱만
+ * (직전 이벤트 틱과의 차이, 이벤트 수, 이벤트들) 묶음으로 저장되므로, 키를 누르고 있기만 하는 긴 구간은 공간을 차지하지 않습니다.
+ */
+public final class Replay {
+
+    /** 리플레이 파일의 시작을 나타내는 값 ("SIRP"). */
+    private static final int MAGIC = 0x53495250;
+    /** 리플레이 파일 형식 버전. */
+    private static final int VERSION = 1;
+
+    /** 플레이에 사용된 난수 시드. */
+    private final long seed;
+    /** 플레이 시작 시점의 플레이어 장비와 레벨. */
+    private final PlayerData playerData;
+    /** 시작 시 눌려 있던 키. 각 값은 (키 코드 << 1 | 소비 여부). */
+    private final int[] initialKeys;
+    /** 각 키 이벤트가 반영된 틱 (1부터 시작). */
+    private final int[] eventTicks;
+    /** 인코딩된 키 이벤트. */
+    private final int[] events;
+    /** 기록된 전체 틱 수. */
+    private final int tickCount;
+    /** 기록 당시의 최종 점수. */
+    private final int finalScore;
+    /** 기록 당시의 최종 웨이브. */
+    private final int finalWave;
+
+    /**
+     * Replay 생성자.
+     * @param seed 난수 시드
+     * @param playerData 플레이 시작 시점의 플레이어 데이터
+     * @param initialKeys 시작 시 눌려 있던 키 (키 코드 << 1 | 소비 여부)
+     * @param eventTicks 각 키 이벤트가 반영된 틱, 오름차순
+     * @param events 인코딩된 키 이벤트
+     * @param tickCount 기록된 전체 틱 수
+     * @param finalScore 최종 점수
+     * @param finalWave 최종 웨이브
+     */
+    Replay(long seed, PlayerData playerData, int[] initialKeys, int[] eventTicks, int[] events,
+           int tickCount, int finalScore, int finalWave) {
+        this.seed = seed;
+        this.playerData = playerData;
+        this.initialKeys = initialKeys;
+        this.eventTicks = eventTicks;
+        this.events = events;
+        this.tickCount = tickCount;
+        this.finalScore = finalScore;
+        this.finalWave = finalWave;
+    }
+
+    public long getSeed() { return seed; }
+    public PlayerData getPlayerData() { return playerData; }
+    public int getTickCount() { return tickCount; }
+    public int getFinalScore() { return finalScore; }
+    public int getFinalWave() { return finalWave; }
+    public int getInitialKeyCount() { return initialKeys.length; }
+    public int getEventCount() { return events.length; }
+
+    /**
+     * 시작 시 눌려 있던 키의 코드를 반환합니다.
+     * @param index 키 인덱스
+     * @return 키 코드
+     */
+    public int getInitialKeyCode(int index) {
+        return initialKeys[index] >>> 1;
+    }
+
+    /**
+     * 시작 시 눌려 있던 키가 이미 단일 입력으로 소비된 상태였는지 반환합니다.
+     * @param index 키 인덱스
+     * @return 소비된 상태였으면 true
+     */
+    public boolean isInitialKeyConsumed(int index) {
+        return (initialKeys[index] & 1) != 0;
+    }
+
+    /**
+     * 키 이벤트가 반영된 틱을 반환합니다.
+     * @param index 이벤트 인덱스
+     * @return 틱 번호 (1부터 시작)
+     */
+    public int getEventTick(int index) {
+        return eventTicks[index];
+    }
+
+    /**
+     * 인코딩된 키 이벤트를 반환합니다.
+     * @param index 이벤트 인덱스
+     * @return {@link org.newdawn.spaceinvaders.core.InputHandler#encodeKeyEvent(int, boolean)}로 인코딩된 이벤트
+     */
+    public int getEvent(int index) {
+        return events[index];
+    }
+
+    /**
+     * 리플레이를 파일로 저장합니다.
+     * @param path 저장할 파일 경로
+     * @throws IOException 파일 쓰기에 실패한 경우
+     */
+    public void save(Path path) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(path))) {
+            write(out);
+        }
+    }
+
+    /**
+     * 파일에서 리플레이를 읽습니다.
+     * @param path 읽을 파일 경로
+     * @return 읽은 리플레이
+     * @throws IOException 파일 읽기에 실패했거나 리플레이 파일이 아닌 경우
+     */
+    public static Replay load(Path path) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(path))) {
+            return read(in);
+        }
+    }
+
+    /**
+     * 리플레이를 이진 형식으로 스트림에 씁니다.
+     * @param out 출력 스트림
+     * @throws IOException 쓰기에 실패한 경우
+     */
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        writeVarInt(data, VERSION);
+        data.writeLong(seed);
+        writePlayerData(data, playerData);
+
+        writeVarInt(data, initialKeys.length);
+        for (int key : initialKeys) {
+            writeVarInt(data, key);
+        }
+
+        int previousTick = 0;
+        int i = 0;
+        while (i < events.length) {
+            int tick = eventTicks[i];
+            int end = i;
+            while (end < events.length && eventTicks[end] == tick) {
+                end++;
+            }
+            writeVarInt(data, tick - previousTick);
+            writeVarInt(data, end - i);
+            for (; i < end; i++) {
+                writeVarInt(data, events[i]);
+            }
+            previousTick = tick;
+        }
+        // 이벤트 수가 0인 묶음이 끝을 나타내며, 남은 틱 수를 함께 기록합니다.
+        writeVarInt(data, tickCount - previousTick);
+        writeVarInt(data, 0);
+
+        writeVarInt(data, finalScore);
+        writeVarInt(data, finalWave);
+        data.flush();
+    }
+
+    /**
+     * 스트림에서 이진 형식의 리플레이를 읽습니다.
+     * @param in 입력 스트림
+     * @return 읽은 리플레이
+     * @throws IOException 읽기에 실패했거나 리플레이 형식이 아닌 경우
+     */
+    public static Replay read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC) {
+            throw new IOException("리플레이 파일이 아닙니다.");
+        }
+        int version = readVarInt(data);
+        if (version != VERSION) {
+            throw new IOException("지원하지 않는 리플레이 버전입니다: " + version);
+        }
+        long seed = data.readLong();
+        PlayerData playerData = readPlayerData(data);
+
+        int[] initialKeys = new int[readVarInt(data)];
+        for (int i = 0; i < initialKeys.length; i++) {
+            initialKeys[i] = readVarInt(data);
+        }
+
+        IntArray eventTicks = new IntArray();
+        IntArray events = new IntArray();
+        int tick = 0;
+        while (true) {
+            tick += readVarInt(data);
+            int count = readVarInt(data);
+            if (count == 0) {
+                break;
+            }
+            for (int i = 0; i < count; i++) {
+                eventTicks.add(tick);
+                events.add(readVarInt(data));
+            }
+        }
+
+        int finalScore = readVarInt(data);
+        int finalWave = readVarInt(data);
+        return new Replay(seed, playerData, initialKeys, eventTicks.toArray(), events.toArray(), tick, finalScore, finalWave);
+    }
+
+    /**
+     * 리플레이 재현에 필요한 플레이어 데이터(장비와 레벨)를 씁니다.
+     */
+    private static void writePlayerData(DataOutputStream data, PlayerData playerData) throws IOException {
+        writeNullableString(data, playerData.getEquippedWeapon());
+        writeNullableString(data, playerData.getEquippedPet());
+        writeLevels(data, playerData.getUpgradeLevels());
+        writeLevels(data, playerData.getPetLevels());
+        writeLevels(data, playerData.getWeaponLevels());
+    }
+
+    private static PlayerData readPlayerData(DataInputStream data) throws IOException {
+        PlayerData playerData = new PlayerData();
+        playerData.setEquippedWeapon(readNullableString(data));
+        playerData.setEquippedPet(readNullableString(data));
+        playerData.setUpgradeLevels(readLevels(data));
+        playerData.setPetLevels(readLevels(data));
+        playerData.setWeaponLevels(readLevels(data));
+        return playerData;
+    }
+
+    private static void writeNullableString(DataOutputStream data, String value) throws IOException {
+        data.writeBoolean(value != null);
+        if (value != null) {
+            data.writeUTF(value);
+        }
+    }
+
+    private static String readNullableString(DataInputStream data) throws IOException {
+        return data.readBoolean() ? data.readUTF() : null;
+    }
+
+    private static void writeLevels(DataOutputStream data, Map<String, Integer> levels) throws IOException {
+        writeVarInt(data, levels.size());
+        for (Map.Entry<String, Integer> entry : levels.entrySet()) {
+            data.writeUTF(entry.getKey());
+            writeVarInt(data, entry.getValue());
+        }
+    }
+
+    private static Map<String, Integer> readLevels(DataInputStream data) throws IOException {
+        int size = readVarInt(data);
+        Map<String, Integer> levels = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            levels.put(data.readUTF(), readVarInt(data));
+        }
+        return levels;
+    }
+
+    /**
+     * 음이 아닌 정수를 7비트 단위의 가변 길이로 씁니다.
+     */
+    private static void writeVarInt(DataOutputStream data, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            data.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream data) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = data.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("잘못된 가변 길이 정수입니다.");
+    }
+}
@@ -0,0 +1,90 @@
+package org.newdawn.spaceinvaders.replay;
+
+import org.newdawn.spaceinvaders.core.GameManager;
+import org.newdawn.spaceinvaders.core.HeadlessGameFactory;
+import org.newdawn.spaceinvaders.core.HeadlessGameLoop;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+/**
+ * 기록된 {@link Replay}를 화면 없이 재생하고, 기록 당시와 같은 점수와 웨이브에 도달하는지 확인하는 클래스입니다.
+ * 리플레이의 플레이어 데이터로 {@link HeadlessGameFactory}를 조립하고 {@link HeadlessGameLoop}로 기록된 틱 수만큼 실행합니다.
+ * <p>
+ * 명령행에서 {@code ReplayDriver <리플레이 파일>}로 실행하면 결과를 출력하며, 재현에 실패하면 0이 아닌 코드로 종료합니다.
+ */
+public class ReplayDriver {
+
+    /** 재생할 리플레이. */
+    private final Replay replay;
+
+    /** 재생 후의 점수. */
+    private int score;
+    /** 재생 후의 웨이브. */
+    private int wave;
+    /** 재생한 틱 수. */
+    private long ticks;
+
+    /**
+     * ReplayDriver 생성자.
+     * @param replay 재생할 리플레이
+     */
+    public ReplayDriver(Replay replay) {
+        this.replay = replay;
+    }
+
+    /**
+     * 리플레이를 끝까지 재생합니다.
+     * @return 재생 결과의 점수와 웨이브가 기록과 같으면 true
+     */
+    public boolean run() {
+        GameManager gameManager = new HeadlessGameFactory(replay.getPlayerData(), replay.getSeed()).createGame();
+        HeadlessGameLoop loop = new HeadlessGameLoop(gameManager, replay);
+        // 기록을 시작한 0번 틱을 포함하여 실행
+        loop.run(replay.getTickCount() + 1L);
+
+        score = gameManager.getPlayerManager().getScore();
+        wave = gameManager.getWaveManager().getWave();
+        ticks = loop.getTicks();
+        return matches();
+    }
+
+    /**
+     * 재생 결과가 기록과 일치하는지 확인합니다.
+     * @return 점수와 웨이브가 모두 같으면 true
+     */
+    public boolean matches() {
+        return score == replay.getFinalScore() && wave == replay.getFinalWave();
+    }
+
+    public int getScore() { return score; }
+    public int getWave() { return wave; }
+    public long getTicks() { return ticks; }
+
+    /**
+     * 리플레이 파일을 재생하고 결과를 출력합니다.
+     * @param args 첫 번째 인수로 리플레이 파일 경로
+     */
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.err.println("사용법: ReplayDriver <리플레이 파일>");
+            System.exit(2);
+        }
+        Replay replay;
+        try {
+            replay = Replay.load(Paths.get(args[0]));
+        } catch (IOException e) {
+            System.err.println("리플레이를 읽을 수 없습니다: " + args[0]);
+            e.printStackTrace();
+            System.exit(2);
+            return;
+        }
+
+        ReplayDriver driver = new ReplayDriver(replay);
+        boolean matched = driver.run();
+        System.out.println("재생: 점수 " + driver.getScore() + ", 웨이브 " + driver.getWave() + ", " + driver.getTicks() + "틱");
+        System.out.println("기록: 점수 " + replay.getFinalScore() + ", 웨이브 " + replay.getFinalWave() + ", " + replay.getTickCount() + "틱");
+        System.out.println(matched ? "리플레이가 재현되었습니다." : "리플레이가 재현되지 않았습니다.");
+        System.exit(matched ? 0 : 1);
+    }
+}
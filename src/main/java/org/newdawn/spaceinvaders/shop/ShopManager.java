@@ -127,22 +127,22 @@ public class ShopManager {
         }
         // 10% 확률로 공격 펫
         else if (roll < 50) {
-            playerData.getPetInventory().put(PetType.ATTACK.name(), playerData.getPetInventory().getOrDefault(PetType.ATTACK.name(), 0) + 1);
+            playerData.setPetCount(PetType.ATTACK.name(), playerData.getPetCount(PetType.ATTACK.name()) + 1);
             return new DrawResult("'공격형 펫'을 획득했습니다!", true);
         }
         // 10% 확률로 방어 펫
         else if (roll < 60) {
-            playerData.getPetInventory().put(PetType.DEFENSE.name(), playerData.getPetInventory().getOrDefault(PetType.DEFENSE.name(), 0) + 1);
+            playerData.setPetCount(PetType.DEFENSE.name(), playerData.getPetCount(PetType.DEFENSE.name()) + 1);
             return new DrawResult("'방어형 펫'을 획득했습니다!", true);
         }
         // 10% 확률로 치유 펫
         else if (roll < 70) {
-            playerData.getPetInventory().put(PetType.HEAL.name(), playerData.getPetInventory().getOrDefault(PetType.HEAL.name(), 0) + 1);
+            playerData.setPetCount(PetType.HEAL.name(), playerData.getPetCount(PetType.HEAL.name()) + 1);
             return new DrawResult("'치유형 펫'을 획득했습니다!", true);
         }
         // 10% 확률로 버프 펫
         else if (roll < 80) {
-            playerData.getPetInventory().put(PetType.BUFF.name(), playerData.getPetInventory().getOrDefault(PetType.BUFF.name(), 0) + 1);
+            playerData.setPetCount(PetType.BUFF.name(), playerData.getPetCount(PetType.BUFF.name()) + 1);
             return new DrawResult("'버프형 펫'을 획득했습니다!", true);
         }
         // 10% 확률로 샷건
@@ -151,7 +151,7 @@ public class ShopManager {
                 playerData.setCredit(playerData.getCredit() + 300);
                 return new DrawResult("이미 보유한 무기입니다! 300 크레딧을 돌려받습니다.", true);
             } else {
-                playerData.getWeaponLevels().put("Shotgun", 1);
+                playerData.setWeaponLevel("Shotgun", 1);
                 return new DrawResult("새로운 무기 '샷건'을 잠금 해제했습니다!", true);
             }
         }
@@ -161,7 +161,7 @@ public class ShopManager {
                 playerData.setCredit(playerData.getCredit() + 300);
                 return new DrawResult("이미 보유한 무기입니다! 300 크레딧을 돌려받습니다.", true);
             } else {
-                playerData.getWeaponLevels().put("Laser", 1);
+                playerData.setWeaponLevel("Laser", 1);
                 return new DrawResult("새로운 무기 '레이저'를 잠금 해제했습니다!", true);
             }
         }
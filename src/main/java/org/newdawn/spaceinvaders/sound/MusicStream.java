@@ -0,0 +1,157 @@
+package org.newdawn.spaceinvaders.sound;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.SourceDataLine;
+import java.io.BufferedInputStream;
+import java.io.InputStream;
+
+/**
+ * 긴 배경 음악을 메모리에 모두 올리지 않고 재생 스레드에서 조금씩 읽어 {@link SourceDataLine}으로 흘려보내는 음악 채널.
+ * 한 번에 {@link #CHUNK_SIZE} 바이트씩 리소스에서 읽어 약 {@link #LINE_BUFFER_MILLIS}밀리초 분량의 라인 버퍼에 쓰므로,
+ * 트랙 길이와 관계없이 메모리에 머무는 데이터는 작은 버퍼뿐입니다.
+ * 반복 재생 시에는 트랙이 끝날 때마다 리소스를 처음부터 다시 엽니다.
+ */
+final class MusicStream {
+
+    /** 한 번에 읽어 라인에 쓰는 바이트 수. */
+    private static final int CHUNK_SIZE = 4096;
+    /** 라인 버퍼의 길이 (밀리초). 정지 요청 후 소리가 멎기까지의 최대 지연이기도 합니다. */
+    private static final int LINE_BUFFER_MILLIS = 200;
+
+    /** 음악 파일의 리소스 경로. */
+    private final String path;
+    /** 현재 재생 중인 재생 작업. 재생 중이 아니면 null. */
+    private Playback playback;
+
+    /**
+     * MusicStream 생성자. 파일은 재생을 시작할 때 열립니다.
+     * @param path 음악 파일의 리소스 경로
+     */
+    MusicStream(String path) {
+        this.path = path;
+    }
+
+    /**
+     * 음악을 재생합니다. 이미 재생 중이면 아무것도 하지 않습니다.
+     * @param loop true이면 정지할 때까지 반복 재생
+     */
+    synchronized void start(boolean loop) {
+        if (isPlaying()) {
+            return;
+        }
+        playback = new Playback(loop);
+        Thread thread = new Thread(playback, "MusicStream " + path);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 재생을 중지합니다. 라인 버퍼에 남은 소리도 버립니다.
+     */
+    synchronized void stop() {
+        if (playback != null) {
+            playback.cancel();
+            playback = null;
+        }
+    }
+
+    /**
+     * 재생 중인지 확인합니다.
+     * @return 재생 중이면 true
+     */
+    synchronized boolean isPlaying() {
+        return playback != null && !playback.isFinished();
+    }
+
+    /**
+     * 리소스를 읽어 라인에 쓰는 재생 작업. 정지되면 재사용하지 않고 새 작업을 만듭니다.
+     */
+    private final class Playback implements Runnable {
+        /** 반복 재생 여부. */
+        private final boolean loop;
+        /** 정지 요청 여부. */
+        private volatile boolean cancelled;
+        /** 재생이 끝났는지 여부. */
+        private volatile boolean finished;
+        /** 소리를 내보내는 라인. 열리기 전에는 null. */
+        private volatile SourceDataLine line;
+
+        Playback(boolean loop) {
+            this.loop = loop;
+        }
+
+        void cancel() {
+            cancelled = true;
+            SourceDataLine current = line;
+            if (current != null) {
+                // 쓰기 대기 중인 재생 스레드를 깨우고 남은 버퍼를 버림
+                current.stop();
+                current.flush();
+            }
+        }
+
+        boolean isFinished() {
+            return finished;
+        }
+
+        @Override
+        public void run() {
+            byte[] chunk = new byte[CHUNK_SIZE];
+            try {
+                do {
+                    try (AudioInputStream audio = open()) {
+                        if (audio == null) {
+                            return;
+                        }
+                        if (line == null) {
+                            line = openLine(audio.getFormat());
+                        }
+                        int read;
+                        while (!cancelled && (read = audio.read(chunk, 0, chunk.length)) > 0) {
+                            line.write(chunk, 0, read);
+                        }
+                    }
+                } while (loop && !cancelled);
+                if (!cancelled) {
+                    line.drain();
+                }
+            } catch (Exception e) {
+                System.err.println("음악 재생 실패: " + path);
+                e.printStackTrace();
+            } finally {
+                if (line != null) {
+                    line.close();
+                }
+                finished = true;
+            }
+        }
+
+        /**
+         * 음악 리소스를 처음부터 엽니다.
+         * @return 오디오 스트림, 리소스가 없으면 null
+         */
+        private AudioInputStream open() throws Exception {
+            InputStream source = MusicStream.class.getResourceAsStream(path);
+            if (source == null) {
+                System.err.println("Can't find sound file: " + path);
+                return null;
+            }
+            return AudioSystem.getAudioInputStream(new BufferedInputStream(source));
+        }
+
+        /**
+         * 작은 버퍼를 가진 라인을 열고 재생을 시작합니다.
+         * @param format 오디오 형식
+         * @return 열린 라인
+         */
+        private SourceDataLine openLine(AudioFormat format) throws Exception {
+            SourceDataLine opened = AudioSystem.getSourceDataLine(format);
+            int frames = (int) (format.getFrameRate() * LINE_BUFFER_MILLIS / 1000);
+            opened.open(format, Math.max(CHUNK_SIZE, frames * format.getFrameSize()));
+            opened.start();
+            return opened;
+        }
+    }
+}
@@ -9,27 +9,53 @@ import java.util.Map;
 
 /**
  * 게임 내 모든 사운드(효과음, 배경 음악)의 로딩과 제어를 담당하는 클래스입니다.
- * Java Sound API의 {@link Clip}을 사용하여 사운드를 메모리에 미리 로드하고 재생, 반복, 중지 기능을 제공합니다.
+ * 짧은 효과음은 Java Sound API의 {@link Clip}으로 메모리에 미리 로드하고,
+ * 긴 배경 음악은 {@link MusicStream}으로 재생할 때 파일에서 조금씩 읽어 흘려보내므로 메모리에 상주하지 않습니다.
+ * 두 종류 모두 같은 이름 기반의 재생, 반복, 중지 기능을 제공합니다.
  */
 public class SoundManager {
 
     /** 사운드 이름을 키로, Clip 객체를 값으로 저장하는 맵. */
     private final Map<String, Clip> clips = new HashMap<>();
+    /** 음악 이름을 키로, 스트리밍 채널을 값으로 저장하는 맵. */
+    private final Map<String, MusicStream> music = new HashMap<>();
 
     /**
      * SoundManager 생성자.
-     * 게임에 필요한 모든 사운드를 메모리로 로드합니다.
+     * 게임에 필요한 효과음을 메모리로 로드하고 배경 음악을 등록합니다.
      */
     public SoundManager() {
-        // 사운드를 메모리에 로드
-        loadSound("gamebackground", "/sounds/GameBackground.wav");
+        this(true);
+    }
+
+    /**
+     * SoundManager 생성자.
+     * @param loadSounds true이면 효과음을 메모리로 로드하고 배경 음악을 등록하며, false이면 아무것도 로드하지 않음
+     */
+    private SoundManager(boolean loadSounds) {
+        if (!loadSounds) {
+            return;
+        }
+        // 효과음을 메모리에 로드
         loadSound("gunshot", "/sounds/gunshot.wav");
         loadSound("lasershot", "/sounds/lasershot.wav");
         loadSound("shotgun", "/sounds/shotgun.wav");
         loadSound("ship-death-sound", "/sounds/ship-death-sound.wav");
-        loadSound("boss1", "/sounds/boss1.wav");
         loadSound("buttonselect", "/sounds/buttonselect.wav");
-        loadSound("menubackground", "/sounds/MainmenuBackground.wav");
+
+        // 배경 음악은 재생할 때 스트리밍
+        music.put("gamebackground", new MusicStream("/sounds/GameBackground.wav"));
+        music.put("boss1", new MusicStream("/sounds/boss1.wav"));
+        music.put("menubackground", new MusicStream("/sounds/MainmenuBackground.wav"));
+    }
+
+    /**
+     * 아무 소리도 내지 않는 SoundManager를 생성합니다.
+     * 로드된 사운드가 없으므로 모든 재생/중지 요청은 무시되며, 오디오 장치가 없는 환경에서 사용할 수 있습니다.
+     * @return 무음 SoundManager
+     */
+    public static SoundManager silent() {
+        return new SoundManager(false);
     }
 
     /**
@@ -62,6 +88,11 @@ public class SoundManager {
      * @param name 재생할 사운드의 이름
      */
     public void playSound(String name) {
+        MusicStream stream = music.get(name);
+        if (stream != null) {
+            stream.start(false);
+            return;
+        }
         Clip clip = clips.get(name);
         if (clip != null) {
             if (clip.isRunning()) {
@@ -79,6 +110,11 @@ public class SoundManager {
      * @param name 반복 재생할 사운드의 이름
      */
     public void loopSound(String name) {
+        MusicStream stream = music.get(name);
+        if (stream != null) {
+            stream.start(true);
+            return;
+        }
         Clip clip = clips.get(name);
         if (clip != null) {
             if (clip.isRunning()) {
@@ -94,6 +130,10 @@ public class SoundManager {
      * @param name 중지할 사운드의 이름
      */
     public void stopSound(String name) {
+        MusicStream stream = music.get(name);
+        if (stream != null) {
+            stream.stop();
+        }
         Clip clip = clips.get(name);
         if (clip != null) {
             clip.stop();
@@ -111,6 +151,11 @@ public class SoundManager {
                 entry.getValue().stop();
             }
         }
+        for (Map.Entry<String, MusicStream> entry : music.entrySet()) {
+            if (!entry.getKey().equals(exclude)) {
+                entry.getValue().stop();
+            }
+        }
     }
 
     /**
@@ -50,6 +50,8 @@ public class PlayingInputHandler {
         // 키를 한 번 눌렀을 때 한 번만 실행되는 커맨드
         singlePressCommands.put(KeyEvent.VK_ESCAPE, () -> gameContext.setCurrentState(GameState.Type.PAUSED));
         singlePressCommands.put(KeyEvent.VK_H, () -> gameContext.setShowHitboxes(!gameContext.getShowHitboxes())); // 'H' 키는 히트박스 표시/숨기기
+        singlePressCommands.put(KeyEvent.VK_P, () -> gameContext.getProfiler().setEnabled(!gameContext.getProfiler().isEnabled())); // 'P' 키는 프로파일러 오버레이 표시/숨기기
+        singlePressCommands.put(KeyEvent.VK_L, new ExportProfileCommand(gameContext)); // 'L' 키는 프로파일 CSV 저장
         singlePressCommands.put(KeyEvent.VK_K, () -> gameContext.getGameContainer().getWaveManager().skipToNextBossWave()); // 'K' 키는 현재 웨이브 건너뛰기
         
         singlePressCommands.put(KeyEvent.VK_1, new SwitchWeaponCommand(gameContext, "DefaultGun"));
@@ -0,0 +1,45 @@
+package org.newdawn.spaceinvaders.userinput.command;
+
+import org.newdawn.spaceinvaders.core.FrameProfiler;
+import org.newdawn.spaceinvaders.core.GameContext;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * 프레임 프로파일러의 요약 통계를 작업 디렉터리의 CSV 파일로 저장하는 커맨드.
+ * 프로파일러가 꺼져 있으면 아무것도 하지 않습니다.
+ */
+public class ExportProfileCommand implements Command {
+
+    /** 게임의 전반적인 컨텍스트. */
+    private final GameContext gameContext;
+
+    /**
+     * ExportProfileCommand 생성자.
+     * @param gameContext 게임 컨텍스트
+     */
+    public ExportProfileCommand(GameContext gameContext) {
+        this.gameContext = gameContext;
+    }
+
+    /**
+     * 현재까지의 측정값을 {@code profile-<시각>.csv}로 저장합니다.
+     */
+    @Override
+    public void execute() {
+        FrameProfiler profiler = gameContext.getProfiler();
+        if (!profiler.isEnabled()) {
+            return;
+        }
+        Path path = Paths.get("profile-" + System.currentTimeMillis() + ".csv");
+        try {
+            profiler.exportCsv(path);
+            System.out.println("프로파일 저장: " + path.toAbsolutePath());
+        } catch (IOException e) {
+            System.err.println("프로파일 저장 실패: " + path);
+            e.printStackTrace();
+        }
+    }
+}
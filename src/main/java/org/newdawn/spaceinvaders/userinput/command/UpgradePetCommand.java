@@ -62,7 +62,7 @@ public class UpgradePetCommand implements Command {
 
             // 강화 진행
             playerData.increasePetLevel(petType.name());
-            playerData.getPetInventory().put(selectedPetName, currentAmount - 1);
+            playerData.setPetCount(selectedPetName, currentAmount - 1);
             gameContext.getGameContainer().getPlayerManager().savePlayerData();
             gameContext.setMessage(petType.getDisplayName() + " 강화 성공!");
 
@@ -76,7 +76,7 @@ public class UpgradeWeaponCommand implements Command {
         int cost = costFunction.apply(currentLevel + 1);
         if (playerData.getCredit() >= cost) {
             playerData.setCredit(playerData.getCredit() - cost);
-            playerData.getWeaponLevels().put(weaponName, currentLevel + 1);
+            playerData.setWeaponLevel(weaponName, currentLevel + 1);
             gameContext.getGameContainer().getPlayerManager().savePlayerData();
             gameContext.setMessage(weaponName + "이(가) " + (currentLevel + 1) + " 레벨로 업그레이드되었습니다!");
         } else {
@@ -1,11 +1,11 @@
 package org.newdawn.spaceinvaders.view;
 
 import org.newdawn.spaceinvaders.core.Game;
+import org.newdawn.spaceinvaders.graphics.RenderSnapshot;
 import org.newdawn.spaceinvaders.graphics.Sprite;
+import org.newdawn.spaceinvaders.graphics.SpriteRenderState;
 import org.newdawn.spaceinvaders.graphics.SpriteStore;
 
-import java.awt.Graphics2D;
-
 /**
  * 게임의 배경 이미지를 그리고, 수직으로 무한 스크롤되는 효과를 처리하는 클래스.
  */
@@ -43,11 +43,11 @@ public class Background {
     }
 
     /**
-     * 스크롤되는 배경을 화면에 그립니다.
+     * 스크롤되는 배경을 그리는 명령을 스냅샷의 배경 구역에 추가합니다.
      * 이미지를 타일처럼 이어붙여 화면을 채웁니다.
-     * @param g 그래픽 컨텍스트
+     * @param snapshot 그리기 명령을 추가할 렌더 스냅샷 빌더
      */
-    public void draw(Graphics2D g) {
+    public void captureRenderState(RenderSnapshot.Builder snapshot) {
         if (imageWidth <= 0 || imageHeight <= 0) {
             return;
         }
@@ -55,8 +55,8 @@ public class Background {
         // 화면 너비와 높이를 채우도록 이미지를 반복해서 그림
         for (int x = 0; x < Game.GAME_WIDTH; x += imageWidth) {
             for (int y = (int) yOffset - imageHeight; y < Game.GAME_HEIGHT; y += imageHeight) {
-                backgroundSprite.draw(g, x, y);
+                snapshot.addBackground(SpriteRenderState.at(backgroundSprite, x, y, imageWidth, imageHeight));
             }
         }
     }
-}
\ No newline at end of file
+}
@@ -1,12 +1,13 @@
 package org.newdawn.spaceinvaders.view;
 
 import org.newdawn.spaceinvaders.core.Game;
+import org.newdawn.spaceinvaders.graphics.RenderSnapshot;
 import org.newdawn.spaceinvaders.graphics.Sprite;
+import org.newdawn.spaceinvaders.graphics.SpriteRenderState;
 import org.newdawn.spaceinvaders.graphics.SpriteStore;
 import org.newdawn.spaceinvaders.player.BuffManager;
 import org.newdawn.spaceinvaders.player.BuffType;
 
-import java.awt.Graphics2D;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -30,11 +31,11 @@ public class BuffUI {
     }
 
     /**
-     * 현재 활성화된 모든 버프의 아이콘을 화면에 그립니다.
-     * @param g 그래픽 컨텍스트
+     * 현재 활성화된 모든 버프의 아이콘을 그리는 명령을 스냅샷의 오버레이 구역에 추가합니다.
+     * @param snapshot 그리기 명령을 추가할 렌더 스냅샷 빌더
      * @param buffManager 플레이어의 버프를 관리하는 BuffManager
      */
-    public void draw(Graphics2D g, BuffManager buffManager) {
+    public void captureRenderState(RenderSnapshot.Builder snapshot, BuffManager buffManager) {
         if (buffManager == null) {
             return;
         }
@@ -48,7 +49,7 @@ public class BuffUI {
             BuffType buff = activeBuffs.get(i);
             Sprite icon = buffIcons.get(buff);
             if (icon != null) {
-                g.drawImage(icon.getImage(), xOffset + (i * (iconSize + 5)), yOffset, iconSize, iconSize, null);
+                snapshot.addOverlay(SpriteRenderState.at(icon, xOffset + (i * (iconSize + 5)), yOffset, iconSize, iconSize));
             }
         }
     }
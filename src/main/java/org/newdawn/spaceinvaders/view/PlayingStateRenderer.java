@@ -3,6 +3,9 @@ package org.newdawn.spaceinvaders.view;
 import org.newdawn.spaceinvaders.core.Game;
 import org.newdawn.spaceinvaders.core.GameContext;
 import org.newdawn.spaceinvaders.entity.Entity;
+import org.newdawn.spaceinvaders.graphics.RenderSnapshot;
+import org.newdawn.spaceinvaders.graphics.ShapeRenderState;
+import org.newdawn.spaceinvaders.graphics.TextRenderState;
 
 import java.awt.*;
 
@@ -12,10 +15,20 @@ import java.awt.*;
  */
 public class PlayingStateRenderer {
 
+    /** 플레이 영역 클리핑 사각형. */
+    private static final Rectangle FIELD_CLIP = new Rectangle(0, 0, Game.GAME_WIDTH, Game.GAME_HEIGHT);
+    /** 점수 등 UI 글꼴. */
+    private static final Font UI_FONT = new Font("Dialog", Font.BOLD, 14);
+    /** 화면 중앙 메시지 글꼴. */
+    private static final Font MESSAGE_FONT = new Font("Dialog", Font.BOLD, 20);
+
     /** 게임의 전반적인 컨텍스트. */
     private final GameContext gameContext;
+
     /** 버프 UI를 그리는 객체. */
     private final BuffUI buffUI;
+    /** 프로파일러 오버레이. */
+    private final ProfilerOverlay profilerOverlay;
 
     /**
      * PlayingStateRenderer 생성자.
@@ -24,92 +37,99 @@ public class PlayingStateRenderer {
     public PlayingStateRenderer(GameContext gameContext) {
         this.gameContext = gameContext;
         this.buffUI = new BuffUI();
+        this.profilerOverlay = new ProfilerOverlay();
     }
 
     /**
-     * 게임 플레이 화면의 모든 요소를 렌더링합니다.
+     * 게임 플레이 화면의 모든 요소를 즉시 렌더링합니다.
+     * 일시정지나 게임 오버 화면처럼 시뮬레이션이 멈춘 상태에서 배경으로 그릴 때 사용됩니다.
      * @param g 그래픽 컨텍스트
      */
     public void render(Graphics2D g) {
-        // 배경 그리기
-        drawBackground(g);
+        capture(1.0).render(g, 1.0);
+    }
 
-        // --- 게임 영역 내 요소 그리기 (클리핑 적용) ---
-        Shape originalClip = g.getClip();
-        try {
-            g.setClip(0, 0, Game.GAME_WIDTH, Game.GAME_HEIGHT);
+    /**
+     * 현재 게임 플레이 화면을 불변 렌더 스냅샷으로 만듭니다.
+     * 시뮬레이션 스레드에서 호출되며, 렌더링 스레드는 게임 상태 대신 이 스냅샷을 그립니다.
+     * @param alpha 스냅샷 생성 시점의 보간 비율
+     * @return 렌더 스냅샷
+     */
+    public RenderSnapshot capture(double alpha) {
+        RenderSnapshot.Builder snapshot = new RenderSnapshot.Builder(FIELD_CLIP, alpha);
 
-            // 엔티티 그리기
-            drawEntities(g);
+        // 배경 그리기
+        captureBackground(snapshot);
 
-            // 히트박스 그리기 (활성화 시)
-            drawHitboxes(g);
+        // --- 게임 영역 내 요소 그리기 (클리핑 적용) ---
+        // 엔티티 그리기
+        captureEntities(snapshot);
 
-        } finally {
-            // 게임 영역 밖의 UI를 그리기 위해 클리핑 원상복구
-            g.setClip(originalClip);
-        }
+        // 히트박스 그리기 (활성화 시)
+        captureHitboxes(snapshot);
         // --- 클리핑 종료 ---
 
         // UI 그리기
-        drawUI(g);
+        captureUI(snapshot);
 
         // 메시지 그리기
-        drawMessage(g);
+        captureMessage(snapshot);
+
+        // 프로파일러 오버레이 그리기 (활성화 시)
+        profilerOverlay.captureRenderState(snapshot, gameContext.getProfiler(), gameContext.getGameContainer().getEntityManager().getEntities());
+
+        return snapshot.build();
     }
 
     /** 배경을 그립니다. */
-    private void drawBackground(Graphics2D g) {
-        g.setColor(Color.black);
-        g.fillRect(0, 0, Game.SCREEN_WIDTH, Game.SCREEN_HEIGHT);
-        gameContext.getBackground().draw(g);
+    private void captureBackground(RenderSnapshot.Builder snapshot) {
+        snapshot.addBackground(new ShapeRenderState(ShapeRenderState.Kind.FILL_RECT, Color.black, 0, 0, Game.SCREEN_WIDTH, Game.SCREEN_HEIGHT));
+        gameContext.getBackground().captureRenderState(snapshot);
     }
 
-    /** 모든 엔티티를 그립니다. */
-    private void drawEntities(Graphics2D g) {
+    /** 모든 엔티티를 직전 틱과 현재 틱 사이로 보간할 수 있도록 그립니다. */
+    private void captureEntities(RenderSnapshot.Builder snapshot) {
         for (Entity entity : gameContext.getGameContainer().getEntityManager().getEntities()) {
-            entity.draw(g);
+            snapshot.beginEntity(entity.getInterpolationOffsetX(), entity.getInterpolationOffsetY());
+            entity.captureRenderState(snapshot);
         }
     }
 
     /** 히트박스가 활성화된 경우, 모든 엔티티의 히트박스를 그립니다. */
-    private void drawHitboxes(Graphics2D g) {
+    private void captureHitboxes(RenderSnapshot.Builder snapshot) {
         if (gameContext.getShowHitboxes()) {
-            g.setColor(Color.RED);
+            // 히트박스는 충돌 판정과 같은 현재 틱 위치에 그림
+            snapshot.beginEntity(0, 0);
             for (Entity entity : gameContext.getGameContainer().getEntityManager().getEntities()) {
-                g.drawRect(entity.getX(), entity.getY(), entity.getWidth(), entity.getHeight());
+                snapshot.add(new ShapeRenderState(ShapeRenderState.Kind.DRAW_RECT, Color.RED, entity.getX(), entity.getY(), entity.getWidth(), entity.getHeight()));
             }
         }
     }
 
     /** 점수, 웨이브, 플레이 시간 등 UI 정보를 그립니다. */
-    private void drawUI(Graphics2D g) {
-        g.setColor(Color.white);
-        g.setFont(new Font("Dialog", Font.BOLD, 14));
-        g.drawString(String.format("점수: %03d", gameContext.getGameContainer().getPlayerManager().getScore()), 680, 30);
-        g.drawString(String.format("Wave: %d", gameContext.getGameContainer().getWaveManager().getWave()), 520, 30);
+    private void captureUI(RenderSnapshot.Builder snapshot) {
+        snapshot.addOverlay(new TextRenderState(UI_FONT, Color.white, String.format("점수: %03d", gameContext.getGameContainer().getPlayerManager().getScore()), 680, 30, 0));
+        snapshot.addOverlay(new TextRenderState(UI_FONT, Color.white, String.format("Wave: %d", gameContext.getGameContainer().getWaveManager().getWave()), 520, 30, 0));
 
         // 플레이 시간 그리기
-        if (gameContext.getGameContainer().getPlayerManager().getGameStartTime() > 0) {
-            long elapsedMillis = System.currentTimeMillis() - gameContext.getGameContainer().getPlayerManager().getGameStartTime();
+        if (gameContext.getGameContainer().getPlayerManager().getGameStartTime() >= 0) {
+            long elapsedMillis = gameContext.getClock().getTime() - gameContext.getGameContainer().getPlayerManager().getGameStartTime();
             long elapsedSeconds = elapsedMillis / 1000;
             long minutes = elapsedSeconds / 60;
             long seconds = elapsedSeconds % 60;
-            g.drawString(String.format("Time: %02d:%02d", minutes, seconds), 520, 55);
+            snapshot.addOverlay(new TextRenderState(UI_FONT, Color.white, String.format("Time: %02d:%02d", minutes, seconds), 520, 55, 0));
         }
 
         // 버프 UI 그리기
         if (gameContext.getShip() != null) {
-            buffUI.draw(g, gameContext.getShip().getBuffManager());
+            buffUI.captureRenderState(snapshot, gameContext.getShip().getBuffManager());
         }
     }
 
     /** 화면 중앙에 메시지를 그립니다. */
-    private void drawMessage(Graphics2D g) {
+    private void captureMessage(RenderSnapshot.Builder snapshot) {
         if (gameContext.getMessage() != null && !gameContext.getMessage().isEmpty()) {
-            g.setColor(Color.white);
-            g.setFont(new Font("Dialog", Font.BOLD, 20));
-            g.drawString(gameContext.getMessage(), (Game.SCREEN_WIDTH - g.getFontMetrics().stringWidth(gameContext.getMessage())) / 2, 250);
+            snapshot.addOverlay(new TextRenderState(MESSAGE_FONT, Color.white, gameContext.getMessage(), 0, 250, Game.SCREEN_WIDTH));
         }
     }
-}
\ No newline at end of file
+}
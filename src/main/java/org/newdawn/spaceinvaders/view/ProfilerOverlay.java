@@ -0,0 +1,105 @@
+package org.newdawn.spaceinvaders.view;
+
+import org.newdawn.spaceinvaders.core.FrameProfiler;
+import org.newdawn.spaceinvaders.core.Game;
+import org.newdawn.spaceinvaders.core.GameLoop;
+import org.newdawn.spaceinvaders.entity.Entity;
+import org.newdawn.spaceinvaders.graphics.RenderSnapshot;
+import org.newdawn.spaceinvaders.graphics.ShapeRenderState;
+import org.newdawn.spaceinvaders.graphics.TextRenderState;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 프레임 프로파일러의 측정값을 사이드바에 표시하는 성능 오버레이.
+ * 구간별 p50/p99 시간, 충돌 검사 쌍의 수, 할당률, 클래스별 엔티티 수를 보여줍니다.
+ * 백분위 계산에는 정렬이 필요하므로 표시 내용은 {@link #REFRESH_TICKS}번의 스냅샷마다 한 번만 다시 계산합니다.
+ */
+public class ProfilerOverlay {
+
+    /** 표시 내용을 다시 계산하는 간격 (스냅샷 수). */
+    private static final int REFRESH_TICKS = 30;
+    /** 표시할 엔티티 클래스의 최대 수. */
+    private static final int MAX_ENTITY_ROWS = 8;
+    /** 오버레이 글꼴. */
+    private static final Font FONT = new Font(Font.MONOSPACED, Font.PLAIN, 11);
+    /** 오버레이 배경색. */
+    private static final Color BACKGROUND = new Color(0, 0, 0, 170);
+    /** 오버레이 왼쪽 위치. */
+    private static final int LEFT = Game.GAME_WIDTH + 10;
+    /** 오버레이 위쪽 위치. */
+    private static final int TOP = 75;
+    /** 줄 간격. */
+    private static final int LINE_HEIGHT = 14;
+
+    /** 마지막으로 계산한 표시 문자열. */
+    private List<String> lines = new ArrayList<>();
+    /** 다음 재계산까지 남은 스냅샷 수. */
+    private int refreshCountdown;
+
+    /**
+     * 프로파일러가 활성화되어 있으면 오버레이를 스냅샷에 추가합니다.
+     * @param snapshot 렌더 스냅샷 빌더
+     * @param profiler 프레임 프로파일러
+     * @param entities 현재 활성 엔티티 목록
+     */
+    public void captureRenderState(RenderSnapshot.Builder snapshot, FrameProfiler profiler, List<Entity> entities) {
+        if (!profiler.isEnabled()) {
+            refreshCountdown = 0;
+            return;
+        }
+        if (refreshCountdown-- <= 0) {
+            lines = buildLines(profiler, entities);
+            refreshCountdown = REFRESH_TICKS;
+        }
+
+        int height = (lines.size() + 1) * LINE_HEIGHT;
+        snapshot.addOverlay(new ShapeRenderState(ShapeRenderState.Kind.FILL_RECT, BACKGROUND,
+                LEFT - 5, TOP - LINE_HEIGHT, Game.SCREEN_WIDTH - LEFT - 5, height));
+        int y = TOP;
+        for (String line : lines) {
+            snapshot.addOverlay(new TextRenderState(FONT, Color.green, line, LEFT, y, 0));
+            y += LINE_HEIGHT;
+        }
+    }
+
+    /**
+     * 프로파일러와 엔티티 목록에서 표시할 문자열을 만듭니다.
+     */
+    private List<String> buildLines(FrameProfiler profiler, List<Entity> entities) {
+        List<String> result = new ArrayList<>();
+        result.add(String.format("%-8s %8s %8s", "구간(us)", "p50", "p99"));
+        for (FrameProfiler.Section section : FrameProfiler.Section.values()) {
+            result.add(String.format("%-8s %8.1f %8.1f", section.getLabel(),
+                    profiler.getPercentile(section, 0.50) / 1000.0,
+                    profiler.getPercentile(section, 0.99) / 1000.0));
+        }
+        result.add(String.format("충돌 쌍   p50 %d / p99 %d",
+                profiler.getPairsTestedPercentile(0.50), profiler.getPairsTestedPercentile(0.99)));
+
+        long bytesPerTick = profiler.getAllocatedBytesPerTick();
+        if (bytesPerTick >= 0) {
+            double megabytesPerSecond = bytesPerTick * (1000.0 / GameLoop.UPDATE_STEP) / (1024 * 1024);
+            result.add(String.format("할당     %.1f KB/틱, %.1f MB/s", bytesPerTick / 1024.0, megabytesPerSecond));
+        } else {
+            result.add("할당     측정 불가");
+        }
+
+        result.add(String.format("엔티티   %d", entities.size()));
+        Map<String, Integer> counts = new HashMap<>();
+        for (Entity entity : entities) {
+            counts.merge(entity.getClass().getSimpleName(), 1, Integer::sum);
+        }
+        List<Map.Entry<String, Integer>> sorted = new ArrayList<>(counts.entrySet());
+        sorted.sort((a, b) -> b.getValue() - a.getValue());
+        for (int i = 0; i < sorted.size() && i < MAX_ENTITY_ROWS; i++) {
+            result.add(String.format("  %-22s %4d", sorted.get(i).getKey(), sorted.get(i).getValue()));
+        }
+        return result;
+    }
+}
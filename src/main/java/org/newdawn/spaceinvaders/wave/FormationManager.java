@@ -19,13 +19,15 @@ public class FormationManager {
     /** 스테이지별 포메이션 목록을 저장하는 리스트. 바깥 리스트의 인덱스가 스테이지를 의미합니다. */
     private final List<List<Formation>> stages = new ArrayList<>();
     /** 무작위 포메이션 선택에 사용될 난수 생성기. */
-    private final Random random = new Random();
+    private final Random random;
 
     /**
      * FormationManager 생성자.
      * 모든 스테이지에 대한 포메이션을 생성하고 초기화합니다.
+     * @param random 무작위 포메이션 선택에 사용할 난수 생성기
      */
-    public FormationManager() {
+    public FormationManager(Random random) {
+        this.random = random;
         for (int i = 0; i < 5; i++) {
             stages.add(new ArrayList<>());
         }
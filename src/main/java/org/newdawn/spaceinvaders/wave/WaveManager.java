@@ -4,7 +4,6 @@ import org.newdawn.spaceinvaders.core.Game;
 import org.newdawn.spaceinvaders.core.GameManager;
 import org.newdawn.spaceinvaders.entity.BossFactory;
 import org.newdawn.spaceinvaders.entity.Entity;
-import org.newdawn.spaceinvaders.entity.ShipEntity;
 import org.newdawn.spaceinvaders.core.GameState;
 import org.newdawn.spaceinvaders.core.events.GameWonEvent;
 
@@ -27,6 +26,8 @@ public class WaveManager {
 
     /** 현재 웨이브 번호. */
     private int wave = 0;
+    /** 마지막 웨이브를 클리어하여 승리했는지 여부. 승리한 뒤에는 웨이브가 더 진행되지 않습니다. */
+    private boolean gameWon = false;
     /** 현재 웨이브에서 힐링 영역이 스폰되었는지 여부. */
     private boolean healingAreaSpawnedForWave = false;
 
@@ -34,7 +35,7 @@ public class WaveManager {
     private WaveDefinition currentWaveDefinition;
     /** 현재 웨이브 정의에서 실행할 스폰 이벤트의 인덱스. */
     private int currentSpawnIndex;
-    /** 다음 스폰 이벤트가 실행될 시간 (타임스탬프). */
+    /** 다음 스폰 이벤트가 실행될 시간 (게임 시간, 밀리초). */
     private long nextSpawnTime;
 
     // 운석 스폰 관련 필드 - 여기에서 완전히 처리되지 않은 별도의 로직의 일부로 보임.
@@ -56,8 +57,8 @@ public class WaveManager {
      * 타이머를 초기화합니다. 게임 플레이 상태에 진입할 때 호출됩니다.
      */
     public void init() {
-        lastMeteorSpawnTime = System.currentTimeMillis();
-        nextMeteorSpawnInterval = 1000 + (long) (Math.random() * 1000);
+        lastMeteorSpawnTime = gameManager.getClock().getTime();
+        nextMeteorSpawnInterval = 1000 + (long) (gameManager.getRandom().nextDouble() * 1000);
     }
 
     /**
@@ -71,7 +72,7 @@ public class WaveManager {
             return;
         }
 
-        if (System.currentTimeMillis() >= nextSpawnTime) {
+        if (gameManager.getClock().getTime() >= nextSpawnTime) {
             executeCurrentSpawn();
         }
     }
@@ -94,7 +95,7 @@ public class WaveManager {
         // 다음 스폰 이벤트 예약
         if (currentSpawnIndex < currentWaveDefinition.getSpawns().size()) {
             SpawnInfo nextSpawn = currentWaveDefinition.getSpawns().get(currentSpawnIndex);
-            nextSpawnTime = System.currentTimeMillis() + nextSpawn.getDelay();
+            nextSpawnTime = gameManager.getClock().getTime() + nextSpawn.getDelay();
         } else {
             // 이 웨이브의 모든 스폰이 끝남. 업데이트를 멈추기 위해 정의를 null로 설정.
             currentWaveDefinition = null;
@@ -116,7 +117,7 @@ public class WaveManager {
      */
     private void spawnBoss(SpawnInfo spawn) {
         // 보스전 전에 플레이어 함선을 제외한 모든 엔티티 제거.
-        gameManager.getGameContainer().getEntityManager().getEntities().removeIf(entity -> !(entity instanceof ShipEntity));
+        gameManager.getGameContainer().getEntityManager().removeAllExceptShip();
 
         int waveNumberForBoss = spawn.getStage(); // 스테이지 필드를 보스 웨이브 번호로 재사용
         int cycle = (waveNumberForBoss - 1) / 5;
@@ -132,6 +133,7 @@ public class WaveManager {
      */
     public void startFirstWave() {
         wave = 0;
+        gameWon = false;
         startNextWave();
     }
 
@@ -147,6 +149,9 @@ public class WaveManager {
      * 다음 웨이브를 시작합니다. 웨이브 정의를 로드하고 첫 스폰을 예약합니다.
      */
     public void startNextWave() {
+        if (gameWon) {
+            return;
+        }
         wave++;
         healingAreaSpawnedForWave = false;
 
@@ -154,13 +159,14 @@ public class WaveManager {
 
         if (currentWaveDefinition == null) {
             if (wave > 25) { // 승리 조건
-                gameManager.getEventBus().publish(new GameWonEvent());
+                gameWon = true;
+                gameManager.getEventBus().publish(GameWonEvent.INSTANCE);
             }
             return;
         }
 
         gameManager.setMessage("Wave " + wave);
-        gameManager.setMessageEndTime(System.currentTimeMillis() + 1000);
+        gameManager.setMessageEndTime(gameManager.getClock().getTime() + 1000);
 
         // 웨이브에 정의된 음악 설정
         if (currentWaveDefinition.getMusic() != null) {
@@ -176,7 +182,7 @@ public class WaveManager {
         // 스폰 상태 리셋 및 첫 스폰 예약
         this.currentSpawnIndex = 0;
         if (!currentWaveDefinition.getSpawns().isEmpty()) {
-            this.nextSpawnTime = System.currentTimeMillis() + currentWaveDefinition.getSpawns().get(0).getDelay();
+            this.nextSpawnTime = gameManager.getClock().getTime() + currentWaveDefinition.getSpawns().get(0).getDelay();
         }
 
         gameManager.setCurrentState(GameState.Type.PLAYING);
@@ -205,6 +211,14 @@ public class WaveManager {
         return wave;
     }
 
+    /**
+     * 마지막 웨이브를 클리어하여 승리했는지 여부를 반환합니다.
+     * @return 승리했으면 true
+     */
+    public boolean isGameWon() {
+        return gameWon;
+    }
+
     /**
      * 현재 웨이브에서 힐링 영역이 스폰되었는지 여부를 반환합니다.
      * @return 힐링 영역이 스폰되었으면 true
@@ -0,0 +1,47 @@
+package org.newdawn.spaceinvaders.auth;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.newdawn.spaceinvaders.data.PlayerData;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SessionCacheTest {
+    @Test
+    public void testSessionRoundTripAndRejection(@TempDir Path dir) throws IOException {
+        SessionCache cache = new SessionCache(dir, "firestore");
+        PlayerData playerData = new PlayerData();
+        playerData.setCredit(1234);
+        playerData.setWeaponLevel("Laser", 2);
+        cache.save(new AuthenticatedUser("uid-1", "pilot"), playerData, false);
+
+        SessionCache.Session session = cache.load();
+        assertEquals("uid-1", session.getUser().getLocalId());
+        assertEquals("pilot", session.getUser().getUsername());
+        assertEquals(1234, session.getPlayerData().getCredit());
+        assertEquals(2, session.getPlayerData().getWeaponLevel("Laser"));
+        assertTrue(session.getPlayerData().changedPaths().isEmpty());
+        assertFalse(session.isUnsynced());
+
+        // 저장소에 반영되지 않은 변경이 있었다는 표시가 유지됨
+        cache.save(new AuthenticatedUser("uid-1", "pilot"), playerData, true);
+        assertTrue(cache.load().isUnsynced());
+
+        // 다른 저장소의 세션은 사용하지 않음
+        assertNull(new SessionCache(dir, "local:/tmp/store.log").load());
+
+        // 변조된 세션은 사용하지 않음
+        Path sessionFile = dir.resolve("session.dat");
+        byte[] data = Files.readAllBytes(sessionFile);
+        data[data.length - 1] ^= 1;
+        Files.write(sessionFile, data);
+        assertNull(cache.load());
+    }
+}
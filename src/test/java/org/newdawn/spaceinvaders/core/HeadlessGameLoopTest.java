@@ -0,0 +1,72 @@
+package org.newdawn.spaceinvaders.core;
+
+import org.junit.jupiter.api.Test;
+import org.newdawn.spaceinvaders.data.PlayerData;
+import org.newdawn.spaceinvaders.entity.Entity;
+import org.newdawn.spaceinvaders.entity.EntityKind;
+import org.newdawn.spaceinvaders.entity.EntityManager;
+import org.newdawn.spaceinvaders.wave.WaveManager;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HeadlessGameLoopTest {
+    @Test
+    public void testSimulatesWithoutWindow() {
+        GameManager gameManager = new HeadlessGameFactory(new PlayerData(), 42L).createGame();
+        HeadlessGameLoop loop = new HeadlessGameLoop(gameManager);
+
+        long executed = loop.run(2000);
+
+        assertTrue(executed > 0, "Headless loop should run at least one update.");
+        assertEquals(executed * GameLoop.UPDATE_STEP, loop.getSimulatedTime());
+        assertNotNull(gameManager.getShip(), "Player ship should be spawned in headless mode.");
+    }
+
+    @Test
+    public void testSameSeedGivesSameResult() {
+        GameManager first = new HeadlessGameFactory(new PlayerData(), 7L).createGame();
+        GameManager second = new HeadlessGameFactory(new PlayerData(), 7L).createGame();
+        new HeadlessGameLoop(first).run(20000);
+        new HeadlessGameLoop(second).run(20000);
+
+        assertEquals(first.getClock().getTime(), second.getClock().getTime());
+        assertEquals(first.getWaveManager().getWave(), second.getWaveManager().getWave());
+        assertEquals(first.getEntities().size(), second.getEntities().size());
+        assertEquals(first.getShip().getX(), second.getShip().getX());
+    }
+
+    @Test
+    public void testRestartAfterWinStaysPlaying() {
+        GameManager gameManager = new HeadlessGameFactory(new PlayerData(), 11L).createGame();
+        HeadlessGameLoop loop = new HeadlessGameLoop(gameManager);
+        loop.run(1);
+
+        // 마지막 보스 웨이브로 건너뛴 뒤 스폰이 끝나면 적을 모두 없애 웨이브를 클리어함
+        WaveManager waveManager = gameManager.getWaveManager();
+        while (waveManager.getWave() < 25) {
+            waveManager.skipToNextBossWave();
+        }
+        while (!waveManager.hasFinishedSpawning() && loop.isPlaying()) {
+            loop.run(1);
+        }
+        EntityManager entityManager = gameManager.getEntityManager();
+        for (Entity enemy : new ArrayList<>(entityManager.getEntities(EntityKind.ENEMY))) {
+            entityManager.removeEntity(enemy);
+        }
+        entityManager.setAlienCount(0);
+        loop.run(10);
+
+        assertEquals(GameState.Type.GAME_WON, loop.getEndState());
+        assertEquals(26, waveManager.getWave(), "Wave should not advance after the game is won.");
+
+        // 새 게임의 첫 틱에 이전 게임의 승리 이벤트가 전달되지 않아야 함
+        HeadlessGameLoop restarted = new HeadlessGameLoop(gameManager);
+        restarted.run(1);
+        assertEquals(GameState.Type.PLAYING, gameManager.getCurrentStateType());
+        assertTrue(restarted.isPlaying());
+    }
+}
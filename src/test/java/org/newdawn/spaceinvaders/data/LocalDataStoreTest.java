@@ -0,0 +1,65 @@
+package org.newdawn.spaceinvaders.data;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LocalDataStoreTest {
+    @Test
+    public void testDataSurvivesReopenAndCompaction(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("store.log");
+        String uid;
+        try (LocalDataStore store = LocalDataStore.open(file)) {
+            uid = store.create("pilot", "hash");
+            PlayerData playerData = new PlayerData();
+            playerData.setEquippedWeapon("Shotgun");
+            playerData.setUpgradeLevel("speed", 2);
+            // 덮어쓰기를 반복해 로그 압축이 일어나도록 함
+            for (int score = 1; score <= LocalDataStore.MIN_COMPACT_RECORDS * 2; score++) {
+                playerData.setHighScore(score);
+                store.save(uid, playerData);
+            }
+        }
+        assertTrue(Files.readAllLines(file).size() < LocalDataStore.MIN_COMPACT_RECORDS, "Log should have been compacted.");
+
+        try (LocalDataStore store = LocalDataStore.open(file)) {
+            assertEquals(uid, store.findByUsername("pilot").getUid());
+            assertNull(store.findByUsername("nobody"));
+            PlayerData loaded = store.load(uid);
+            assertEquals(LocalDataStore.MIN_COMPACT_RECORDS * 2, loaded.getHighScore());
+            assertEquals("Shotgun", loaded.getEquippedWeapon());
+            assertEquals(2, loaded.getUpgradeLevel("speed"));
+            assertEquals("pilot", store.findTopScores(10).get(0).getName());
+        }
+    }
+
+    @Test
+    public void testTornLastRecordIsTruncated(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("store.log");
+        String uid;
+        try (LocalDataStore store = LocalDataStore.open(file)) {
+            uid = store.create("pilot", "hash");
+            store.save(uid, new PlayerData());
+        }
+        // 쓰기 도중 종료되어 줄바꿈 없이 잘린 레코드를 흉내 냄
+        Files.writeString(file, "{\"type\":\"player\",\"id\":\"x", StandardOpenOption.APPEND);
+
+        try (LocalDataStore store = LocalDataStore.open(file)) {
+            PlayerData playerData = store.load(uid);
+            playerData.setHighScore(42);
+            store.save(uid, playerData);
+        }
+
+        try (LocalDataStore store = LocalDataStore.open(file)) {
+            assertEquals(42, store.load(uid).getHighScore());
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package org.newdawn.spaceinvaders.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PlayerDataTest {
+    @Test
+    public void testChangedPathsAreTrackedAndMerged() {
+        PlayerData playerData = new PlayerData();
+        playerData.setCredit(100);
+        playerData.setWeaponLevel("Laser", 1);
+        PlayerData first = playerData.takeChanges();
+        assertEquals(Set.of("credit", "weaponLevels.Laser"), first.changedPaths());
+        assertTrue(playerData.changedPaths().isEmpty());
+
+        // 맵 전체가 바뀌면 하위 키 경로는 필드 경로에 포함됨
+        playerData.setPetCount("HEAL", 2);
+        playerData.setWeaponLevels(new HashMap<>());
+        PlayerData second = playerData.takeChanges();
+        second.mergeChanges(first);
+        assertEquals(Set.of("petInventory.HEAL", "weaponLevels", "credit"), second.changedPaths());
+    }
+}
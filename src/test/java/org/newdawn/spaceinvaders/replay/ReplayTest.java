@@ -0,0 +1,54 @@
+package org.newdawn.spaceinvaders.replay;
+
+import org.junit.jupiter.api.Test;
+import org.newdawn.spaceinvaders.core.GameManager;
+import org.newdawn.spaceinvaders.core.HeadlessGameFactory;
+import org.newdawn.spaceinvaders.core.HeadlessGameLoop;
+import org.newdawn.spaceinvaders.core.InputHandler;
+import org.newdawn.spaceinvaders.data.PlayerData;
+
+import java.awt.event.KeyEvent;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ReplayTest {
+    @Test
+    public void testRecordedPlayIsReproduced() throws IOException {
+        GameManager gameManager = new HeadlessGameFactory(new PlayerData(), 11L).createGame();
+        InputRecorder recorder = new InputRecorder();
+        gameManager.setInputRecorder(recorder);
+        HeadlessGameLoop loop = new HeadlessGameLoop(gameManager);
+        InputHandler input = gameManager.getInputHandler();
+
+        // 좌우로 움직이며 계속 발사하는 입력을 틱 단위로 넣으며 플레이
+        input.queueKeyEvent(KeyEvent.VK_SPACE, true);
+        for (int tick = 0; tick < 6000 && (tick == 0 || loop.isPlaying()); tick++) {
+            if (tick % 150 == 1) {
+                boolean left = (tick / 150) % 2 == 0;
+                input.queueKeyEvent(left ? KeyEvent.VK_RIGHT : KeyEvent.VK_LEFT, false);
+                input.queueKeyEvent(left ? KeyEvent.VK_LEFT : KeyEvent.VK_RIGHT, true);
+            }
+            loop.run(1);
+        }
+        int score = gameManager.getPlayerManager().getScore();
+        int wave = gameManager.getWaveManager().getWave();
+        Replay recorded = recorder.isRecording() ? recorder.finish(score, wave) : recorder.getLastReplay();
+        assertTrue(score > 0, "Scripted input should score some points.");
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        recorded.write(bytes);
+        Replay replay = Replay.read(new ByteArrayInputStream(bytes.toByteArray()));
+        assertEquals(recorded.getTickCount(), replay.getTickCount());
+        assertEquals(recorded.getEventCount(), replay.getEventCount());
+
+        ReplayDriver driver = new ReplayDriver(replay);
+        assertTrue(driver.run(), "Replay should reach the recorded score and wave.");
+        assertEquals(score, driver.getScore());
+        assertEquals(wave, driver.getWave());
+        assertEquals(loop.getTicks(), driver.getTicks());
+    }
+}